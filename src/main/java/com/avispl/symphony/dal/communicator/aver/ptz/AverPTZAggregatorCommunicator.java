@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.api.dal.monitor.aggregator.Aggregator;
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.DeviceInfo;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.InquiryBatch;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.InquiryPlan;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.FlowControlGate;
+
+/**
+ * Aver PTZ Camera Aggregator Adapter
+ * Serves every camera of a VISCA daisy chain behind one IP endpoint from a single UDP channel.
+ * The inquiries of all cameras are interleaved in one pipelined batch per cycle, sequence numbers are shared so their replies cannot be mixed up.
+ * Each camera is published as an aggregated device with the properties of {@link AverPTZCommunicator}, the aggregator itself publishes
+ * one statistic group per camera.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class AverPTZAggregatorCommunicator extends AverPTZCommunicator implements Aggregator {
+	private static final String CAMERA_GROUP = "Camera";
+	private static final String ONLINE = "Online";
+
+	private String cameraIDs = "1";
+	private final Map<String, CameraMember> members = new LinkedHashMap<>();
+	private final Map<String, AggregatedDevice> aggregatedDevices = new LinkedHashMap<>();
+	private DeviceInfo sharedDeviceInfo;
+	private final ReentrantLock refreshLock = new ReentrantLock();
+
+	/**
+	 * Camera of the daisy chain, its packets are sent through the channel of the aggregator
+	 */
+	static class CameraMember extends AverPTZCommunicator {
+		private final AverPTZAggregatorCommunicator aggregator;
+
+		CameraMember(AverPTZAggregatorCommunicator aggregator) {
+			this.aggregator = aggregator;
+		}
+
+		@Override
+		protected byte[] send(byte[] data) throws Exception {
+			return aggregator.send(data);
+		}
+
+		@Override
+		protected List<byte[]> sendPipelined(List<byte[]> packets, int window) throws Exception {
+			return aggregator.sendPipelined(packets, window);
+		}
+
+		@Override
+		protected int nextSequenceNumber() {
+			return aggregator.nextSequenceNumber();
+		}
+
+		@Override
+		protected FlowControlGate getFlowControlGate() {
+			return aggregator.getFlowControlGate();
+		}
+
+		@Override
+		protected DeviceInfo retrieveDeviceInfo() throws Exception {
+			return aggregator.getSharedDeviceInfo();
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #cameraIDs}}
+	 *
+	 * @return value of {@link #cameraIDs}
+	 */
+	public String getCameraIDs() {
+		return cameraIDs;
+	}
+
+	/**
+	 * Sets {@code cameraIDs}
+	 *
+	 * @param cameraIDs the {@code java.lang.String} field, comma separated camera IDs from 1 to 7
+	 */
+	public void setCameraIDs(String cameraIDs) {
+		this.cameraIDs = cameraIDs;
+	}
+
+	/**
+	 * {@inheritdoc}
+	 * This method is recalled by Symphony to get the statistic group of every camera
+	 */
+	@Override
+	public List<Statistics> getMultipleStatistics() throws Exception {
+		refreshCameras();
+
+		final ExtendedStatistics extStats = new ExtendedStatistics();
+		final Map<String, String> stats = new HashMap<>();
+		synchronized (aggregatedDevices) {
+			for (AggregatedDevice device : aggregatedDevices.values()) {
+				String groupName = CAMERA_GROUP + device.getDeviceId() + AverPTZConstants.HASH;
+				stats.put(groupName + ONLINE, String.valueOf(device.getDeviceOnline()));
+				stats.put(groupName + Command.POWER.getName(), getPowerStatus(device));
+			}
+		}
+		extStats.setStatistics(stats);
+
+		return Collections.singletonList(extStats);
+	}
+
+	/**
+	 * {@inheritdoc}
+	 * This method is recalled by Symphony to get the cameras of the daisy chain
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics() throws Exception {
+		synchronized (aggregatedDevices) {
+			if (!aggregatedDevices.isEmpty()) {
+				return new ArrayList<>(aggregatedDevices.values());
+			}
+		}
+		refreshCameras();
+		synchronized (aggregatedDevices) {
+			return new ArrayList<>(aggregatedDevices.values());
+		}
+	}
+
+	/**
+	 * {@inheritdoc}
+	 * This method is recalled by Symphony to get some of the cameras of the daisy chain
+	 */
+	@Override
+	public List<AggregatedDevice> retrieveMultipleStatistics(List<String> deviceIds) throws Exception {
+		List<AggregatedDevice> devices = new ArrayList<>();
+		for (AggregatedDevice device : retrieveMultipleStatistics()) {
+			if (deviceIds.contains(device.getDeviceId())) {
+				devices.add(device);
+			}
+		}
+		return devices;
+	}
+
+	/**
+	 * {@inheritdoc}
+	 * The control is sent to the camera of the device ID of the property
+	 */
+	@Override
+	public void controlProperty(ControllableProperty controllableProperty) throws IOException {
+		CameraMember member;
+		synchronized (members) {
+			member = members.get(controllableProperty.getDeviceId());
+		}
+		if (member == null) {
+			throw new IllegalArgumentException("Unknown camera ID: " + controllableProperty.getDeviceId());
+		}
+		member.controlProperty(controllableProperty);
+	}
+
+	/**
+	 * This method is used to poll every camera of the daisy chain
+	 * The root inquiries of all cameras are sent in one pipelined batch, then the inquiries depending on their replies in a second one.
+	 * Each camera then builds its properties from these replies, a camera that fails is published offline without stopping the others.
+	 */
+	private void refreshCameras() throws Exception {
+		refreshLock.lock();
+		try {
+			refreshCamerasLocked();
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	private void refreshCamerasLocked() {
+		List<CameraMember> cameras = getMembers();
+
+		InquiryBatch rootBatch = new InquiryBatch();
+		for (CameraMember member : cameras) {
+			member.addDueInquiries(rootBatch, InquiryPlan.getRootInquiries());
+		}
+		sendBatch(rootBatch);
+
+		InquiryBatch dependentBatch = new InquiryBatch();
+		for (CameraMember member : cameras) {
+			member.addDueInquiries(dependentBatch, member.planDependentInquiries());
+		}
+		sendBatch(dependentBatch);
+
+		Map<String, AggregatedDevice> devices = new LinkedHashMap<>();
+		for (CameraMember member : cameras) {
+			devices.put(member.getCameraID(), pollCamera(member));
+		}
+		synchronized (aggregatedDevices) {
+			aggregatedDevices.clear();
+			aggregatedDevices.putAll(devices);
+		}
+	}
+
+	/**
+	 * This method is used to send a batch of inquiries of several cameras through the channel of the aggregator
+	 *
+	 * @param batch is the batch to be sent
+	 */
+	private void sendBatch(InquiryBatch batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		try {
+			awaitFlowControl();
+			batch.complete(sendPipelined(batch.getPackets()));
+		} catch (Exception e) {
+			this.logger.error("error during pipelined inquiries send to cameras " + cameraIDs, e);
+		}
+	}
+
+	/**
+	 * This method is used to build the aggregated device of a camera from its statistics
+	 *
+	 * @param member is the camera to be polled
+	 * @return AggregatedDevice This returns the camera as an aggregated device
+	 */
+	private AggregatedDevice pollCamera(CameraMember member) {
+		AggregatedDevice device = new AggregatedDevice();
+		device.setDeviceId(member.getCameraID());
+		device.setDeviceName(CAMERA_GROUP + " " + member.getCameraID());
+		device.setTimestamp(System.currentTimeMillis());
+		try {
+			ExtendedStatistics extStats = (ExtendedStatistics) member.getMultipleStatistics().get(0);
+			DeviceInfo deviceInfo = getSharedDeviceInfo();
+			device.setDeviceMake(deviceInfo.getDeviceMfg());
+			device.setDeviceModel(deviceInfo.getDeviceModel());
+			device.setProperties(extStats.getStatistics());
+			device.setControllableProperties(extStats.getControllableProperties());
+			device.setDeviceOnline(true);
+		} catch (Exception e) {
+			this.logger.error("error during poll of camera " + member.getCameraID(), e);
+			device.setProperties(new HashMap<>());
+			device.setControllableProperties(new ArrayList<>());
+			device.setDeviceOnline(false);
+		}
+		return device;
+	}
+
+	/**
+	 * This method is used to get the power status of a camera from its power switch
+	 *
+	 * @param device is the aggregated device of the camera
+	 * @return String This returns On, Off or None
+	 */
+	private static String getPowerStatus(AggregatedDevice device) {
+		if (device.getControllableProperties() != null) {
+			for (AdvancedControllableProperty property : device.getControllableProperties()) {
+				if (Objects.equals(property.getName(), Command.POWER.getName())) {
+					return Objects.equals(String.valueOf(property.getValue()), AverPTZConstants.SWITCH_STATUS_ON) ? PowerStatus.ON.getName() : PowerStatus.OFF.getName();
+				}
+			}
+		}
+		return AverPTZConstants.NONE_VALUE;
+	}
+
+	/**
+	 * This method is used to get the cameras of the daisy chain, they are created on first use with the adapter properties of the aggregator
+	 *
+	 * @return List<CameraMember> This returns the cameras in the order of {@link #cameraIDs}
+	 * @throws IllegalArgumentException if a camera ID is not a number from 1 to 7
+	 */
+	private List<CameraMember> getMembers() {
+		synchronized (members) {
+			if (members.isEmpty()) {
+				for (String cameraID : cameraIDs.split(",")) {
+					String id = cameraID.trim();
+					int idInt;
+					try {
+						idInt = Integer.parseInt(id);
+					} catch (NumberFormatException e) {
+						throw new IllegalArgumentException("Camera ID with value " + id + " is wrong format of number. ");
+					}
+					if (idInt < 1 || idInt > 7) {
+						throw new IllegalArgumentException("Camera ID with value " + id + " is out of range. Camera ID must between 1 and 7. ");
+					}
+					members.putIfAbsent(id, createMember(id));
+				}
+			}
+			return new ArrayList<>(members.values());
+		}
+	}
+
+	/**
+	 * This method is used to create a camera with the adapter properties of the aggregator
+	 *
+	 * @param cameraID is the VISCA address of the camera
+	 * @return CameraMember This returns the camera
+	 */
+	CameraMember createMember(String cameraID) {
+		CameraMember member = new CameraMember(this);
+		member.setHost(this.getHost());
+		member.setPort(this.getPort());
+		member.setPipelineWindow(this.getPipelineWindow());
+		member.setCameraID(cameraID);
+		member.setPanSpeed(this.getPanSpeed());
+		member.setTiltSpeed(this.getTiltSpeed());
+		member.setZoomSpeed(this.getZoomSpeed());
+		member.setFocusSpeed(this.getFocusSpeed());
+		member.setFastPollingInterval(this.getFastPollingInterval());
+		member.setMediumPollingInterval(this.getMediumPollingInterval());
+		member.setSlowPollingInterval(this.getSlowPollingInterval());
+		member.setIncrementalStatistics(this.getIncrementalStatistics());
+		member.setJogMode(this.getJogMode());
+		member.setJogDuration(this.getJogDuration());
+		member.setSliderDebounceWindow(this.getSliderDebounceWindow());
+		member.validateAdapterProperties();
+		return member;
+	}
+
+	/**
+	 * This method is used to get the device information of the endpoint, it is read once from the Rest API for every camera
+	 *
+	 * @return DeviceInfo This returns the device information
+	 */
+	DeviceInfo getSharedDeviceInfo() throws Exception {
+		refreshLock.lock();
+		try {
+			if (sharedDeviceInfo == null) {
+				sharedDeviceInfo = retrieveDeviceInfo();
+			}
+			return sharedDeviceInfo;
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+
+	@Override
+	protected void internalDestroy() {
+		synchronized (members) {
+			for (CameraMember member : members.values()) {
+				member.internalDestroy();
+			}
+			members.clear();
+		}
+		synchronized (aggregatedDevices) {
+			aggregatedDevices.clear();
+		}
+		super.internalDestroy();
+	}
+}
@@ -3,11 +3,9 @@
  */
 package com.avispl.symphony.dal.communicator.aver.ptz;
 
-import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
-import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertIntToByteArray;
 import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertOneByteNumberToTwoBytesArray;
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertTwoBytesNumberToFourBytesArray;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.DatagramPacket;
 import java.util.AbstractMap.SimpleEntry;
@@ -15,13 +13,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 import org.springframework.util.CollectionUtils;
 
@@ -33,13 +36,24 @@ import com.avispl.symphony.api.dal.dto.monitor.Statistics;
 import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.PacketTemplateCache;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.ReplyDecoder;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.ReplyMatcher;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.ReplyMatcher.ReplyType;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.CommandScheduler;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.CommandScheduler.Lane;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.ControlDispatcher;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.ControlDispatcher.ControlHandler;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.ControlSkeletons;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.SliderDebouncer;
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.CameraState;
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.PanTiltPosition;
 import com.avispl.symphony.dal.communicator.aver.ptz.dto.DeviceInfo;
-import com.avispl.symphony.dal.communicator.aver.ptz.enums.Index;
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.StatisticsSnapshot;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.JogMode;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyStatus;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.StatisticsProperty;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
-import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
-import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.Prefix;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
@@ -48,6 +62,7 @@ import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.Backlig
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusControl;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusMode;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PanTiltDrive;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PositionControl;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PresetControl;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.RGainControl;
@@ -55,6 +70,15 @@ import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.SlowPan
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.SlowShutterStatus;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.ZoomControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.CameraExecutor;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.IncrementalStatistics;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.InquiryBatch;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.InquiryPlan;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.PollingScheduler;
+import com.avispl.symphony.dal.communicator.aver.ptz.polling.PollingTier;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.FlowControlGate;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.RttEstimator;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.TransportRegistry;
 
 /**
  * Aver PTZ Camera Adapter
@@ -90,17 +114,50 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	private String tiltSpeed = "1";
 	private String zoomSpeed = "1";
 	private String focusSpeed = "1";
+	private String fastPollingInterval = "0";
+	private String mediumPollingInterval = "0";
+	private String slowPollingInterval = "0";
+	private String backgroundPollingInterval = "0";
+	private String incrementalStatistics = "false";
+	private String virtualThreads = "false";
+	private String jogMode = JogMode.BLOCKING.getName();
+	private String jogDuration = "200";
+	private String sliderDebounceWindow = "0";
 	private int cameraIDInt = 1;
 	private int panSpeedInt = 1;
 	private int tiltSpeedInt = 1;
 	private int zoomSpeedInt = 1;
 	private int focusSpeedInt = 1;
+	private int fastPollingIntervalInt = 0;
+	private int mediumPollingIntervalInt = 0;
+	private int slowPollingIntervalInt = 0;
+	private int backgroundPollingIntervalInt = 0;
+	private int jogDurationInt = 200;
+	private int sliderDebounceWindowInt = 0;
 	private int sequenceNumber = 0;
 	private int currentPreset = -1;
 	private AverPTZRestCommunicator restCommunicator;
 	private DeviceInfo deviceInfo;
-	private long nextMonitoringCycleTimestamp = System.currentTimeMillis();
-	private String powerStatusMessage = null;
+	private volatile long nextMonitoringCycleTimestamp = System.currentTimeMillis();
+	private volatile String powerStatusMessage = null;
+	private final Map<Command, Entry<Integer, byte[]>> pipelinedReplies = new EnumMap<>(Command.class);
+	private final CameraState cameraState = new CameraState();
+	private final PollingScheduler pollingScheduler = new PollingScheduler(cameraState);
+	private final ReentrantLock cycleLock = new ReentrantLock();
+	private final CommandScheduler commandScheduler = new CommandScheduler();
+	private final SliderDebouncer sliderDebouncer = new SliderDebouncer();
+	// Replaced by the gate of the endpoint on init, shared with the other adapters of the camera
+	private volatile FlowControlGate flowControlGate = new FlowControlGate(AverPTZConstants.FLOW_CONTROL_BASE_BACKOFF, AverPTZConstants.FLOW_CONTROL_MAX_BACKOFF);
+	private final ControlSkeletons controlSkeletons = new ControlSkeletons();
+	private final IncrementalStatistics incrementalCycle = new IncrementalStatistics();
+	private Date cycleTimestamp = new Date();
+	private ScheduledExecutorService backgroundPoller;
+	private CameraExecutor.PeriodicTask sharedPolling;
+	private volatile StatisticsSnapshot statisticsSnapshot;
+	private ScheduledExecutorService jogTimer;
+	private final Map<Command, ScheduledFuture<?>> pendingJogStops = new EnumMap<>(Command.class);
+
+	private static final ControlDispatcher<AverPTZCommunicator> CONTROL_DISPATCHER = createControlDispatcher();
 
 	/**
 	 * Constructor set command error and success list to be used as well the default camera ID
@@ -213,6 +270,168 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		this.focusSpeed = focusSpeed;
 	}
 
+	/**
+	 * Retrieves {@code {@link #fastPollingInterval}}
+	 *
+	 * @return value of {@link #fastPollingInterval}
+	 */
+	public String getFastPollingInterval() {
+		return fastPollingInterval;
+	}
+
+	/**
+	 * Sets {@code fastPollingInterval}
+	 *
+	 * @param fastPollingInterval the {@code java.lang.String} field
+	 */
+	public void setFastPollingInterval(String fastPollingInterval) {
+		this.fastPollingInterval = fastPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@code {@link #mediumPollingInterval}}
+	 *
+	 * @return value of {@link #mediumPollingInterval}
+	 */
+	public String getMediumPollingInterval() {
+		return mediumPollingInterval;
+	}
+
+	/**
+	 * Sets {@code mediumPollingInterval}
+	 *
+	 * @param mediumPollingInterval the {@code java.lang.String} field
+	 */
+	public void setMediumPollingInterval(String mediumPollingInterval) {
+		this.mediumPollingInterval = mediumPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@code {@link #slowPollingInterval}}
+	 *
+	 * @return value of {@link #slowPollingInterval}
+	 */
+	public String getSlowPollingInterval() {
+		return slowPollingInterval;
+	}
+
+	/**
+	 * Sets {@code slowPollingInterval}
+	 *
+	 * @param slowPollingInterval the {@code java.lang.String} field
+	 */
+	public void setSlowPollingInterval(String slowPollingInterval) {
+		this.slowPollingInterval = slowPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@code {@link #backgroundPollingInterval}}
+	 *
+	 * @return value of {@link #backgroundPollingInterval}
+	 */
+	public String getBackgroundPollingInterval() {
+		return backgroundPollingInterval;
+	}
+
+	/**
+	 * Sets {@code backgroundPollingInterval}
+	 *
+	 * @param backgroundPollingInterval the {@code java.lang.String} field
+	 */
+	public void setBackgroundPollingInterval(String backgroundPollingInterval) {
+		this.backgroundPollingInterval = backgroundPollingInterval;
+	}
+
+	/**
+	 * Retrieves {@code {@link #incrementalStatistics}}
+	 *
+	 * @return value of {@link #incrementalStatistics}
+	 */
+	public String getIncrementalStatistics() {
+		return incrementalStatistics;
+	}
+
+	/**
+	 * Sets {@code incrementalStatistics}
+	 *
+	 * @param incrementalStatistics the {@code java.lang.String} field
+	 */
+	public void setIncrementalStatistics(String incrementalStatistics) {
+		this.incrementalStatistics = incrementalStatistics;
+	}
+
+	/**
+	 * Retrieves {@code {@link #virtualThreads}}
+	 *
+	 * @return value of {@link #virtualThreads}
+	 */
+	public String getVirtualThreads() {
+		return virtualThreads;
+	}
+
+	/**
+	 * Sets {@code virtualThreads}
+	 *
+	 * @param virtualThreads the {@code java.lang.String} field
+	 */
+	public void setVirtualThreads(String virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
+	/**
+	 * Retrieves {@code {@link #jogMode}}
+	 *
+	 * @return value of {@link #jogMode}
+	 */
+	public String getJogMode() {
+		return jogMode;
+	}
+
+	/**
+	 * Sets {@code jogMode}
+	 *
+	 * @param jogMode the {@code java.lang.String} field
+	 */
+	public void setJogMode(String jogMode) {
+		this.jogMode = jogMode;
+	}
+
+	/**
+	 * Retrieves {@code {@link #jogDuration}}
+	 *
+	 * @return value of {@link #jogDuration}
+	 */
+	public String getJogDuration() {
+		return jogDuration;
+	}
+
+	/**
+	 * Sets {@code jogDuration}
+	 *
+	 * @param jogDuration the {@code java.lang.String} field
+	 */
+	public void setJogDuration(String jogDuration) {
+		this.jogDuration = jogDuration;
+	}
+
+	/**
+	 * Retrieves {@code {@link #sliderDebounceWindow}}
+	 *
+	 * @return value of {@link #sliderDebounceWindow}
+	 */
+	public String getSliderDebounceWindow() {
+		return sliderDebounceWindow;
+	}
+
+	/**
+	 * Sets {@code sliderDebounceWindow}
+	 *
+	 * @param sliderDebounceWindow the {@code java.lang.String} field
+	 */
+	public void setSliderDebounceWindow(String sliderDebounceWindow) {
+		this.sliderDebounceWindow = sliderDebounceWindow;
+	}
+
 	/**
 	 * This method used to init AverRestCommunicator
 	 * Need to split into method for testing
@@ -225,6 +444,51 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		restCommunicator.init();
 	}
 
+	/**
+	 * This method is used to parse the adapter properties and check their range
+	 *
+	 * @throws IllegalArgumentException if an adapter property is not a number or out of range
+	 */
+	void validateAdapterProperties() {
+		final StringBuilder errorMessages = new StringBuilder();
+		tryParseIntAdapterProperties(errorMessages);
+		checkOutOfRange(errorMessages);
+
+		if (errorMessages.toString().length() > 0) {
+			throw new IllegalArgumentException(errorMessages.toString());
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #commandScheduler}}
+	 *
+	 * @return value of {@link #commandScheduler}
+	 */
+	CommandScheduler getCommandScheduler() {
+		return commandScheduler;
+	}
+
+	/**
+	 * Retrieves {@code {@link #flowControlGate}}
+	 *
+	 * @return value of {@link #flowControlGate}
+	 */
+	protected FlowControlGate getFlowControlGate() {
+		return flowControlGate;
+	}
+
+	/**
+	 * This method is used to get the device information of the camera from the Rest API
+	 *
+	 * @return DeviceInfo This returns the device information
+	 */
+	protected DeviceInfo retrieveDeviceInfo() throws Exception {
+		if (restCommunicator == null) {
+			initAverRestCommunicator();
+		}
+		return this.restCommunicator.getDeviceInfo();
+	}
+
 	/**
 	 * {@inheritdoc}
 	 * This method is recalled by Symphony to control specific property
@@ -245,126 +509,28 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 			this.logger.debug("controlProperty value " + value);
 		}
 
+		if (!CONTROL_DISPATCHER.dispatch(this, property, value)) {
+			throw unexpectedControlProperty(property);
+		}
+	}
+
+	/**
+	 * This method is used to describe a property without control handler, only reached when the control fails
+	 *
+	 * @param property is the name of the property
+	 * @return IllegalStateException This returns the exception naming the unexpected command of the property
+	 */
+	private IllegalStateException unexpectedControlProperty(String property) {
 		String[] splitProperty = property.split(String.valueOf(AverPTZConstants.HASH));
 		Command command = Command.getByName(splitProperty[0]);
 
-		switch (command) {
-			case POWER: {
-				if (value.equals(AverPTZConstants.SWITCH_STATUS_ON)) {
-					powerStatusMessage = AverPTZConstants.POWER_ON_STATUS;
-					performControl(PayloadCategory.CAMERA, Command.POWER, PowerStatus.ON.getCode());
-				} else if (value.equals(AverPTZConstants.SWITCH_STATUS_OFF)) {
-					powerStatusMessage = AverPTZConstants.POWER_OFF_STATUS;
-					performControl(PayloadCategory.CAMERA, Command.POWER, PowerStatus.OFF.getCode());
-				}
-				// set next monitoring cycle timestamp plus 45s due to the device will not responsive in this time
-				nextMonitoringCycleTimestamp = System.currentTimeMillis() + AverPTZConstants.DELAY_PERIOD;
-				break;
-			}
-			case ZOOM: {
-				if (Objects.equals(splitProperty[1], ZoomControl.TELE.getName())) {
-					performControl(PayloadCategory.CAMERA, Command.ZOOM, (byte) (ZoomControl.TELE.getCode() + zoomSpeedInt));
-				} else if (Objects.equals(splitProperty[1], ZoomControl.WIDE.getName())) {
-					performControl(PayloadCategory.CAMERA, Command.ZOOM, (byte) (ZoomControl.WIDE.getCode() + zoomSpeedInt));
-				}
-				performControl(PayloadCategory.CAMERA, Command.ZOOM, ZoomControl.STOP.getCode());
-				break;
-			}
-			case FOCUS: {
-				// (1)Name -> Split string by ")" and get the second value of slit string
-				String focusControlName = splitProperty[1].split(AverPTZConstants.CLOSE_PARENTHESIS, 2)[1];
-
-				if (Objects.equals(focusControlName, Command.FOCUS_MODE.getName())) {
-					if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_ON)) {
-						performControl(PayloadCategory.CAMERA, Command.FOCUS_MODE, FocusMode.MANUAL.getCode());
-					} else if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_OFF)) {
-						performControl(PayloadCategory.CAMERA, Command.FOCUS_MODE, FocusMode.AUTO.getCode());
-					}
-					break;
-				}
-
-				if (Objects.equals(focusControlName, Command.FOCUS_ONE_PUSH.getName())) {
-					performControl(PayloadCategory.CAMERA, Command.FOCUS_ONE_PUSH);
-					break;
-				}
-
-				if (Objects.equals(focusControlName, FocusControl.FAR.getName())) {
-					performControl(PayloadCategory.CAMERA, Command.FOCUS, (byte) (FocusControl.FAR.getCode() + focusSpeedInt));
-				} else if (Objects.equals(focusControlName, FocusControl.NEAR.getName())) {
-					performControl(PayloadCategory.CAMERA, Command.FOCUS, (byte) (FocusControl.NEAR.getCode() + focusSpeedInt));
-				}
-				performControl(PayloadCategory.CAMERA, Command.FOCUS, FocusControl.STOP.getCode());
-				break;
-			}
-			case EXPOSURE: {
-				Command exposureCommand = Command.getByName(splitProperty[1]);
-				exposureControl(value, exposureCommand);
-				break;
-			}
-			case IMAGE_PROCESS: {
-				imageProcessControl(value, splitProperty);
-				break;
-			}
-			case PAN_TILT_DRIVE: {
-				// (1)Name -> Split string by ")" and get the second value of slit string
-				String panTiltDriveControlName = splitProperty[1].split(AverPTZConstants.CLOSE_PARENTHESIS, 2)[1];
-
-				if (Objects.equals(panTiltDriveControlName, Command.PAN_TILT_HOME.getName())) {
-					performControl(PayloadCategory.PAN_TILTER, Command.PAN_TILT_HOME);
-					break;
-				} else if (Objects.equals(panTiltDriveControlName, Command.SLOW_PAN_TILT.getName())) {
-					if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_ON)) {
-						performControl(PayloadCategory.PAN_TILTER, Command.SLOW_PAN_TILT, SlowPanTiltStatus.ON.getCode());
-					} else if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_OFF)) {
-						performControl(PayloadCategory.PAN_TILTER, Command.SLOW_PAN_TILT, SlowPanTiltStatus.OFF.getCode());
-					}
-					break;
-				}
-
-				PanTiltDrive pantTiltDrive = PanTiltDrive.getByName(panTiltDriveControlName);
-				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-				outputStream.write(new byte[] { (byte) panSpeedInt, (byte) tiltSpeedInt });
-				outputStream.write(pantTiltDrive.getCode());
-				performControl(PayloadCategory.PAN_TILTER, Command.PAN_TILT_DRIVE, outputStream.toByteArray());
-
-				outputStream = new ByteArrayOutputStream();
-				outputStream.write(new byte[] { (byte) panSpeedInt, (byte) tiltSpeedInt });
-				outputStream.write(PanTiltDrive.STOP.getCode());
-				performControl(PayloadCategory.PAN_TILTER, Command.PAN_TILT_DRIVE, outputStream.toByteArray());
-				break;
-			}
-			case PRESET: {
-				// (1)Name -> Split string by ")" and get the second value of slit string
-				String presetControlName = splitProperty[1].split(AverPTZConstants.CLOSE_PARENTHESIS, 2)[1];
-
-				if (Objects.equals(presetControlName, PresetControl.PRESET_VALUE.getName())) {
-					try {
-						currentPreset = Integer.parseInt(value);
-					} catch (NumberFormatException e) {
-						// value = "Please select a preset to control"
-						currentPreset = -1;
-					}
-					break;
-				}
-
-				if (currentPreset == -1) {
-					throw new IllegalArgumentException(AverPTZConstants.DEFAULT_PRESET);
-				}
-
-				if (Objects.equals(presetControlName, PresetControl.SET.getName())) {
-					performControl(PayloadCategory.CAMERA, Command.PRESET, PresetControl.SET.getCode(), (byte) currentPreset);
-				} else if (Objects.equals(presetControlName, PresetControl.RECALL.getName())) {
-					performControl(PayloadCategory.CAMERA, Command.PRESET, PresetControl.RECALL.getCode(), (byte) currentPreset);
-				}
-
-				// Reset to default preset value each time set/recall a preset
-				currentPreset = -1;
-				break;
-			}
-			default: {
-				throw new IllegalStateException("Unexpected value: " + command);
-			}
+		if (command == Command.IMAGE_PROCESS) {
+			return new IllegalStateException("Unexpected value: " + Arrays.toString(splitProperty));
+		}
+		if (command == Command.EXPOSURE && splitProperty.length > 1) {
+			return new IllegalStateException("Unexpected value: " + Command.getByName(splitProperty[1]));
 		}
+		return new IllegalStateException("Unexpected value: " + (command != null ? command : property));
 	}
 
 	/**
@@ -392,23 +558,9 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		final ExtendedStatistics extStats = new ExtendedStatistics();
-		final Map<String, String> stats = new HashMap<>();
-		final List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
-		final StringBuilder errorMessages = new StringBuilder();
-
-		if (sequenceNumber == Integer.MAX_VALUE - Command.values().length) {
-			// If sequence number reach the max value of integer before all commands in this adapter will be executed-> Reset to default value
-			sequenceNumber = 0;
-		}
-
-		if (restCommunicator == null) {
-			initAverRestCommunicator();
-		}
-
 		if (deviceInfo == null) {
 			try {
-				deviceInfo = this.restCommunicator.getDeviceInfo();
+				deviceInfo = retrieveDeviceInfo();
 			} catch (Exception e) {
 				if (this.logger.isErrorEnabled()) {
 					this.logger.error("error: Cannot get data from Rest communicator: " + this.host + " port: " + this.port);
@@ -417,34 +569,146 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 			}
 		}
 
-		tryParseIntAdapterProperties(errorMessages);
-		checkOutOfRange(errorMessages);
+		validateAdapterProperties();
 
-		if (errorMessages.toString().length() > 0) {
-			throw new IllegalArgumentException(errorMessages.toString());
+		if (backgroundPollingIntervalInt > 0) {
+			// Device I/O is done by the background poller, only the last snapshot is returned
+			startBackgroundPoller();
+			return Collections.singletonList(getStatisticsFromSnapshot());
 		}
 
-		// Monitoring capabilities
-		populateMonitorCapabilities(stats);
+		final ExtendedStatistics extStats = new ExtendedStatistics();
+		final Map<String, String> stats = new HashMap<>();
+		final List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+
+		pollDevice(stats, advancedControllableProperties);
 
-		if (System.currentTimeMillis() < nextMonitoringCycleTimestamp) {
-			// If in monitoring cycle -> do not render controllable properties
-			stats.put(Command.POWER_STATUS.getName(), powerStatusMessage);
-		} else {
-			// Reset sequence number to 0 if it reaches the max value of integer
-			// (need to check it before all command can be performed)
-			if (sequenceNumber == Integer.MAX_VALUE - Command.values().length) {
-				sequenceNumber = 0;
+		extStats.setStatistics(stats);
+		extStats.setControllableProperties(advancedControllableProperties);
+
+		return Collections.singletonList(extStats);
+	}
+
+	/**
+	 * This method is used for populate the statistics and controllable properties of a monitoring cycle
+	 * Device I/O is serialized with the controls, the cycle may run on the caller thread or on the background poller.
+	 *
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 */
+	private void pollDevice(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		cycleLock.lock();
+		try {
+			// Monitoring capabilities
+			populateMonitorCapabilities(stats);
+			if (isAdaptiveTimeout()) {
+				populateRoundTripMetrics(stats);
+			}
+			long droppedReplies = getReplyDispatcher().getDroppedTotal();
+			if (droppedReplies > 0) {
+				stats.put(StatisticsProperty.ADAPTER_METRICS.getName() + AverPTZConstants.HASH + StatisticsProperty.DROPPED_REPLIES.getName(), String.valueOf(droppedReplies));
+			}
+
+			if (System.currentTimeMillis() < nextMonitoringCycleTimestamp) {
+				// If in monitoring cycle -> do not render controllable properties
+				stats.put(Command.POWER_STATUS.getName(), powerStatusMessage);
+			} else {
+				// Control capabilities
+				populateControlCapabilities(stats, advancedControllableProperties);
 			}
 
-			// Control capabilities
-			populateControlCapabilities(stats, advancedControllableProperties);
+			if (Boolean.parseBoolean(incrementalStatistics)) {
+				// Unchanged controllable properties keep the instance and timestamp of the previous cycle
+				int changedStatistics = incrementalCycle.merge(stats, advancedControllableProperties);
+				stats.put(StatisticsProperty.ADAPTER_METRICS.getName() + AverPTZConstants.HASH + StatisticsProperty.CHANGED_STATISTICS.getName(), String.valueOf(changedStatistics));
+			} else {
+				// Turned off: the next cycle after it is turned on again must not be compared with a stale one
+				incrementalCycle.reset();
+			}
+		} finally {
+			// Replies left by a skipped cycle would be stale in the next one
+			pipelinedReplies.clear();
+			cycleLock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to start the background poller if it is not running
+	 * The poller publishes a new snapshot every background polling interval.
+	 * In virtual threads mode the cycles run on the executor shared by all adapters instead of a thread per camera.
+	 */
+	private synchronized void startBackgroundPoller() {
+		if (backgroundPoller != null || sharedPolling != null) {
+			return;
+		}
+
+		if (Boolean.parseBoolean(virtualThreads)) {
+			sharedPolling = CameraExecutor.getInstance().scheduleWithFixedDelay(this::refreshSnapshot, 0, backgroundPollingIntervalInt, TimeUnit.SECONDS);
+			return;
+		}
+
+		backgroundPoller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "AverPTZ poller " + this.host);
+			thread.setDaemon(true);
+			return thread;
+		});
+		backgroundPoller.scheduleWithFixedDelay(this::refreshSnapshot, 0, backgroundPollingIntervalInt, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * This method is used to stop the background poller and drop the last snapshot
+	 */
+	private synchronized void stopBackgroundPoller() {
+		if (backgroundPoller != null) {
+			backgroundPoller.shutdownNow();
+			backgroundPoller = null;
+		}
+		if (sharedPolling != null) {
+			sharedPolling.cancel();
+			sharedPolling = null;
+		}
+		statisticsSnapshot = null;
+	}
+
+	/**
+	 * This method is used by the background poller to run a monitoring cycle and publish its snapshot
+	 * A failed cycle keeps the previous snapshot, its age tells how stale it is.
+	 */
+	private void refreshSnapshot() {
+		try {
+			Map<String, String> stats = new HashMap<>();
+			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+			pollDevice(stats, advancedControllableProperties);
+			statisticsSnapshot = new StatisticsSnapshot(stats, advancedControllableProperties, System.currentTimeMillis());
+		} catch (Exception e) {
+			this.logger.error("error during background polling of " + this.host, e);
+		}
+	}
+
+	/**
+	 * This method is used to get the statistics of the last snapshot with its age
+	 * Before the first snapshot is published, only the device information is returned.
+	 *
+	 * @return ExtendedStatistics This returns a copy of the last snapshot
+	 */
+	private ExtendedStatistics getStatisticsFromSnapshot() {
+		final ExtendedStatistics extStats = new ExtendedStatistics();
+		final Map<String, String> stats = new HashMap<>();
+		final List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
+
+		StatisticsSnapshot snapshot = statisticsSnapshot;
+		if (snapshot == null) {
+			populateMonitorCapabilities(stats);
+		} else {
+			stats.putAll(snapshot.getStatistics());
+			advancedControllableProperties.addAll(snapshot.getControllableProperties());
+			stats.put(StatisticsProperty.ADAPTER_METRICS.getName() + AverPTZConstants.HASH + StatisticsProperty.SNAPSHOT_AGE.getName(),
+					String.valueOf(snapshot.getAge(System.currentTimeMillis())));
 		}
 
 		extStats.setStatistics(stats);
 		extStats.setControllableProperties(advancedControllableProperties);
-
-		return Collections.singletonList(extStats);
+		return extStats;
 	}
 
 	/**
@@ -482,6 +746,46 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		} catch (NumberFormatException e) {
 			errorMessages.append("Zoom speed with value ").append(this.zoomSpeed).append(" is wrong format of number. ");
 		}
+
+		try {
+			fastPollingIntervalInt = Integer.parseInt(fastPollingInterval);
+		} catch (NumberFormatException e) {
+			errorMessages.append("Fast polling interval with value ").append(this.fastPollingInterval).append(" is wrong format of number. ");
+		}
+
+		try {
+			mediumPollingIntervalInt = Integer.parseInt(mediumPollingInterval);
+		} catch (NumberFormatException e) {
+			errorMessages.append("Medium polling interval with value ").append(this.mediumPollingInterval).append(" is wrong format of number. ");
+		}
+
+		try {
+			slowPollingIntervalInt = Integer.parseInt(slowPollingInterval);
+		} catch (NumberFormatException e) {
+			errorMessages.append("Slow polling interval with value ").append(this.slowPollingInterval).append(" is wrong format of number. ");
+		}
+
+		try {
+			backgroundPollingIntervalInt = Integer.parseInt(backgroundPollingInterval);
+		} catch (NumberFormatException e) {
+			errorMessages.append("Background polling interval with value ").append(this.backgroundPollingInterval).append(" is wrong format of number. ");
+		}
+
+		try {
+			jogDurationInt = Integer.parseInt(jogDuration);
+		} catch (NumberFormatException e) {
+			errorMessages.append("Jog duration with value ").append(this.jogDuration).append(" is wrong format of number. ");
+		}
+
+		try {
+			sliderDebounceWindowInt = Integer.parseInt(sliderDebounceWindow);
+		} catch (NumberFormatException e) {
+			errorMessages.append("Slider debounce window with value ").append(this.sliderDebounceWindow).append(" is wrong format of number. ");
+		}
+
+		if (JogMode.getByName(jogMode) == null) {
+			errorMessages.append("Jog mode with value ").append(this.jogMode).append(" is not supported. Jog mode must be Blocking, Pipelined or Timed. ");
+		}
 	}
 
 	/**
@@ -507,7 +811,33 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		}
 
 		if (this.focusSpeedInt < 0 || this.focusSpeedInt > 7) {
-			errorMessages.append("Focus speed with value ").append(this.focusSpeed).append(" is out of range. Focus speed must between 0 and 7.");
+			errorMessages.append("Focus speed with value ").append(this.focusSpeed).append(" is out of range. Focus speed must between 0 and 7. ");
+		}
+
+		if (this.fastPollingIntervalInt < 0) {
+			errorMessages.append("Fast polling interval with value ").append(this.fastPollingInterval).append(" is out of range. Polling interval must not be negative. ");
+		}
+
+		if (this.mediumPollingIntervalInt < 0) {
+			errorMessages.append("Medium polling interval with value ").append(this.mediumPollingInterval).append(" is out of range. Polling interval must not be negative. ");
+		}
+
+		if (this.slowPollingIntervalInt < 0) {
+			errorMessages.append("Slow polling interval with value ").append(this.slowPollingInterval).append(" is out of range. Polling interval must not be negative. ");
+		}
+
+		if (this.backgroundPollingIntervalInt < 0) {
+			errorMessages.append("Background polling interval with value ").append(this.backgroundPollingInterval)
+					.append(" is out of range. Polling interval must not be negative. ");
+		}
+
+		if (this.jogDurationInt < 0 || this.jogDurationInt > 5000) {
+			errorMessages.append("Jog duration with value ").append(this.jogDuration).append(" is out of range. Jog duration must between 0 and 5000. ");
+		}
+
+		if (this.sliderDebounceWindowInt < 0 || this.sliderDebounceWindowInt > 2000) {
+			errorMessages.append("Slider debounce window with value ").append(this.sliderDebounceWindow)
+					.append(" is out of range. Slider debounce window must between 0 and 2000. ");
 		}
 	}
 
@@ -528,6 +858,22 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		stats.put(StatisticsProperty.DEVICE_INFORMATION.getName() + AverPTZConstants.HASH + StatisticsProperty.DEVICE_FIRMWARE_VERSION.getName(), deviceInfo.getDeviceFirmwareVersion());
 	}
 
+	/**
+	 * This method is used for populate the current values of the round-trip time estimator
+	 *
+	 * @param stats is the map that store all statistics
+	 */
+	private void populateRoundTripMetrics(Map<String, String> stats) {
+		RttEstimator rttEstimator = getRttEstimator();
+		if (rttEstimator == null || rttEstimator.getSmoothedRtt() < 0) {
+			return;
+		}
+		String groupName = StatisticsProperty.ADAPTER_METRICS.getName() + AverPTZConstants.HASH;
+		stats.put(groupName + StatisticsProperty.SMOOTHED_RTT.getName(), String.valueOf(Math.round(rttEstimator.getSmoothedRtt() * 100) / 100.0));
+		stats.put(groupName + StatisticsProperty.RTT_VARIANCE.getName(), String.valueOf(Math.round(rttEstimator.getRttVariance() * 100) / 100.0));
+		stats.put(groupName + StatisticsProperty.REPLY_TIMEOUT.getName(), String.valueOf(rttEstimator.getTimeout()));
+	}
+
 	/**
 	 * This method is used for populate all controlling properties:
 	 * <li>Power</li>
@@ -542,6 +888,55 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 * @param advancedControllableProperties is the list that store all controllable properties
 	 */
 	private void populateControlCapabilities(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		pollingScheduler.setInterval(PollingTier.FAST, fastPollingIntervalInt * 1000L);
+		pollingScheduler.setInterval(PollingTier.MEDIUM, mediumPollingIntervalInt * 1000L);
+		pollingScheduler.setInterval(PollingTier.SLOW, slowPollingIntervalInt * 1000L);
+		pollingScheduler.startCycle();
+		// Every controllable property of the cycle shares the same timestamp
+		cycleTimestamp = new Date();
+
+		// Send the independent inquiries of the cycle back-to-back, then the inquiries needed by the modes they returned
+		sendPipelinedInquiries(InquiryPlan.getRootInquiries());
+		sendPipelinedInquiries(planDependentInquiries());
+		populateControlCapabilitiesFromDevice(stats, advancedControllableProperties);
+
+		if (pollingScheduler.isEnabled()) {
+			populateAdapterMetrics(stats);
+		}
+	}
+
+	/**
+	 * This method is used to get the inquiries needed by the power status and the modes returned by the root inquiries
+	 *
+	 * @return List<Command> This returns the dependent and position inquiries of the cycle
+	 */
+	List<Command> planDependentInquiries() {
+		PowerStatus powerStatus = peekState(Command.POWER, PowerStatus.class, ReplyDecoder::decodePowerStatus);
+		List<Command> dependentInquiries = new ArrayList<>(InquiryPlan.getDependentInquiries(powerStatus,
+				peekState(Command.AE_MODE, AEMode.class, ReplyDecoder::decodeAEMode), peekState(Command.WB_MODE, WBMode.class, ReplyDecoder::decodeWBMode)));
+		dependentInquiries.addAll(InquiryPlan.getPositionInquiries(powerStatus));
+		return dependentInquiries;
+	}
+
+	/**
+	 * This method is used for populate the counters of the polling scheduler
+	 *
+	 * @param stats is the map that store all statistics
+	 */
+	private void populateAdapterMetrics(Map<String, String> stats) {
+		String groupName = StatisticsProperty.ADAPTER_METRICS.getName() + AverPTZConstants.HASH;
+		stats.put(groupName + StatisticsProperty.INQUIRIES_SENT.getName(), String.valueOf(pollingScheduler.getSentInCycle()));
+		stats.put(groupName + StatisticsProperty.INQUIRIES_SAVED.getName(), String.valueOf(pollingScheduler.getSavedInCycle()));
+		stats.put(groupName + StatisticsProperty.INQUIRIES_SAVED_TOTAL.getName(), String.valueOf(pollingScheduler.getSavedTotal()));
+	}
+
+	/**
+	 * This method is used for populate all controlling properties from the replies of the device
+	 *
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 */
+	private void populateControlCapabilitiesFromDevice(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
 		// Getting power status from device
 		String powerStatus = getPowerStatus();
 
@@ -577,112 +972,436 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		}
 	}
 
-	//region Control device
-
+	//region Control device
+
+	/**
+	 * This method is used to build the table of control handlers, one per published property name:
+	 * <li>Power</li>
+	 * <li>Zoom, Focus</li>
+	 * <li>Exposure (AE mode, backlight, auto slow shutter, direct values)</li>
+	 * <li>Image process (WB mode, one push trigger, RGain, BGain)</li>
+	 * <li>Pan tilt drive, Preset</li>
+	 *
+	 * @return ControlDispatcher This returns the dispatcher of all controllable properties
+	 */
+	private static ControlDispatcher<AverPTZCommunicator> createControlDispatcher() {
+		ControlDispatcher<AverPTZCommunicator> dispatcher = new ControlDispatcher<>();
+
+		dispatcher.register(Command.POWER.getName(), AverPTZCommunicator::powerControl);
+
+		dispatcher.register(ControlSkeletons.ZOOM_TELE, (communicator, value) -> communicator.zoomControl(ZoomControl.TELE))
+				.register(ControlSkeletons.ZOOM_WIDE, (communicator, value) -> communicator.zoomControl(ZoomControl.WIDE))
+				.register(ControlSkeletons.ZOOM_POSITION, positionControl(Command.ZOOM_DIRECT));
+
+		dispatcher.register(ControlSkeletons.FOCUS_MODE, switchControl(PayloadCategory.CAMERA, Command.FOCUS_MODE, FocusMode.AUTO.getCode(), FocusMode.MANUAL.getCode()))
+				.register(ControlSkeletons.FOCUS_ONE_PUSH, (communicator, value) -> communicator.performControl(PayloadCategory.CAMERA, Command.FOCUS_ONE_PUSH))
+				.register(ControlSkeletons.FOCUS_NEAR, (communicator, value) -> communicator.focusControl(FocusControl.NEAR))
+				.register(ControlSkeletons.FOCUS_FAR, (communicator, value) -> communicator.focusControl(FocusControl.FAR))
+				.register(ControlSkeletons.FOCUS_POSITION, positionControl(Command.FOCUS_DIRECT));
+
+		dispatcher.register(ControlSkeletons.AE_MODE, (communicator, value) -> communicator.performControl(PayloadCategory.CAMERA, Command.AE_MODE, AEMode.getByName(value).getCode()))
+				.register(ControlSkeletons.EXPOSURE_BACKLIGHT, switchControl(PayloadCategory.CAMERA, Command.BACKLIGHT, BacklightStatus.OFF.getCode(), BacklightStatus.ON.getCode()))
+				.register(ControlSkeletons.EXPOSURE_AUTO_SLOW_SHUTTER,
+						switchControl(PayloadCategory.CAMERA, Command.AUTO_SLOW_SHUTTER, SlowShutterStatus.OFF.getCode(), SlowShutterStatus.ON.getCode()))
+				.register(ControlSkeletons.EXPOSURE_GAIN_LIMIT_DIRECT,
+						(communicator, value) -> communicator.performSliderControl(Command.GAIN_LIMIT_DIRECT, (byte) Float.parseFloat(value)))
+				.register(ControlSkeletons.EXPOSURE_EXP_COMP_DIRECT, directControl(Command.EXP_COMP_DIRECT))
+				.register(ControlSkeletons.EXPOSURE_GAIN_DIRECT, directControl(Command.GAIN_DIRECT))
+				.register(ControlSkeletons.EXPOSURE_IRIS_DIRECT, directControl(Command.IRIS_DIRECT))
+				.register(ControlSkeletons.EXPOSURE_SHUTTER_DIRECT, directControl(Command.SHUTTER_DIRECT));
+
+		dispatcher.register(ControlSkeletons.WB_MODE, (communicator, value) -> communicator.performControl(PayloadCategory.CAMERA, Command.WB_MODE, WBMode.getByName(value).getCode()))
+				.register(ControlSkeletons.WB_ONE_PUSH_TRIGGER, (communicator, value) -> communicator.performControl(PayloadCategory.CAMERA, Command.WB_ONE_PUSH_TRIGGER))
+				.register(ControlSkeletons.IMAGE_PROCESS_RGAIN_UP, fixedControl(PayloadCategory.CAMERA, Command.RGAIN, RGainControl.UP.getCode()))
+				.register(ControlSkeletons.IMAGE_PROCESS_RGAIN_DOWN, fixedControl(PayloadCategory.CAMERA, Command.RGAIN, RGainControl.DOWN.getCode()))
+				.register(ControlSkeletons.IMAGE_PROCESS_BGAIN_UP, fixedControl(PayloadCategory.CAMERA, Command.BGAIN, BGainControl.UP.getCode()))
+				.register(ControlSkeletons.IMAGE_PROCESS_BGAIN_DOWN, fixedControl(PayloadCategory.CAMERA, Command.BGAIN, BGainControl.DOWN.getCode()));
+
+		dispatcher.register(ControlSkeletons.SLOW_PAN_TILT, switchControl(PayloadCategory.PAN_TILTER, Command.SLOW_PAN_TILT, SlowPanTiltStatus.OFF.getCode(), SlowPanTiltStatus.ON.getCode()))
+				.register(ControlSkeletons.PAN_TILT_HOME, (communicator, value) -> communicator.performControl(PayloadCategory.PAN_TILTER, Command.PAN_TILT_HOME))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_UP, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.UP))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_DOWN, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.DOWN))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_LEFT, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.LEFT))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_RIGHT, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.RIGHT))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_UP_LEFT, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.UP_LEFT))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_UP_RIGHT, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.UP_RIGHT))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_DOWN_LEFT, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.DOWN_LEFT))
+				.register(ControlSkeletons.PAN_TILT_DRIVE_DOWN_RIGHT, (communicator, value) -> communicator.panTiltDriveControl(PanTiltDrive.DOWN_RIGHT))
+				.register(ControlSkeletons.PAN_POSITION, (communicator, value) -> communicator.panTiltPositionControl(PositionControl.PAN_POSITION, value))
+				.register(ControlSkeletons.TILT_POSITION, (communicator, value) -> communicator.panTiltPositionControl(PositionControl.TILT_POSITION, value))
+				.register(ControlSkeletons.PAN_RELATIVE, (communicator, value) -> communicator.panTiltPositionControl(PositionControl.PAN_RELATIVE, value))
+				.register(ControlSkeletons.TILT_RELATIVE, (communicator, value) -> communicator.panTiltPositionControl(PositionControl.TILT_RELATIVE, value));
+
+		dispatcher.register(ControlSkeletons.PRESET_VALUE, AverPTZCommunicator::presetValueControl)
+				.register(ControlSkeletons.PRESET_SET, (communicator, value) -> communicator.presetControl(PresetControl.SET))
+				.register(ControlSkeletons.PRESET_RECALL, (communicator, value) -> communicator.presetControl(PresetControl.RECALL));
+
+		return dispatcher;
+	}
+
+	/**
+	 * This method is used to create the handler of a switch, the parameters of both states are encoded once
+	 *
+	 * @param payloadCategory is the category of payload of the command
+	 * @param command is the command to be sent
+	 * @param codeOff is the param sent when the switch is turned off
+	 * @param codeOn is the param sent when the switch is turned on
+	 * @return ControlHandler This returns the handler of the switch
+	 */
+	private static ControlHandler<AverPTZCommunicator> switchControl(PayloadCategory payloadCategory, Command command, byte codeOff, byte codeOn) {
+		byte[] paramOff = { codeOff };
+		byte[] paramOn = { codeOn };
+		return (communicator, value) -> {
+			if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_ON)) {
+				communicator.performControl(payloadCategory, command, paramOn);
+			} else if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_OFF)) {
+				communicator.performControl(payloadCategory, command, paramOff);
+			}
+		};
+	}
+
+	/**
+	 * This method is used to create the handler of a button sending a fixed param
+	 *
+	 * @param payloadCategory is the category of payload of the command
+	 * @param command is the command to be sent
+	 * @param code is the param of the command
+	 * @return ControlHandler This returns the handler of the button
+	 */
+	private static ControlHandler<AverPTZCommunicator> fixedControl(PayloadCategory payloadCategory, Command command, byte code) {
+		byte[] param = { code };
+		return (communicator, value) -> communicator.performControl(payloadCategory, command, param);
+	}
+
+	/**
+	 * This method is used to create the handler of a DIRECT slider, the value is sent split in 4-bit nibbles
+	 *
+	 * @param command is the DIRECT command to be sent
+	 * @return ControlHandler This returns the handler of the slider
+	 */
+	private static ControlHandler<AverPTZCommunicator> directControl(Command command) {
+		return (communicator, value) -> communicator.performSliderControl(command, convertOneByteNumberToTwoBytesArray((byte) Float.parseFloat(value)));
+	}
+
+	/**
+	 * This method is used to send the value of an exposure slider once its debounce window ended
+	 * Values superseded by a later value of the same window are not sent.
+	 *
+	 * @param command is the DIRECT command of the slider
+	 * @param param is the param of the slider value
+	 */
+	private void performSliderControl(Command command, byte... param) {
+		if (sliderDebouncer.awaitLatest(command, sliderDebounceWindowInt)) {
+			performControl(PayloadCategory.CAMERA, command, param);
+		}
+	}
+
+	/**
+	 * This method is used to create the handler of a zoom or focus position, the position is sent split in 4-bit nibbles
+	 *
+	 * @param command is the DIRECT position command to be sent
+	 * @return ControlHandler This returns the handler of the position
+	 */
+	private static ControlHandler<AverPTZCommunicator> positionControl(Command command) {
+		return (communicator, value) -> communicator.performControl(PayloadCategory.CAMERA, command,
+				convertTwoBytesNumberToFourBytesArray(parsePosition(value, 0, AverPTZConstants.MAX_POSITION)));
+	}
+
+	/**
+	 * This method is used to parse the value of a position control
+	 *
+	 * @param value is the value of controllable property
+	 * @param min is the minimum position
+	 * @param max is the maximum position
+	 * @return int This returns the position
+	 * @throws IllegalArgumentException if the position is out of range
+	 */
+	private static int parsePosition(String value, int min, int max) {
+		int position = (int) Float.parseFloat(value);
+		if (position < min || position > max) {
+			throw new IllegalArgumentException("Position " + value + " is out of range. Position must between " + min + " and " + max);
+		}
+		return position;
+	}
+
+	/**
+	 * This method is used to move pan tilt to an absolute position or by a relative step with one command
+	 * An absolute position of one axis keeps the other axis at its current position, read in the turn of the move
+	 * so a move of the other axis queued before it is applied first.
+	 *
+	 * @param positionControl is the axis and kind of the move
+	 * @param value is the value of controllable property
+	 */
+	private void panTiltPositionControl(PositionControl positionControl, String value) {
+		int position = parsePosition(value, Short.MIN_VALUE, Short.MAX_VALUE);
+		switch (positionControl) {
+			case PAN_POSITION:
+			case TILT_POSITION:
+				acquireTurn(Lane.forCommand(Command.PAN_TILT_ABSOLUTE));
+				try {
+					PanTiltPosition currentPosition = getCurrentPanTiltPosition();
+					if (positionControl == PositionControl.PAN_POSITION) {
+						performPanTiltPosition(Command.PAN_TILT_ABSOLUTE, position, currentPosition.getTilt());
+					} else {
+						performPanTiltPosition(Command.PAN_TILT_ABSOLUTE, currentPosition.getPan(), position);
+					}
+				} finally {
+					commandScheduler.release();
+				}
+				break;
+			case PAN_RELATIVE:
+				performPanTiltPosition(Command.PAN_TILT_RELATIVE, position, 0);
+				break;
+			case TILT_RELATIVE:
+				performPanTiltPosition(Command.PAN_TILT_RELATIVE, 0, position);
+				break;
+			default:
+				throw new IllegalStateException("Unexpected value: " + positionControl);
+		}
+	}
+
+	/**
+	 * This method is used to send an absolute or relative pan tilt position with the pan and tilt speed of the adapter
+	 *
+	 * @param command is the absolute or relative position command
+	 * @param pan is the pan position
+	 * @param tilt is the tilt position
+	 */
+	private void performPanTiltPosition(Command command, int pan, int tilt) {
+		byte[] param = new byte[10];
+		param[0] = (byte) panSpeedInt;
+		param[1] = (byte) tiltSpeedInt;
+		System.arraycopy(convertTwoBytesNumberToFourBytesArray(pan), 0, param, 2, 4);
+		System.arraycopy(convertTwoBytesNumberToFourBytesArray(tilt), 0, param, 6, 4);
+		performControl(PayloadCategory.PAN_TILTER, command, param);
+	}
+
+	/**
+	 * This method is used to get the pan tilt position from the camera state, it is read from the device when unknown
+	 *
+	 * @return PanTiltPosition This returns the current pan tilt position
+	 */
+	private PanTiltPosition getCurrentPanTiltPosition() {
+		PanTiltPosition position = cameraState.getPanTiltPosition();
+		if (position != null) {
+			return position;
+		}
+
+		try {
+			long now = System.currentTimeMillis();
+			position = ReplyDecoder.decodePanTiltPosition(sendInquiry(PayloadCategory.PAN_TILTER, Command.PAN_TILT_POSITION, Lane.INTERACTIVE));
+			cameraState.setValue(Command.PAN_TILT_POSITION, position, now);
+			return position;
+		} catch (Exception e) {
+			this.logger.error("error during get pan tilt position", e);
+			throw new IllegalStateException("Error while reading pan tilt position");
+		}
+	}
+
+	/**
+	 * This method is used to control power, the device is not responsive during the power transition
+	 *
+	 * @param value is the value of controllable property
+	 */
+	private void powerControl(String value) {
+		if (value.equals(AverPTZConstants.SWITCH_STATUS_ON)) {
+			powerStatusMessage = AverPTZConstants.POWER_ON_STATUS;
+			performControl(PayloadCategory.CAMERA, Command.POWER, PowerStatus.ON.getCode());
+		} else if (value.equals(AverPTZConstants.SWITCH_STATUS_OFF)) {
+			powerStatusMessage = AverPTZConstants.POWER_OFF_STATUS;
+			performControl(PayloadCategory.CAMERA, Command.POWER, PowerStatus.OFF.getCode());
+		}
+		// set next monitoring cycle timestamp plus 45s due to the device will not responsive in this time
+		nextMonitoringCycleTimestamp = System.currentTimeMillis() + AverPTZConstants.DELAY_PERIOD;
+	}
+
+	/**
+	 * This method is used to zoom one step with the zoom speed of the adapter
+	 *
+	 * @param zoomControl is the direction of the zoom
+	 */
+	private void zoomControl(ZoomControl zoomControl) {
+		jogControl(PayloadCategory.CAMERA, Command.ZOOM, new byte[] { (byte) (zoomControl.getCode() + zoomSpeedInt) }, new byte[] { ZoomControl.STOP.getCode() });
+	}
+
+	/**
+	 * This method is used to focus one step with the focus speed of the adapter
+	 *
+	 * @param focusControl is the direction of the focus
+	 */
+	private void focusControl(FocusControl focusControl) {
+		jogControl(PayloadCategory.CAMERA, Command.FOCUS, new byte[] { (byte) (focusControl.getCode() + focusSpeedInt) }, new byte[] { FocusControl.STOP.getCode() });
+	}
+
+	/**
+	 * This method is used to drive pan tilt one step with the pan and tilt speed of the adapter
+	 *
+	 * @param panTiltDrive is the direction of the drive
+	 */
+	private void panTiltDriveControl(PanTiltDrive panTiltDrive) {
+		byte[] direction = panTiltDrive.getCode();
+		byte[] stop = PanTiltDrive.STOP.getCode();
+		jogControl(PayloadCategory.PAN_TILTER, Command.PAN_TILT_DRIVE, new byte[] { (byte) panSpeedInt, (byte) tiltSpeedInt, direction[0], direction[1] },
+				new byte[] { (byte) panSpeedInt, (byte) tiltSpeedInt, stop[0], stop[1] });
+	}
+
+	/**
+	 * This method is used to move the camera one step, the drive is followed by the stop as configured by the jog mode
+	 *
+	 * @param payloadCategory is the category of payload of the command
+	 * @param command is the drive command (zoom, focus or pan tilt drive)
+	 * @param driveParam is the param starting the move
+	 * @param stopParam is the param stopping the move
+	 */
+	private void jogControl(PayloadCategory payloadCategory, Command command, byte[] driveParam, byte[] stopParam) {
+		JogMode mode = JogMode.getByName(jogMode);
+		switch (mode != null ? mode : JogMode.BLOCKING) {
+			case PIPELINED:
+				performControlPair(payloadCategory, command, driveParam, stopParam);
+				break;
+			case TIMED:
+				// A new press extends the move, the stop of the previous press is replaced
+				cancelJogStop(command);
+				performControl(payloadCategory, command, driveParam);
+				scheduleJogStop(payloadCategory, command, stopParam);
+				break;
+			default:
+				performControl(payloadCategory, command, driveParam);
+				performControl(payloadCategory, command, stopParam);
+				break;
+		}
+	}
+
+	/**
+	 * This method is used to send a drive and its stop back-to-back, only the completions of both are waited for
+	 *
+	 * @param payloadCategory is the category of payload of the command
+	 * @param command is the drive command
+	 * @param driveParam is the param starting the move
+	 * @param stopParam is the param stopping the move
+	 */
+	private void performControlPair(PayloadCategory payloadCategory, Command command, byte[] driveParam, byte[] stopParam) {
+		acquireTurn(Lane.forCommand(command));
+		try {
+			PacketTemplateCache packetTemplates = PacketTemplateCache.forCamera(cameraIDInt);
+			List<byte[]> packets = new ArrayList<>(2);
+			packets.add(packetTemplates.buildCommand(nextSequenceNumber(), payloadCategory, command, driveParam));
+			packets.add(packetTemplates.buildCommand(nextSequenceNumber(), payloadCategory, command, stopParam));
+
+			List<byte[]> replies = sendPipelined(packets, packets.size());
+			for (int i = 0; i < packets.size(); i++) {
+				byte[] reply = replies.get(i);
+				if (reply == null || ReplyMatcher.match(reply) != ReplyType.COMPLETION) {
+					throw new CommandFailureException(this.host, getHexByteString(packets.get(i)), reply == null ? "" : getHexByteString(reply));
+				}
+			}
+		} catch (Exception e) {
+			cameraState.invalidateAll();
+			this.logger.error("error during command " + command.getName() + " send", e);
+			throw new IllegalStateException("Error while sending command " + command.getName());
+		} finally {
+			commandScheduler.release();
+		}
+
+		cameraState.applyControl(command, stopParam, System.currentTimeMillis());
+	}
+
+	/**
+	 * This method is used to send the stop of a timed jog after the jog duration
+	 *
+	 * @param payloadCategory is the category of payload of the command
+	 * @param command is the drive command
+	 * @param stopParam is the param stopping the move
+	 */
+	private synchronized void scheduleJogStop(PayloadCategory payloadCategory, Command command, byte[] stopParam) {
+		if (jogTimer == null) {
+			jogTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "AverPTZ jog " + this.host);
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		ScheduledFuture<?> previousStop = pendingJogStops.put(command, jogTimer.schedule(() -> {
+			try {
+				performControl(payloadCategory, command, stopParam);
+			} catch (Exception e) {
+				this.logger.error("error during jog stop of " + command.getName(), e);
+			}
+		}, jogDurationInt, TimeUnit.MILLISECONDS));
+		// Two presses may both drive before either schedules its stop, only the stop of the last press is kept
+		if (previousStop != null) {
+			previousStop.cancel(false);
+		}
+	}
+
+	/**
+	 * This method is used to cancel the pending stop of a timed jog
+	 *
+	 * @param command is the drive command
+	 */
+	private synchronized void cancelJogStop(Command command) {
+		ScheduledFuture<?> pendingStop = pendingJogStops.remove(command);
+		if (pendingStop != null) {
+			pendingStop.cancel(false);
+		}
+	}
+
+	/**
+	 * This method is used to stop the jog timer, the pending stops are sent right away so the camera does not keep moving
+	 * The stops are blocking round trips to the device, they are sent after leaving the monitor so a jog press is not held meanwhile.
+	 */
+	private void stopJogTimer() {
+		List<Runnable> pendingStops;
+		synchronized (this) {
+			if (jogTimer == null) {
+				return;
+			}
+
+			pendingJogStops.clear();
+			pendingStops = jogTimer.shutdownNow();
+			jogTimer = null;
+		}
+
+		for (Runnable pendingStop : pendingStops) {
+			pendingStop.run();
+		}
+	}
+
 	/**
-	 * This method is used to control image process:
-	 * <li>RGain</li>
-	 * <li>BGain</li>
-	 * <li>WBMode</li>
-	 * <li>WB One push trigger</li>
+	 * This method is used to select the preset used by the next set or recall
 	 *
 	 * @param value is the value of controllable property
-	 * @param splitProperty is the split controllable property
 	 */
-	private void imageProcessControl(String value, String[] splitProperty) {
-		// (1)Name -> Split string by ")" and get the second value of slit string
-		String imageProcessControlName = splitProperty[1].split(AverPTZConstants.CLOSE_PARENTHESIS, 2)[1];
-
-		// RGain
-		if (Objects.equals(imageProcessControlName, Command.RGAIN.getName() + RGainControl.UP.getName())) {
-			performControl(PayloadCategory.CAMERA, Command.RGAIN, RGainControl.UP.getCode());
-			return;
-		} else if (Objects.equals(imageProcessControlName, Command.RGAIN.getName() + RGainControl.DOWN.getName())) {
-			performControl(PayloadCategory.CAMERA, Command.RGAIN, RGainControl.DOWN.getCode());
-			return;
-		}
-
-		// BGain
-		if (Objects.equals(imageProcessControlName, Command.BGAIN.getName() + BGainControl.UP.getName())) {
-			performControl(PayloadCategory.CAMERA, Command.BGAIN, BGainControl.UP.getCode());
-			return;
-		} else if (Objects.equals(imageProcessControlName, Command.BGAIN.getName() + BGainControl.DOWN.getName())) {
-			performControl(PayloadCategory.CAMERA, Command.BGAIN, BGainControl.DOWN.getCode());
-			return;
-		}
-
-		Command imageProcessCommand = Command.getByName(imageProcessControlName);
-
-		switch (imageProcessCommand) {
-			case WB_MODE:
-				performControl(PayloadCategory.CAMERA, Command.WB_MODE, WBMode.getByName(value).getCode());
-				break;
-
-			case WB_ONE_PUSH_TRIGGER: {
-				performControl(PayloadCategory.CAMERA, Command.WB_ONE_PUSH_TRIGGER);
-				break;
-			}
-			default: {
-				throw new IllegalStateException("Unexpected value: " + Arrays.toString(splitProperty));
-			}
+	private void presetValueControl(String value) {
+		try {
+			currentPreset = Integer.parseInt(value);
+		} catch (NumberFormatException e) {
+			// value = "Please select a preset to control"
+			currentPreset = -1;
 		}
 	}
 
 	/**
-	 * This method is used to control exposure:
-	 * <li>AE Mode</li>
-	 * <li>Exposure Direct</li>
-	 * <li>Gain Direct</li>
-	 * <li>Gain Limit Direct</li>
-	 * <li>Shutter Direct</li>
-	 * <li>Iris Direct</li>
+	 * This method is used to set or recall the selected preset
 	 *
-	 * @param value is the value of controllable property
-	 * @param exposureCommand is the command get from controllable property name
-	 */
-	private void exposureControl(String value, Command exposureCommand) {
-		switch (exposureCommand) {
-			case BACKLIGHT: {
-				if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_ON)) {
-					performControl(PayloadCategory.CAMERA, Command.BACKLIGHT, BacklightStatus.ON.getCode());
-				} else if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_OFF)) {
-					performControl(PayloadCategory.CAMERA, Command.BACKLIGHT, BacklightStatus.OFF.getCode());
-				}
-				break;
-			}
-			case AE_MODE: {
-				performControl(PayloadCategory.CAMERA, Command.AE_MODE, AEMode.getByName(value).getCode());
-				break;
-			}
-			// All of these DIRECT (Except Gain limit) case are share the same logic of SHUTTER_DIRECT
-			case GAIN_LIMIT_DIRECT:
-				float gainLimitLevel = Float.parseFloat(value);
-				performControl(PayloadCategory.CAMERA, exposureCommand, (byte) gainLimitLevel);
-				break;
-			case EXP_COMP_DIRECT:
-			case GAIN_DIRECT:
-			case IRIS_DIRECT:
-			case SHUTTER_DIRECT: {
-				float directValue = Float.parseFloat(value);
-				performControl(PayloadCategory.CAMERA, exposureCommand, convertOneByteNumberToTwoBytesArray((byte) directValue));
-				break;
-			}
-			case AUTO_SLOW_SHUTTER: {
-				if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_ON)) {
-					performControl(PayloadCategory.CAMERA, Command.AUTO_SLOW_SHUTTER, SlowShutterStatus.ON.getCode());
-				} else if (Objects.equals(value, AverPTZConstants.SWITCH_STATUS_OFF)) {
-					performControl(PayloadCategory.CAMERA, Command.AUTO_SLOW_SHUTTER, SlowShutterStatus.OFF.getCode());
-				}
-				break;
-			}
-			default: {
-				throw new IllegalStateException("Unexpected value: " + exposureCommand);
-			}
+	 * @param presetControl is the preset action (set or recall)
+	 */
+	private void presetControl(PresetControl presetControl) {
+		if (currentPreset == -1) {
+			throw new IllegalArgumentException(AverPTZConstants.DEFAULT_PRESET);
 		}
+
+		performControl(PayloadCategory.CAMERA, Command.PRESET, presetControl.getCode(), (byte) currentPreset);
+
+		// Reset to default preset value each time set/recall a preset
+		currentPreset = -1;
 	}
 
 	/**
 	 * This method used to perform control of all properties by send, receive command from device
+	 * The control is sent ahead of pending inquiries, a value of a coalescing command is dropped when a newer value is pending.
+	 * A control rejected with COMMAND_BUFFER_FULL or NO_SOCKET gives up its turn and is sent again once the flow control gate is open.
 	 *
 	 * @param payloadCategory is the category of payload of the command to be sent
 	 * @param command is the command to be sent
@@ -692,17 +1411,35 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		byte[] request;
 		byte[] response;
 
-		try {
-			int currentSeqNum = ++sequenceNumber;
-			request = buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), payloadCategory.getCode(),
-					command.getCode(), param);
-			response = send(request);
+		for (int attempt = 0; ; attempt++) {
+			awaitFlowControl();
+			if (attempt == 0 && !commandScheduler.acquireControl(command)) {
+				// Superseded by a newer value of the same command
+				return;
+			} else if (attempt > 0) {
+				// A control sent again must not supersede a newer value, it is sent before it
+				commandScheduler.acquire(Lane.forCommand(command));
+			}
+			try {
+				int currentSeqNum = nextSequenceNumber();
+				request = PacketTemplateCache.forCamera(cameraIDInt).buildCommand(currentSeqNum, payloadCategory, command, param);
+				response = send(request);
 
-			digestResponse(response, currentSeqNum, CommandType.COMMAND, null);
-		} catch (Exception e) {
-			this.logger.error("error during command " + command.getName() + " send", e);
-			throw new IllegalStateException("Error while sending command " + command.getName());
+				if (!isSentAgain(request, response, attempt)) {
+					digestResponse(response, currentSeqNum, CommandType.COMMAND, null);
+					break;
+				}
+			} catch (Exception e) {
+				// The device may have applied the command partially, the next cycle reads every field again
+				cameraState.invalidateAll();
+				this.logger.error("error during command " + command.getName() + " send", e);
+				throw new IllegalStateException("Error while sending command " + command.getName());
+			} finally {
+				commandScheduler.release();
+			}
 		}
+
+		cameraState.applyControl(command, param, System.currentTimeMillis());
 	}
 	//endregion
 
@@ -717,10 +1454,13 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private void populateZoomControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
 		// Populate zoom tele button
-		populateButtonControl(stats, advancedControllableProperties, Command.ZOOM.getName() + AverPTZConstants.HASH + ZoomControl.TELE.getName(), AverPTZConstants.PLUS);
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.ZOOM_TELE, AverPTZConstants.PLUS);
 
 		// Populate zoom wide button
-		populateButtonControl(stats, advancedControllableProperties, Command.ZOOM.getName() + AverPTZConstants.HASH + ZoomControl.WIDE.getName(), AverPTZConstants.MINUS);
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.ZOOM_WIDE, AverPTZConstants.MINUS);
+
+		// Populate zoom position numeric
+		populateNumericControl(stats, advancedControllableProperties, ControlSkeletons.ZOOM_POSITION, getZoomPosition());
 	}
 
 	/**
@@ -734,25 +1474,31 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		String focusMode = this.getFocusStatus();
 
 		// Populate focus one push button
-		populateButtonControl(stats, advancedControllableProperties, Command.FOCUS.getName() + AverPTZConstants.HASH + Index.TWO.getName() + Command.FOCUS_ONE_PUSH.getName(), Command.FOCUS_ONE_PUSH.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.FOCUS_ONE_PUSH, Command.FOCUS_ONE_PUSH.getName());
 
 		if (Objects.equals(focusMode, AverPTZConstants.NONE_VALUE)) {
-			stats.put(Command.FOCUS.getName() + AverPTZConstants.HASH + Index.ONE.getName() + Command.FOCUS_MODE.getName(), AverPTZConstants.NONE_VALUE);
+			stats.put(ControlSkeletons.FOCUS_MODE, AverPTZConstants.NONE_VALUE);
 			return;
 		}
 
-		stats.put(Command.FOCUS.getName() + AverPTZConstants.HASH + Index.ONE.getName() + Command.FOCUS_MODE.getName(), focusMode);
+		stats.put(ControlSkeletons.FOCUS_MODE, focusMode);
 
 		if (Objects.equals(focusMode, FocusMode.AUTO.getName())) {
-			advancedControllableProperties.add(createSwitch(Command.FOCUS.getName() + AverPTZConstants.HASH + Index.ONE.getName() + Command.FOCUS_MODE.getName(), 0, FocusMode.AUTO.getName(), FocusMode.MANUAL.getName()));
+			advancedControllableProperties.add(createSwitch(ControlSkeletons.FOCUS_MODE, 0, FocusMode.AUTO.getName(), FocusMode.MANUAL.getName()));
+
+			// Focus position is only monitored, the camera moves the focus itself
+			stats.put(ControlSkeletons.FOCUS_POSITION, getFocusPosition());
 		} else if (Objects.equals(focusMode, FocusMode.MANUAL.getName())) {
-			advancedControllableProperties.add(createSwitch(Command.FOCUS.getName() + AverPTZConstants.HASH + Index.ONE.getName() + Command.FOCUS_MODE.getName(), 1, FocusMode.AUTO.getName(), FocusMode.MANUAL.getName()));
+			advancedControllableProperties.add(createSwitch(ControlSkeletons.FOCUS_MODE, 1, FocusMode.AUTO.getName(), FocusMode.MANUAL.getName()));
 
 			// Populate focus near button
-			populateButtonControl(stats, advancedControllableProperties, Command.FOCUS.getName() + AverPTZConstants.HASH + Index.THREE.getName() + FocusControl.NEAR.getName(), AverPTZConstants.PLUS);
+			populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.FOCUS_NEAR, AverPTZConstants.PLUS);
 
 			// Populate focus far button
-			populateButtonControl(stats, advancedControllableProperties, Command.FOCUS.getName() + AverPTZConstants.HASH + Index.FOUR.getName() + FocusControl.FAR.getName(), AverPTZConstants.MINUS);
+			populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.FOCUS_FAR, AverPTZConstants.MINUS);
+
+			// Populate focus position numeric
+			populateNumericControl(stats, advancedControllableProperties, ControlSkeletons.FOCUS_POSITION, getFocusPosition());
 		}
 	}
 
@@ -786,46 +1532,38 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	private void populateAEControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
 		AEMode aeMode = this.getAEMode();
 		if (aeMode == null) {
-			stats.put(Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.AE_MODE.getName(), AverPTZConstants.NONE_VALUE);
+			stats.put(ControlSkeletons.AE_MODE, AverPTZConstants.NONE_VALUE);
 			return;
 		}
 
-		stats.put(Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.AE_MODE.getName(), aeMode.getName());
-
-		List<String> aeModeList = new ArrayList<>();
-		aeModeList.add(AEMode.FULL_AUTO.getName());
-		aeModeList.add(AEMode.IRIS_PRIORITY.getName());
-		aeModeList.add(AEMode.SHUTTER_PRIORITY.getName());
-		aeModeList.add(AEMode.MANUAL.getName());
+		stats.put(ControlSkeletons.AE_MODE, aeMode.getName());
 
-		advancedControllableProperties.add(createDropdown(Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.AE_MODE.getName(), aeModeList, aeMode.getName()));
-
-		// Getting auto slow shutter status
-		String autoSlowShutterStatus = getAutoSlowShutterStatus();
+		advancedControllableProperties.add(createDropdown(ControlSkeletons.AE_MODE, ControlSkeletons.getAEModeOptions(), aeMode.getName()));
 
 		switch (aeMode) {
 			case FULL_AUTO: {
 				// Populate backlight switch control
 				String backlightStatus = this.getBacklightStatus();
-				populateSwitchControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.BACKLIGHT.getName(), backlightStatus, BacklightStatus.OFF.getName(),
+				populateSwitchControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_BACKLIGHT, backlightStatus, BacklightStatus.OFF.getName(),
 						BacklightStatus.ON.getName());
 
 				// Populate exposure control
 				// Exposure value: -4 -> 4, Value on slider: 1 -> 9 => Value on slider = Exposure value + 5
 				String exposureValue = this.getExposureValue();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.EXP_COMP_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.EXP_COMP_CURRENT.getName(), exposureValue, AverPTZConstants.LABEL_START_EXPOSURE_VALUE, AverPTZConstants.LABEL_END_EXPOSURE_VALUE, AverPTZConstants.RANGE_START_EXPOSURE_VALUE,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_EXP_COMP_DIRECT,
+						ControlSkeletons.EXPOSURE_EXP_COMP_CURRENT, exposureValue, AverPTZConstants.LABEL_START_EXPOSURE_VALUE, AverPTZConstants.LABEL_END_EXPOSURE_VALUE, AverPTZConstants.RANGE_START_EXPOSURE_VALUE,
 						AverPTZConstants.RANGE_END_EXPOSURE_VALUE, Float.parseFloat(exposureValue) + 5);
 
 				// Populate gain limit control
 				// Gain limit level: 24, 27, 30,..., 48 -> Value in slider: (gain limit level - 24) /3
 				String gainLimitLevel = this.getGainLimitLevel();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_LIMIT_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_LIMIT_CURRENT.getName(), gainLimitLevel, AverPTZConstants.LABEL_START_GAIN_LIMIT_LEVEL, AverPTZConstants.LABEL_END_GAIN_LIMIT_LEVEL, AverPTZConstants.RANGE_START_GAIN_LIMIT_LEVEL,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_GAIN_LIMIT_DIRECT,
+						ControlSkeletons.EXPOSURE_GAIN_LIMIT_CURRENT, gainLimitLevel, AverPTZConstants.LABEL_START_GAIN_LIMIT_LEVEL, AverPTZConstants.LABEL_END_GAIN_LIMIT_LEVEL, AverPTZConstants.RANGE_START_GAIN_LIMIT_LEVEL,
 						AverPTZConstants.RANGE_END_GAIN_LIMIT_LEVEL, (Float.parseFloat(gainLimitLevel) - 24) / 3);
 
 				// Populate slow shutter control
-				populateSwitchControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.AUTO_SLOW_SHUTTER.getName(), autoSlowShutterStatus, SlowShutterStatus.OFF.getName(),
+				String autoSlowShutterStatus = this.getAutoSlowShutterStatus();
+				populateSwitchControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_AUTO_SLOW_SHUTTER, autoSlowShutterStatus, SlowShutterStatus.OFF.getName(),
 						SlowShutterStatus.ON.getName());
 				break;
 			}
@@ -833,21 +1571,21 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 				// Populate exposure control
 				// Exposure value: -4 -> 4, Value on slider: 1 -> 9 => Value on slider = Exposure value + 5
 				String exposureValue = this.getExposureValue();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.EXP_COMP_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.EXP_COMP_CURRENT.getName(), exposureValue, AverPTZConstants.LABEL_START_EXPOSURE_VALUE, AverPTZConstants.LABEL_END_EXPOSURE_VALUE, AverPTZConstants.RANGE_START_EXPOSURE_VALUE,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_EXP_COMP_DIRECT,
+						ControlSkeletons.EXPOSURE_EXP_COMP_CURRENT, exposureValue, AverPTZConstants.LABEL_START_EXPOSURE_VALUE, AverPTZConstants.LABEL_END_EXPOSURE_VALUE, AverPTZConstants.RANGE_START_EXPOSURE_VALUE,
 						AverPTZConstants.RANGE_END_EXPOSURE_VALUE, Float.parseFloat(exposureValue) + 5);
 
 				// Populate gain limit control
 				// Gain limit level: 24, 27, 30,..., 48 -> Value in slider: (gain limit level - 24) /3
 				String gainLimitLevel = this.getGainLimitLevel();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_LIMIT_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_LIMIT_CURRENT.getName(), gainLimitLevel, AverPTZConstants.LABEL_START_GAIN_LIMIT_LEVEL, AverPTZConstants.LABEL_END_GAIN_LIMIT_LEVEL, AverPTZConstants.RANGE_START_GAIN_LIMIT_LEVEL,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_GAIN_LIMIT_DIRECT,
+						ControlSkeletons.EXPOSURE_GAIN_LIMIT_CURRENT, gainLimitLevel, AverPTZConstants.LABEL_START_GAIN_LIMIT_LEVEL, AverPTZConstants.LABEL_END_GAIN_LIMIT_LEVEL, AverPTZConstants.RANGE_START_GAIN_LIMIT_LEVEL,
 						AverPTZConstants.RANGE_END_GAIN_LIMIT_LEVEL, (Float.parseFloat(gainLimitLevel) - 24) / 3);
 
 				// Populate shutter control
 				Entry<Integer, String> shutterSpeed = this.getShutterSpeed();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.SHUTTER_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.SHUTTER_CURRENT.getName(), shutterSpeed.getValue(), AverPTZConstants.LABEL_START_SHUTTER_SPEED, AverPTZConstants.LABEL_END_SHUTTER_SPEED, AverPTZConstants.RANGE_START_SHUTTER_SPEED,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_SHUTTER_DIRECT,
+						ControlSkeletons.EXPOSURE_SHUTTER_CURRENT, shutterSpeed.getValue(), AverPTZConstants.LABEL_START_SHUTTER_SPEED, AverPTZConstants.LABEL_END_SHUTTER_SPEED, AverPTZConstants.RANGE_START_SHUTTER_SPEED,
 						AverPTZConstants.RANGE_END_SHUTTER_SPEED, shutterSpeed.getKey().floatValue());
 				break;
 			}
@@ -855,45 +1593,46 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 				// Populate exposure control
 				// Exposure value: -4 -> 4, Value on slider: 1 -> 9 => Value on slider = Exposure value + 5
 				String exposureValue = this.getExposureValue();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.EXP_COMP_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.EXP_COMP_CURRENT.getName(), exposureValue, AverPTZConstants.LABEL_START_EXPOSURE_VALUE, AverPTZConstants.LABEL_END_EXPOSURE_VALUE, AverPTZConstants.RANGE_START_EXPOSURE_VALUE,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_EXP_COMP_DIRECT,
+						ControlSkeletons.EXPOSURE_EXP_COMP_CURRENT, exposureValue, AverPTZConstants.LABEL_START_EXPOSURE_VALUE, AverPTZConstants.LABEL_END_EXPOSURE_VALUE, AverPTZConstants.RANGE_START_EXPOSURE_VALUE,
 						AverPTZConstants.RANGE_END_EXPOSURE_VALUE, Float.parseFloat(exposureValue) + 5);
 
 				// Populate gain limit control
 				// Gain limit level: 24, 27, 30,..., 48 -> Value in slider: (gain limit level - 24) /3
 				String gainLimitLevel = this.getGainLimitLevel();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_LIMIT_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_LIMIT_CURRENT.getName(), gainLimitLevel, AverPTZConstants.LABEL_START_GAIN_LIMIT_LEVEL, AverPTZConstants.LABEL_END_GAIN_LIMIT_LEVEL, AverPTZConstants.RANGE_START_GAIN_LIMIT_LEVEL,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_GAIN_LIMIT_DIRECT,
+						ControlSkeletons.EXPOSURE_GAIN_LIMIT_CURRENT, gainLimitLevel, AverPTZConstants.LABEL_START_GAIN_LIMIT_LEVEL, AverPTZConstants.LABEL_END_GAIN_LIMIT_LEVEL, AverPTZConstants.RANGE_START_GAIN_LIMIT_LEVEL,
 						AverPTZConstants.RANGE_END_GAIN_LIMIT_LEVEL, (Float.parseFloat(gainLimitLevel) - 24) / 3);
 
 				// Populate slow shutter control
-				populateSwitchControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.AUTO_SLOW_SHUTTER.getName(), autoSlowShutterStatus, SlowShutterStatus.OFF.getName(),
+				String autoSlowShutterStatus = this.getAutoSlowShutterStatus();
+				populateSwitchControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_AUTO_SLOW_SHUTTER, autoSlowShutterStatus, SlowShutterStatus.OFF.getName(),
 						SlowShutterStatus.ON.getName());
 
 				// Populate iris control
 				Entry<Integer, String> irisLevel = this.getIrisLevel();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.IRIS_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.IRIS_CURRENT.getName(), irisLevel.getValue(), AverPTZConstants.LABEL_START_IRIS_LEVEL, AverPTZConstants.LABEL_END_IRIS_LEVEL, AverPTZConstants.RANGE_START_IRIS_LEVEL,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_IRIS_DIRECT,
+						ControlSkeletons.EXPOSURE_IRIS_CURRENT, irisLevel.getValue(), AverPTZConstants.LABEL_START_IRIS_LEVEL, AverPTZConstants.LABEL_END_IRIS_LEVEL, AverPTZConstants.RANGE_START_IRIS_LEVEL,
 						AverPTZConstants.RANGE_END_IRIS_LEVEL, irisLevel.getKey().floatValue());
 				break;
 			}
 			case MANUAL:
 				// Populate shutter control
 				Entry<Integer, String> shutterSpeed = this.getShutterSpeed();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.SHUTTER_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.SHUTTER_CURRENT.getName(), shutterSpeed.getValue(), AverPTZConstants.LABEL_START_SHUTTER_SPEED, AverPTZConstants.LABEL_END_SHUTTER_SPEED, AverPTZConstants.RANGE_START_SHUTTER_SPEED,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_SHUTTER_DIRECT,
+						ControlSkeletons.EXPOSURE_SHUTTER_CURRENT, shutterSpeed.getValue(), AverPTZConstants.LABEL_START_SHUTTER_SPEED, AverPTZConstants.LABEL_END_SHUTTER_SPEED, AverPTZConstants.RANGE_START_SHUTTER_SPEED,
 						AverPTZConstants.RANGE_END_SHUTTER_SPEED, shutterSpeed.getKey().floatValue());
 
 				// Populate gain control
 				String gainLevel = this.getGainLevel();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.GAIN_CURRENT.getName(), gainLevel, AverPTZConstants.LABEL_START_GAIN_LEVEL, AverPTZConstants.LABEL_END_GAIN_LEVEL, AverPTZConstants.RANGE_START_GAIN_LEVEL,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_GAIN_DIRECT,
+						ControlSkeletons.EXPOSURE_GAIN_CURRENT, gainLevel, AverPTZConstants.LABEL_START_GAIN_LEVEL, AverPTZConstants.LABEL_END_GAIN_LEVEL, AverPTZConstants.RANGE_START_GAIN_LEVEL,
 						AverPTZConstants.RANGE_END_GAIN_LEVEL, Float.parseFloat(gainLevel));
 
 				// Populate iris control
 				Entry<Integer, String> irisLevel = this.getIrisLevel();
-				populateSliderControl(stats, advancedControllableProperties, Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.IRIS_DIRECT.getName(),
-						Command.EXPOSURE.getName() + AverPTZConstants.HASH + Command.IRIS_CURRENT.getName(), irisLevel.getValue(), AverPTZConstants.LABEL_START_IRIS_LEVEL, AverPTZConstants.LABEL_END_IRIS_LEVEL, AverPTZConstants.RANGE_START_IRIS_LEVEL,
+				populateSliderControl(stats, advancedControllableProperties, ControlSkeletons.EXPOSURE_IRIS_DIRECT,
+						ControlSkeletons.EXPOSURE_IRIS_CURRENT, irisLevel.getValue(), AverPTZConstants.LABEL_START_IRIS_LEVEL, AverPTZConstants.LABEL_END_IRIS_LEVEL, AverPTZConstants.RANGE_START_IRIS_LEVEL,
 						AverPTZConstants.RANGE_END_IRIS_LEVEL, irisLevel.getKey().floatValue());
 				break;
 			default:
@@ -911,51 +1650,44 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 * @param advancedControllableProperties is the list that store all controllable properties
 	 */
 	private void populateWBControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		List<String> wbModeList = new ArrayList<>();
-		wbModeList.add(WBMode.AUTO.getName());
-		wbModeList.add(WBMode.INDOOR.getName());
-		wbModeList.add(WBMode.OUTDOOR.getName());
-		wbModeList.add(WBMode.ONE_PUSH_WB.getName());
-		wbModeList.add(WBMode.MANUAL.getName());
-
 		String wbMode = this.getWBMode();
 
-		stats.put(Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.ONE.getName() + Command.WB_MODE.getName(), wbMode);
-		advancedControllableProperties.add(createDropdown(Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.ONE.getName() + Command.WB_MODE.getName(), wbModeList, wbMode));
+		stats.put(ControlSkeletons.WB_MODE, wbMode);
+		advancedControllableProperties.add(createDropdown(ControlSkeletons.WB_MODE, ControlSkeletons.getWBModeOptions(), wbMode));
 
 		if (Objects.equals(WBMode.MANUAL.getName(), wbMode)) {
 			String rGainValue = this.getRGain();
 			String bGainValue = this.getBGain();
 
 			if (Objects.equals(bGainValue, AverPTZConstants.NONE_VALUE)) {
-				stats.put(Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.TWO.getName() + Command.BGAIN_INQ.getName(), AverPTZConstants.NONE_VALUE);
+				stats.put(ControlSkeletons.IMAGE_PROCESS_BGAIN_INQ, AverPTZConstants.NONE_VALUE);
 			} else {
-				stats.put(Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.TWO.getName() + Command.BGAIN_INQ.getName(), bGainValue);
+				stats.put(ControlSkeletons.IMAGE_PROCESS_BGAIN_INQ, bGainValue);
 			}
 
 			if (Objects.equals(rGainValue, AverPTZConstants.NONE_VALUE)) {
-				stats.put(Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.THREE.getName() + Command.RGAIN_INQ.getName(), AverPTZConstants.NONE_VALUE);
+				stats.put(ControlSkeletons.IMAGE_PROCESS_RGAIN_INQ_UNKNOWN, AverPTZConstants.NONE_VALUE);
 			} else {
-				stats.put(Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.FIVE.getName() + Command.RGAIN_INQ.getName(), rGainValue);
+				stats.put(ControlSkeletons.IMAGE_PROCESS_RGAIN_INQ, rGainValue);
 			}
 
 			// Populate BGain up button
-			populateButtonControl(stats, advancedControllableProperties, Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.THREE.getName() + Command.BGAIN.getName() + BGainControl.UP.getName(),
+			populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.IMAGE_PROCESS_BGAIN_UP,
 					BGainControl.UP.getName());
 			// Populate BGain down button
-			populateButtonControl(stats, advancedControllableProperties, Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.FOUR.getName() + Command.BGAIN.getName() + BGainControl.DOWN.getName(),
+			populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.IMAGE_PROCESS_BGAIN_DOWN,
 					BGainControl.DOWN.getName());
 
 			// Populate RGain up button
-			populateButtonControl(stats, advancedControllableProperties, Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.SIX.getName() + Command.RGAIN.getName() + RGainControl.UP.getName(),
+			populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.IMAGE_PROCESS_RGAIN_UP,
 					RGainControl.UP.getName());
 			// Populate RGain down button
-			populateButtonControl(stats, advancedControllableProperties, Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.SEVEN.getName() + Command.RGAIN.getName() + RGainControl.DOWN.getName(),
+			populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.IMAGE_PROCESS_RGAIN_DOWN,
 					RGainControl.DOWN.getName());
 
 		} else if (Objects.equals(WBMode.ONE_PUSH_WB.getName(), wbMode)) {
 			// Populate one push WB button
-			populateButtonControl(stats, advancedControllableProperties, Command.IMAGE_PROCESS.getName() + AverPTZConstants.HASH + Index.TWO.getName() + Command.WB_ONE_PUSH_TRIGGER.getName(),
+			populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.WB_ONE_PUSH_TRIGGER,
 					Command.WB_ONE_PUSH_TRIGGER.getName());
 		}
 	}
@@ -972,27 +1704,38 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	private void populatePanTiltControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
 		// Populate slow pan tilt switch
 		String slowPanTiltStatus = getSlowPanTiltStatus();
-		populateSwitchControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.ZERO.getName() + Command.SLOW_PAN_TILT.getName(), slowPanTiltStatus,
+		populateSwitchControl(stats, advancedControllableProperties, ControlSkeletons.SLOW_PAN_TILT, slowPanTiltStatus,
 				SlowPanTiltStatus.OFF.getName(), SlowPanTiltStatus.ON.getName());
 
 		// Populate pan tilt drive home button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.ONE.getName() + Command.PAN_TILT_HOME.getName(), Command.PAN_TILT_HOME.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_HOME, Command.PAN_TILT_HOME.getName());
 		// Populate pan tilt drive up button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.TWO.getName() + PanTiltDrive.UP.getName(), PanTiltDrive.UP.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_UP, PanTiltDrive.UP.getName());
 		// Populate pan tilt drive down button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.THREE.getName() + PanTiltDrive.DOWN.getName(), PanTiltDrive.DOWN.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_DOWN, PanTiltDrive.DOWN.getName());
 		// Populate pan tilt drive left button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.FOUR.getName() + PanTiltDrive.LEFT.getName(), PanTiltDrive.LEFT.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_LEFT, PanTiltDrive.LEFT.getName());
 		// Populate pan tilt drive right button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.FIVE.getName() + PanTiltDrive.RIGHT.getName(), PanTiltDrive.RIGHT.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_RIGHT, PanTiltDrive.RIGHT.getName());
 		// Populate pan tilt drive up left button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.SIX.getName() + PanTiltDrive.UP_LEFT.getName(), PanTiltDrive.UP_LEFT.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_UP_LEFT, PanTiltDrive.UP_LEFT.getName());
 		// Populate pan tilt drive up right button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.SEVEN.getName() + PanTiltDrive.UP_RIGHT.getName(), PanTiltDrive.UP_RIGHT.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_UP_RIGHT, PanTiltDrive.UP_RIGHT.getName());
 		// Populate pan tilt drive down left button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.EIGHT.getName() + PanTiltDrive.DOWN_LEFT.getName(), PanTiltDrive.DOWN_LEFT.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_DOWN_LEFT, PanTiltDrive.DOWN_LEFT.getName());
 		// Populate pan tilt drive down right button
-		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + AverPTZConstants.HASH + Index.NINE.getName() + PanTiltDrive.DOWN_RIGHT.getName(), PanTiltDrive.DOWN_RIGHT.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PAN_TILT_DRIVE_DOWN_RIGHT, PanTiltDrive.DOWN_RIGHT.getName());
+
+		// Populate pan and tilt absolute position numerics
+		PanTiltPosition panTiltPosition = getPanTiltPosition();
+		populateNumericControl(stats, advancedControllableProperties, ControlSkeletons.PAN_POSITION,
+				panTiltPosition == null ? AverPTZConstants.NONE_VALUE : String.valueOf(panTiltPosition.getPan()));
+		populateNumericControl(stats, advancedControllableProperties, ControlSkeletons.TILT_POSITION,
+				panTiltPosition == null ? AverPTZConstants.NONE_VALUE : String.valueOf(panTiltPosition.getTilt()));
+
+		// Populate pan and tilt relative move numerics, the value is the step of the next move
+		populateNumericControl(stats, advancedControllableProperties, ControlSkeletons.PAN_RELATIVE, "0");
+		populateNumericControl(stats, advancedControllableProperties, ControlSkeletons.TILT_RELATIVE, "0");
 	}
 
 	/**
@@ -1003,25 +1746,18 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private void populatePresetControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
 		// Populate switch preset to select
-		List<String> presetList = new ArrayList<>();
-		presetList.add(AverPTZConstants.DEFAULT_PRESET);
-
-		for (int i = 0; i <= 255; ++i) {
-			presetList.add(String.valueOf(i));
-		}
-
 		String presetValue = currentPreset == -1 ? AverPTZConstants.DEFAULT_PRESET : String.valueOf(currentPreset);
 
-		stats.put(Command.PRESET.getName() + AverPTZConstants.HASH + Index.TWO.getName() + PresetControl.PRESET_VALUE.getName(), presetValue);
-		advancedControllableProperties.add(createDropdown(Command.PRESET.getName() + AverPTZConstants.HASH + Index.TWO.getName() + PresetControl.PRESET_VALUE.getName(), presetList, presetValue));
+		stats.put(ControlSkeletons.PRESET_VALUE, presetValue);
+		advancedControllableProperties.add(createDropdown(ControlSkeletons.PRESET_VALUE, ControlSkeletons.getPresetOptions(), presetValue));
 
-		stats.put(Command.PRESET.getName() + AverPTZConstants.HASH + Index.ONE.getName() + PresetControl.LAST_PRESET_RECALLED.getName(), this.getLastPresetRecalled());
+		stats.put(ControlSkeletons.LAST_PRESET_RECALLED, this.getLastPresetRecalled());
 
 		// Populate set preset button
-		populateButtonControl(stats, advancedControllableProperties, Command.PRESET.getName() + AverPTZConstants.HASH + Index.THREE.getName() + PresetControl.SET.getName(), PresetControl.SET.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PRESET_SET, PresetControl.SET.getName());
 
 		// Populate recall preset button
-		populateButtonControl(stats, advancedControllableProperties, Command.PRESET.getName() + AverPTZConstants.HASH + Index.FOUR.getName() + PresetControl.RECALL.getName(), PresetControl.RECALL.getName());
+		populateButtonControl(stats, advancedControllableProperties, ControlSkeletons.PRESET_RECALL, PresetControl.RECALL.getName());
 	}
 
 	/**
@@ -1078,6 +1814,22 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		}
 	}
 
+	/**
+	 * This method is used for populate numeric control
+	 *
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 * @param propertyName is the property name of numeric control
+	 * @param propertyValue is the current value of numeric control
+	 */
+	private void populateNumericControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String propertyName,
+			String propertyValue) {
+		stats.put(propertyName, propertyValue);
+		if (!Objects.equals(propertyValue, AverPTZConstants.NONE_VALUE)) {
+			advancedControllableProperties.add(createNumeric(propertyName, propertyValue));
+		}
+	}
+
 	/**
 	 * This method is used for populate button control
 	 *
@@ -1103,11 +1855,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getLastPresetRecalled() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.PRESET.getCode()));
-
-			return String.valueOf(digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.PRESET));
+			return String.valueOf(pollState(PayloadCategory.CAMERA, Command.PRESET, Integer.class, ReplyDecoder::decodeUnsignedByte));
 		} catch (Exception e) {
 			this.logger.error("error during get last preset recalled send", e);
 		}
@@ -1121,11 +1869,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getPowerStatus() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode()));
-
-			PowerStatus status = (PowerStatus) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.POWER);
+			PowerStatus status = pollState(PayloadCategory.CAMERA, Command.POWER, PowerStatus.class, ReplyDecoder::decodePowerStatus);
 
 			if (status == null) {
 				return PowerStatus.OFF.getName();
@@ -1145,11 +1889,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getFocusStatus() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.FOCUS_MODE.getCode()));
-
-			FocusMode mode = (FocusMode) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.FOCUS_MODE);
+			FocusMode mode = pollState(PayloadCategory.CAMERA, Command.FOCUS_MODE, FocusMode.class, ReplyDecoder::decodeFocusMode);
 
 			if (mode == null) {
 				return FocusMode.AUTO.getName();
@@ -1169,11 +1909,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getBacklightStatus() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.BACKLIGHT.getCode()));
-
-			BacklightStatus status = (BacklightStatus) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.BACKLIGHT);
+			BacklightStatus status = pollState(PayloadCategory.CAMERA, Command.BACKLIGHT, BacklightStatus.class, ReplyDecoder::decodeBacklightStatus);
 
 			if (status == null) {
 				return BacklightStatus.OFF.getName();
@@ -1193,11 +1929,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private AEMode getAEMode() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.AE_MODE.getCode()));
-
-			AEMode mode = (AEMode) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.AE_MODE);
+			AEMode mode = pollState(PayloadCategory.CAMERA, Command.AE_MODE, AEMode.class, ReplyDecoder::decodeAEMode);
 
 			if (mode == null) {
 				return AEMode.FULL_AUTO;
@@ -1217,11 +1949,8 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getExposureValue() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.EXP_COMP_DIRECT.getCode()));
 			// Exposure value: -4 -> 4, Value get from device: 1 -> 9 => Exposure value = value from device - 5
-			return String.valueOf((int) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.EXP_COMP_DIRECT) - 5);
+			return String.valueOf(pollState(PayloadCategory.CAMERA, Command.EXP_COMP_DIRECT, Integer.class, ReplyDecoder::decodeFourBitValue) - 5);
 		} catch (Exception e) {
 			this.logger.error("error during get exposure value", e);
 		}
@@ -1236,11 +1965,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private Entry<Integer, String> getShutterSpeed() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.SHUTTER_DIRECT.getCode()));
-
-			int index = (int) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.SHUTTER_DIRECT);
+			int index = pollState(PayloadCategory.CAMERA, Command.SHUTTER_DIRECT, Integer.class, ReplyDecoder::decodeFourBitValue);
 
 			return new SimpleEntry<>(index, AverPTZConstants.SHUTTER_VALUES.get(index));
 		} catch (Exception e) {
@@ -1257,11 +1982,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private Entry<Integer, String> getIrisLevel() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.IRIS_DIRECT.getCode()));
-
-			int index = (int) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.IRIS_DIRECT);
+			int index = pollState(PayloadCategory.CAMERA, Command.IRIS_DIRECT, Integer.class, ReplyDecoder::decodeFourBitValue);
 			return new SimpleEntry<>(index, AverPTZConstants.IRIS_LEVELS.get(index));
 		} catch (Exception e) {
 			this.logger.error("error during get iris level", e);
@@ -1276,11 +1997,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getGainLevel() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.GAIN_DIRECT.getCode()));
-
-			return String.valueOf(digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.GAIN_DIRECT));
+			return String.valueOf(pollState(PayloadCategory.CAMERA, Command.GAIN_DIRECT, Integer.class, ReplyDecoder::decodeFourBitValue));
 		} catch (Exception e) {
 			this.logger.error("error during get gain level", e);
 		}
@@ -1294,11 +2011,8 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getGainLimitLevel() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.GAIN_LIMIT_DIRECT.getCode()));
 			// Gain limit level: 24, 27, ... , 48. Value get from device: 0,1, ... , 8 => gain limit level = (value from device + 24 ) * 3
-			return String.valueOf(24 + (int) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.GAIN_LIMIT_DIRECT) * 3);
+			return String.valueOf(24 + pollState(PayloadCategory.CAMERA, Command.GAIN_LIMIT_DIRECT, Integer.class, ReplyDecoder::decodeUnsignedByte) * 3);
 		} catch (Exception e) {
 			this.logger.error("error during get gain limit level", e);
 		}
@@ -1312,11 +2026,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getWBMode() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.WB_MODE.getCode()));
-
-			WBMode mode = (WBMode) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.WB_MODE);
+			WBMode mode = pollState(PayloadCategory.CAMERA, Command.WB_MODE, WBMode.class, ReplyDecoder::decodeWBMode);
 
 			if (mode == null) {
 				return WBMode.MANUAL.getName();
@@ -1336,11 +2046,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getRGain() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.RGAIN_INQ.getCode()));
-
-			return String.valueOf(digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.RGAIN_INQ));
+			return String.valueOf(pollState(PayloadCategory.CAMERA, Command.RGAIN_INQ, Integer.class, ReplyDecoder::decodeFourBitValue));
 
 		} catch (Exception e) {
 			this.logger.error("error during get RGain value", e);
@@ -1355,11 +2061,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getBGain() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.BGAIN_INQ.getCode()));
-
-			return String.valueOf(digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.BGAIN_INQ));
+			return String.valueOf(pollState(PayloadCategory.CAMERA, Command.BGAIN_INQ, Integer.class, ReplyDecoder::decodeFourBitValue));
 
 		} catch (Exception e) {
 			this.logger.error("error during get BGain value", e);
@@ -1368,17 +2070,55 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	}
 
 	/**
-	 * This method is used to get the current display current slow pan tilt status
+	 * This method is used to get the current display zoom position
+	 *
+	 * @return String This returns the zoom position
+	 */
+	private String getZoomPosition() {
+		try {
+			return String.valueOf(pollState(PayloadCategory.CAMERA, Command.ZOOM_DIRECT, Integer.class, ReplyDecoder::decodePosition));
+		} catch (Exception e) {
+			this.logger.error("error during get zoom position", e);
+		}
+		return AverPTZConstants.NONE_VALUE;
+	}
+
+	/**
+	 * This method is used to get the current display focus position
+	 *
+	 * @return String This returns the focus position
+	 */
+	private String getFocusPosition() {
+		try {
+			return String.valueOf(pollState(PayloadCategory.CAMERA, Command.FOCUS_DIRECT, Integer.class, ReplyDecoder::decodePosition));
+		} catch (Exception e) {
+			this.logger.error("error during get focus position", e);
+		}
+		return AverPTZConstants.NONE_VALUE;
+	}
+
+	/**
+	 * This method is used to get the current pan tilt position
+	 *
+	 * @return PanTiltPosition This returns the pan tilt position, null if it cannot be read
+	 */
+	private PanTiltPosition getPanTiltPosition() {
+		try {
+			return pollState(PayloadCategory.PAN_TILTER, Command.PAN_TILT_POSITION, PanTiltPosition.class, ReplyDecoder::decodePanTiltPosition);
+		} catch (Exception e) {
+			this.logger.error("error during get pan tilt position", e);
+		}
+		return null;
+	}
+
+	/**
+	 * This method is used to get the current display slow pan tilt status
 	 *
 	 * @return String This returns the slow pan tilt status
 	 */
 	private String getSlowPanTiltStatus() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.PAN_TILTER.getCode(), Command.SLOW_PAN_TILT.getCode()));
-
-			SlowPanTiltStatus status = (SlowPanTiltStatus) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.SLOW_PAN_TILT);
+			SlowPanTiltStatus status = pollState(PayloadCategory.PAN_TILTER, Command.SLOW_PAN_TILT, SlowPanTiltStatus.class, ReplyDecoder::decodeSlowPanTiltStatus);
 
 			if (status == null) {
 				return SlowPanTiltStatus.OFF.getName();
@@ -1398,11 +2138,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	private String getAutoSlowShutterStatus() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.AUTO_SLOW_SHUTTER.getCode()));
-
-			SlowShutterStatus status = (SlowShutterStatus) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.AUTO_SLOW_SHUTTER);
+			SlowShutterStatus status = pollState(PayloadCategory.CAMERA, Command.AUTO_SLOW_SHUTTER, SlowShutterStatus.class, ReplyDecoder::decodeSlowShutterStatus);
 
 			if (status == null) {
 				return SlowShutterStatus.OFF.getName();
@@ -1415,12 +2151,190 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 		return AverPTZConstants.NONE_VALUE;
 	}
 
+	/**
+	 * This method is used to get a field of the camera state, the inquiry is sent only if the field is due according to its polling tier
+	 *
+	 * @param payloadCategory is the category of payload of the inquiry
+	 * @param command is the inquiry command
+	 * @param type is the type of the field
+	 * @param decoder is the decoder of the reply
+	 * @return T This returns the value of the field, null if the device replied an unknown value
+	 */
+	private <T> T pollState(PayloadCategory payloadCategory, Command command, Class<T> type, Function<byte[], T> decoder) throws Exception {
+		long now = System.currentTimeMillis();
+		if (!pollingScheduler.isDue(command, now)) {
+			pollingScheduler.countSaved();
+			return cameraState.getValue(command, type);
+		}
+
+		T value = decoder.apply(inquire(payloadCategory, command));
+		pollingScheduler.countSent();
+		cameraState.setValue(command, value, now);
+
+		return value;
+	}
+
+	/**
+	 * This method is used to send an inquiry and check its reply
+	 * If the inquiry was sent in the pipelined batch of the current cycle, its reply is used instead of sending it again.
+	 *
+	 * @param payloadCategory is the category of payload of the inquiry
+	 * @param command is the inquiry command
+	 * @return byte[] This returns the reply of the inquiry, to be read with {@link ReplyDecoder}
+	 */
+	private byte[] inquire(PayloadCategory payloadCategory, Command command) throws Exception {
+		Entry<Integer, byte[]> pipelinedReply = pipelinedReplies.remove(command);
+		if (pipelinedReply != null) {
+			checkReply(pipelinedReply.getValue(), pipelinedReply.getKey());
+			return pipelinedReply.getValue();
+		}
+
+		return sendInquiry(payloadCategory, command, Lane.INQUIRY);
+	}
+
+	/**
+	 * This method is used to send an inquiry in its turn and check its reply
+	 * An inquiry rejected with COMMAND_BUFFER_FULL or NO_SOCKET gives up its turn and is sent again once the flow control gate is open.
+	 *
+	 * @param payloadCategory is the category of payload of the inquiry
+	 * @param command is the inquiry command
+	 * @param lane is the lane of the sender, INTERACTIVE for inquiries needed by a control
+	 * @return byte[] This returns the reply of the inquiry
+	 */
+	private byte[] sendInquiry(PayloadCategory payloadCategory, Command command, Lane lane) throws Exception {
+		for (int attempt = 0; ; attempt++) {
+			acquireTurn(lane);
+			try {
+				int currentSeqNum = nextSequenceNumber();
+				byte[] request = PacketTemplateCache.forCamera(cameraIDInt).buildInquiry(currentSeqNum, payloadCategory, command);
+				byte[] response = send(request);
+
+				if (!isSentAgain(request, response, attempt)) {
+					checkReply(response, currentSeqNum);
+					return response;
+				}
+			} finally {
+				commandScheduler.release();
+			}
+		}
+	}
+
+	/**
+	 * This method is used to send inquiries back-to-back when the pipeline window is greater than 1
+	 * Successful replies are kept for {@link #inquire(PayloadCategory, Command)}, failed ones are sent again one by one.
+	 *
+	 * @param commands are the inquiry commands to be sent
+	 */
+	private void sendPipelinedInquiries(List<Command> commands) {
+		if (this.getPipelineWindow() <= 1 || commands.isEmpty()) {
+			return;
+		}
+
+		// The batch is one turn, controls waiting for the device are sent between batches
+		acquireTurn(Lane.INQUIRY);
+		try {
+			InquiryBatch batch = new InquiryBatch();
+			addDueInquiries(batch, commands);
+			if (!batch.isEmpty()) {
+				batch.complete(sendPipelined(batch.getPackets()));
+			}
+		} catch (Exception e) {
+			this.logger.error("error during pipelined inquiries send", e);
+		} finally {
+			commandScheduler.release();
+		}
+	}
+
+	/**
+	 * This method is used to add the due inquiries of the camera to a pipelined batch
+	 * Inquiries which already have a reply in the current cycle are skipped.
+	 *
+	 * @param batch is the batch receiving the inquiries
+	 * @param commands are the inquiry commands of the cycle
+	 */
+	void addDueInquiries(InquiryBatch batch, List<Command> commands) {
+		PacketTemplateCache packetTemplates = PacketTemplateCache.forCamera(cameraIDInt);
+		long now = System.currentTimeMillis();
+		for (Command command : commands) {
+			if (pollingScheduler.isDue(command, now) && !pipelinedReplies.containsKey(command)) {
+				int currentSeqNum = nextSequenceNumber();
+				batch.add(pipelinedReplies, command, currentSeqNum, packetTemplates.buildInquiry(currentSeqNum, getInquiryCategory(command), command));
+			}
+		}
+	}
+
+	/**
+	 * This method is used to get the sequence number of the next packet, it restarts from 1 after the max value of integer
+	 * On a shared transport the sequence numbers are allocated by the registry so the replies of the other adapters of the camera are not mixed up.
+	 *
+	 * @return int This returns the sequence number
+	 */
+	protected synchronized int nextSequenceNumber() {
+		if (isSharedTransport()) {
+			return nextSharedSequenceNumber();
+		}
+		if (sequenceNumber == Integer.MAX_VALUE) {
+			sequenceNumber = 0;
+		}
+		return ++sequenceNumber;
+	}
+
+	/**
+	 * This method is used to get a field from its pipelined reply or from the camera state without sending an inquiry
+	 * The pipelined reply is kept for the getter of the field.
+	 *
+	 * @param command is the inquiry command
+	 * @param type is the type of the field
+	 * @param decoder is the decoder of the reply
+	 * @return T This returns the value of the field, null if unknown
+	 */
+	private <T> T peekState(Command command, Class<T> type, Function<byte[], T> decoder) {
+		Entry<Integer, byte[]> pipelinedReply = pipelinedReplies.get(command);
+		if (pipelinedReply != null && ReplyMatcher.match(pipelinedReply.getValue()) == ReplyType.INQUIRY_REPLY) {
+			return decoder.apply(pipelinedReply.getValue());
+		}
+		return cameraState.getValue(command, type);
+	}
+
+	/**
+	 * This method is used to get the payload category of an inquiry
+	 *
+	 * @param command is the inquiry command
+	 * @return PayloadCategory This returns the payload category of the inquiry
+	 */
+	private static PayloadCategory getInquiryCategory(Command command) {
+		return command == Command.SLOW_PAN_TILT || command == Command.PAN_TILT_POSITION ? PayloadCategory.PAN_TILTER : PayloadCategory.CAMERA;
+	}
+
 	//--------------------------------------------------------------------------------------------------------------------------------
 	//endregion
 
+	/**
+	 * {@inheritdoc}
+	 * This method is used to share the flow control gate with the other adapters of the camera
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		super.internalInit();
+		flowControlGate = TransportRegistry.getInstance().getFlowControlGate(TransportRegistry.endpoint(this.getHost(), this.getPort()));
+	}
+
+	/**
+	 * {@inheritdoc}
+	 * This method is used to stop the background poller before the channel is closed
+	 */
+	@Override
+	protected void internalDestroy() {
+		stopBackgroundPoller();
+		stopJogTimer();
+		super.internalDestroy();
+	}
+
 	/**
 	 * {@inheritdoc}
 	 * This method is used to send command to device
+	 * A COMMAND_BUFFER_FULL or NO_SOCKET reply closes the flow control gate and is returned, the sender sends the command again
+	 * once the gate is open, see {@link #isSentAgain(byte[], byte[], int)}. Nothing waits here, the turn and the channel are free meanwhile.
 	 *
 	 * @param outputData This is a byte array of command to be sent
 	 * @return byte[] This returns the response receive from device
@@ -1436,7 +2350,85 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 			return AverPTZConstants.FAKE_COMPLETION;
 		}
 
-		return this.read(outputData);
+		byte[] response = this.read(outputData);
+		if (ReplyMatcher.isFlowControl(response)) {
+			getFlowControlGate().reject();
+		} else {
+			getFlowControlGate().release();
+		}
+		return response;
+	}
+
+	/**
+	 * {@inheritdoc}
+	 * A COMMAND_BUFFER_FULL or NO_SOCKET reply in the batch closes the flow control gate, the sender waited for it before its turn.
+	 */
+	@Override
+	protected List<byte[]> sendPipelined(List<byte[]> packets, int window) throws Exception {
+		List<byte[]> replies = super.sendPipelined(packets, window);
+
+		boolean rejected = false;
+		boolean accepted = false;
+		for (byte[] reply : replies) {
+			if (ReplyMatcher.isFlowControl(reply)) {
+				rejected = true;
+			} else if (reply != null) {
+				accepted = true;
+			}
+		}
+		if (rejected) {
+			getFlowControlGate().reject();
+		} else if (accepted) {
+			getFlowControlGate().release();
+		}
+		return replies;
+	}
+
+	/**
+	 * This method is used to wait until the camera can accept a command again
+	 * It is called before the turn and the channel are taken, so the other senders are not held while the camera is busy.
+	 *
+	 * @throws IllegalStateException if the thread is interrupted while waiting
+	 */
+	void awaitFlowControl() {
+		try {
+			getFlowControlGate().awaitOpen();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a free command buffer of " + this.getHost(), e);
+		}
+	}
+
+	/**
+	 * This method is used to wait for the turn of a sender once the flow control gate is open
+	 *
+	 * @param lane This is the lane of the sender
+	 */
+	private void acquireTurn(Lane lane) {
+		awaitFlowControl();
+		commandScheduler.acquire(lane);
+	}
+
+	/**
+	 * This method is used to check if a request rejected by the flow control of the camera has to be sent again
+	 *
+	 * @param request This is the request sent
+	 * @param response This is the reply of the request
+	 * @param attempt This is the number of times the request was already sent again
+	 * @return boolean This returns true if the request was rejected and has to be sent again in the next turn
+	 * @throws CommandFailureException if the request was rejected {@link AverPTZConstants#FLOW_CONTROL_RETRIES} times already
+	 */
+	private boolean isSentAgain(byte[] request, byte[] response, int attempt) {
+		if (!ReplyMatcher.isFlowControl(response)) {
+			return false;
+		}
+		if (attempt >= AverPTZConstants.FLOW_CONTROL_RETRIES) {
+			throw new CommandFailureException(this.getHost(), getHexByteString(request), getHexByteString(response));
+		}
+		if (this.logger.isDebugEnabled()) {
+			this.logger.debug("Camera busy, reply " + getHexByteString(response) + " from: " + this.getHost() + ", command sent again when the camera is free");
+		}
+		return true;
 	}
 
 	/**
@@ -1448,79 +2440,76 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 */
 	@Override
 	protected byte[] read(byte[] command) throws IOException {
-		String responseString;
 		boolean hasACK = false;
 		byte[] response;
 
 		do {
 			response = super.read(command);
-			responseString = getHexByteString(response);
 
 			// If this is ACK packet, need to save to the flag to check done reading
-			if (responseString.endsWith(getHexByteString(ReplyStatus.ACK.getCode()))) {
+			if (ReplyMatcher.match(response) == ReplyType.ACK) {
 				hasACK = true;
 			}
 
-		} while (!doneReading(command, responseString, hasACK));
+			// The command was not accepted, it is sent again by the sender in its next turn
+			if (!hasACK && ReplyMatcher.isFlowControl(response)) {
+				return response;
+			}
+
+		} while (!doneReading(command, response, hasACK));
 
 		return response;
 	}
 
+	/**
+	 * {@inheritdoc}
+	 * ACK is followed by COMPLETION or an error, every other reply is final
+	 */
+	@Override
+	protected boolean isFinalReply(byte[] packet, byte[] reply) {
+		return ReplyMatcher.match(reply) != ReplyType.ACK;
+	}
+
 	/**
 	 * This method is used to check when done reading
 	 *
 	 * @param command This is a command parameter for method read executed before throw error (if it has ACK)
-	 * @param responseString This is a string represented for response to be checked
+	 * @param response This is the response to be checked
 	 * @param hasACK This is a boolean value to check if it has ACK packet or not (ACK -> ERROR -> COMPLETION, if it has error, need to read COMPLETION packet left)
 	 * @return boolean This is a boolean value return if done reading or not
 	 */
-	public boolean doneReading(byte[] command, String responseString, boolean hasACK) throws CommandFailureException, IOException {
-		String commandString = getHexByteString(command);
-		Iterator<String> iterator = this.getCommandErrorList().iterator();
-
-		String string;
-		do {
-			if (!iterator.hasNext()) {
-				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-				outputStream.write(Prefix.PAYLOAD_TYPE.getPrefixCode());
-				outputStream.write(PayloadType.INQUIRY.getCode());
-
-				// If type is INQUIRY command, just need to check command error list
-				if (commandString.startsWith(getHexByteString(outputStream.toByteArray()))) {
-					this.logger.trace("Done reading, found inquiry packet reply from: " + this.getHost() + " port: " + this.getPort());
-					return true;
-				}
-
-				iterator = this.getCommandSuccessList().iterator();
-
-				do {
-					if (!iterator.hasNext()) {
-						return false;
-					}
-
-					string = iterator.next();
-				} while (!responseString.endsWith(string));
+	public boolean doneReading(byte[] command, byte[] response, boolean hasACK) throws CommandFailureException, IOException {
+		ReplyType replyType = ReplyMatcher.match(response);
 
-				if (this.logger.isTraceEnabled()) {
-					this.logger.trace("Done reading, found success string: " + string + " from: " + this.getHost() + " port: " + this.getPort());
-				}
+		if (replyType == ReplyType.ERROR) {
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Done reading, found error string: " + getHexByteString(ReplyMatcher.matchError(response).getCode()) + " from: " + this.getHost() + " port: "
+						+ this.getPort());
+			}
 
-				return true;
+			// if it has ACK packet first -> Error packet, 1 Completion packet left to receive from Device
+			if (hasACK) {
+				super.read(command);
 			}
 
-			string = iterator.next();
-		} while (!responseString.endsWith(string));
+			throw new CommandFailureException(this.getHost(), getHexByteString(command), getHexByteString(response));
+		}
 
-		if (this.logger.isTraceEnabled()) {
-			this.logger.trace("Done reading, found error string: " + string + " from: " + this.getHost() + " port: " + this.getPort());
+		// If type is INQUIRY command, just need to check command error list
+		if (ReplyMatcher.isInquiry(command)) {
+			this.logger.trace("Done reading, found inquiry packet reply from: " + this.getHost() + " port: " + this.getPort());
+			return true;
 		}
 
-		// if it has ACK packet first -> Error packet, 1 Completion packet left to receive from Device
-		if (hasACK) {
-			super.read(command);
+		if (replyType == ReplyType.COMPLETION) {
+			if (this.logger.isTraceEnabled()) {
+				this.logger.trace("Done reading, found success string: " + getHexByteString(ReplyStatus.COMPLETION.getCode()) + " from: " + this.getHost() + " port: "
+						+ this.getPort());
+			}
+			return true;
 		}
 
-		throw new CommandFailureException(this.getHost(), commandString, responseString);
+		return false;
 	}
 
 	/**
@@ -1533,97 +2522,69 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 * @return Object This returns the result digested from the response.
 	 */
 	public Object digestResponse(byte[] response, int sequenceNum, CommandType commandType, Command expectedCommand) {
+		checkReply(response, sequenceNum);
 
-		if (response[1] == PayloadType.REPLY.getCode()) {
-			byte[] responseSeqNum = Arrays.copyOfRange(response, 4, 8);
-			byte[] expectedSeqNum = convertIntToByteArray(sequenceNum);
+		if (commandType == CommandType.COMMAND) {
+			if (!ReplyDecoder.isCompletion(response)) {
+				this.logger.error("error: Unexpected completion packet: " + this.host + " port: " + this.port);
+				throw new IllegalStateException("Unexpected completion packet");
+			}
+		} else if (commandType == CommandType.INQUIRY) {
+			switch (expectedCommand) {
+				case POWER:
+					return ReplyDecoder.decodePowerStatus(response);
+				case FOCUS_MODE:
+					return ReplyDecoder.decodeFocusMode(response);
+				case AE_MODE:
+					return ReplyDecoder.decodeAEMode(response);
+				case AUTO_SLOW_SHUTTER:
+					return ReplyDecoder.decodeSlowShutterStatus(response);
+				case SHUTTER_DIRECT:
+				case IRIS_DIRECT:
+				case GAIN_DIRECT:
+				case EXP_COMP_DIRECT:
+				case RGAIN_INQ:
+				case BGAIN_INQ:
+					return ReplyDecoder.decodeFourBitValue(response);
+				case GAIN_LIMIT_DIRECT:
+				case PRESET:
+					return ReplyDecoder.decodeUnsignedByte(response);
+				case BACKLIGHT:
+					return ReplyDecoder.decodeBacklightStatus(response);
+				case WB_MODE:
+					return ReplyDecoder.decodeWBMode(response);
+				case SLOW_PAN_TILT:
+					return ReplyDecoder.decodeSlowPanTiltStatus(response);
+				case ZOOM_DIRECT:
+				case FOCUS_DIRECT:
+					return ReplyDecoder.decodePosition(response);
+				case PAN_TILT_POSITION:
+					return ReplyDecoder.decodePanTiltPosition(response);
+				default:
+					throw new IllegalStateException("Unexpected command: " + expectedCommand);
+			}
+		}
 
-			if (Arrays.equals(expectedSeqNum, responseSeqNum)) {
-				int payloadLength = response[3];
-				byte[] reply = Arrays.copyOfRange(response, 8, 8 + payloadLength);
-				byte currentValue = reply[2];
+		return null;
+	}
 
-				if (commandType == CommandType.COMMAND) {
-					if (!Arrays.equals(ReplyStatus.COMPLETION.getCode(), reply)) {
-						this.logger.error("error: Unexpected completion packet: " + this.host + " port: " + this.port);
-						throw new IllegalStateException("Unexpected completion packet");
-					}
-				} else if (commandType == CommandType.INQUIRY) {
-					switch (expectedCommand) {
-						case POWER: {
-							Optional<PowerStatus> powerStatus = Arrays.stream(PowerStatus.values())
-									.filter(status -> status.getCode() == currentValue)
-									.findFirst();
-
-							return powerStatus.orElse(null);
-						}
-						case FOCUS_MODE: {
-							Optional<FocusMode> focusMode = Arrays.stream(FocusMode.values())
-									.filter(mode -> mode.getCode() == currentValue)
-									.findFirst();
-
-							return focusMode.orElse(null);
-						}
-						case AE_MODE: {
-							Optional<AEMode> aeMode = Arrays.stream(AEMode.values())
-									.filter(mode -> mode.getCode() == currentValue)
-									.findFirst();
-							return aeMode.orElse(null);
-						}
-						case AUTO_SLOW_SHUTTER: {
-							Optional<SlowShutterStatus> slowShutterStatus = Arrays.stream(SlowShutterStatus.values())
-									.filter(mode -> mode.getCode() == currentValue)
-									.findFirst();
-
-							return slowShutterStatus.orElse(null);
-						}
-						case SHUTTER_DIRECT:
-						case IRIS_DIRECT:
-						case GAIN_DIRECT:
-						case EXP_COMP_DIRECT:
-						case RGAIN_INQ:
-						case BGAIN_INQ: {
-							return reply[4] * 16 + reply[5];
-						}
-						case GAIN_LIMIT_DIRECT:
-						case PRESET: {
-							return Byte.toUnsignedInt(reply[2]);
-						}
-						case BACKLIGHT: {
-							Optional<BacklightStatus> backlightStatus = Arrays.stream(BacklightStatus.values())
-									.filter(status -> status.getCode() == currentValue)
-									.findFirst();
-
-							return backlightStatus.orElse(null);
-						}
-						case WB_MODE: {
-							Optional<WBMode> wbMode = Arrays.stream(WBMode.values())
-									.filter(mode -> mode.getCode() == currentValue)
-									.findFirst();
-
-							return wbMode.orElse(null);
-						}
-						case SLOW_PAN_TILT: {
-							Optional<SlowPanTiltStatus> slowPanTiltStatus = Arrays.stream(SlowPanTiltStatus.values())
-									.filter(status -> status.getCode() == currentValue)
-									.findFirst();
-
-							return slowPanTiltStatus.orElse(null);
-						}
-						default:
-							throw new IllegalStateException("Unexpected command: " + expectedCommand);
-					}
-				}
-			} else {
-				this.logger.error("error: Unexpected sequence number: " + this.host + " port: " + this.port);
-				throw new IllegalStateException("Unexpected sequence number");
-			}
-		} else {
+	/**
+	 * This method is used to check the response is the reply of the packet sent
+	 *
+	 * @param response This is the response to be checked
+	 * @param sequenceNum This is the sequence number of send packet
+	 * @throws IllegalStateException if the response is not a reply or has another sequence number
+	 */
+	private void checkReply(byte[] response, int sequenceNum) {
+		if (!ReplyDecoder.isReply(response)) {
 			this.logger.error("error: Unexpected reply: " + this.host + " port: " + this.port);
 			throw new IllegalStateException("Unexpected reply");
 		}
 
-		return null;
+		if (!ReplyDecoder.hasSequenceNumber(response, sequenceNum)) {
+			this.logger.error("error: Unexpected sequence number: " + this.host + " port: " + this.port);
+			throw new IllegalStateException("Unexpected sequence number");
+		}
 	}
 
 	//region Create controllable property
@@ -1637,12 +2598,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 * @return instance of AdvancedControllableProperty with AdvancedControllableProperty.Button as type
 	 */
 	private AdvancedControllableProperty createButton(String name, String label) {
-		AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
-		button.setLabel(label);
-		button.setLabelPressed("Running...");
-		button.setGracePeriod(100L);
-
-		return new AdvancedControllableProperty(name, new Date(), button, "");
+		return new AdvancedControllableProperty(name, cycleTimestamp, controlSkeletons.getButton(name, label), "");
 	}
 
 	/**
@@ -1653,11 +2609,7 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 * @return AdvancedControllableProperty button instance
 	 */
 	private AdvancedControllableProperty createSwitch(String name, int status, String labelOff, String labelOn) {
-		AdvancedControllableProperty.Switch toggle = new AdvancedControllableProperty.Switch();
-		toggle.setLabelOff(labelOff);
-		toggle.setLabelOn(labelOn);
-
-		return new AdvancedControllableProperty(name, new Date(), toggle, status);
+		return new AdvancedControllableProperty(name, cycleTimestamp, controlSkeletons.getSwitch(name, labelOff, labelOn), status);
 	}
 
 	/***
@@ -1671,27 +2623,29 @@ public class AverPTZCommunicator extends UDPCommunicator implements Controller,
 	 * @return AdvancedControllableProperty slider instance
 	 */
 	private AdvancedControllableProperty createSlider(String name, String labelStart, String labelEnd, Float rangeStart, Float rangeEnd, Float initialValue) {
-		AdvancedControllableProperty.Slider slider = new AdvancedControllableProperty.Slider();
-		slider.setLabelStart(labelStart);
-		slider.setLabelEnd(labelEnd);
-		slider.setRangeStart(rangeStart);
-		slider.setRangeEnd(rangeEnd);
-
-		return new AdvancedControllableProperty(name, new Date(), slider, initialValue);
+		return new AdvancedControllableProperty(name, cycleTimestamp, controlSkeletons.getSlider(name, labelStart, labelEnd, rangeStart, rangeEnd), initialValue);
 	}
 
 	/***
 	 * Create AdvancedControllableProperty preset instance
 	 * @param name name of the control
+	 * @param options options of the control
 	 * @param initialValue initial value of the control
 	 * @return AdvancedControllableProperty preset instance
 	 */
-	private AdvancedControllableProperty createDropdown(String name, List<String> values, String initialValue) {
-		AdvancedControllableProperty.DropDown dropDown = new AdvancedControllableProperty.DropDown();
-		dropDown.setOptions(values.toArray(new String[0]));
-		dropDown.setLabels(values.toArray(new String[0]));
+	private AdvancedControllableProperty createDropdown(String name, String[] options, String initialValue) {
+		return new AdvancedControllableProperty(name, cycleTimestamp, controlSkeletons.getDropDown(name, options), initialValue);
+	}
 
-		return new AdvancedControllableProperty(name, new Date(), dropDown, initialValue);
+	/**
+	 * Create AdvancedControllableProperty numeric instance
+	 *
+	 * @param name name of the control
+	 * @param initialValue initial value of the control
+	 * @return AdvancedControllableProperty numeric instance
+	 */
+	private AdvancedControllableProperty createNumeric(String name, String initialValue) {
+		return new AdvancedControllableProperty(name, cycleTimestamp, controlSkeletons.getNumeric(name), initialValue);
 	}
 	//--------------------------------------------------------------------------------------------------------------------------------
 	//endregion
@@ -52,6 +52,11 @@ public class AverPTZConstants {
 	public static final String PLUS = "+";
 	public static final String MINUS = "-";
 	public static final String NONE_VALUE = "None";
+	public static final int MAX_POSITION = 0xFFFF;
+	public static final int FLOW_CONTROL_RETRIES = 4;
+	public static final long FLOW_CONTROL_BASE_BACKOFF = 50;
+	public static final long FLOW_CONTROL_MAX_BACKOFF = 800;
+	public static final int PLATFORM_IO_THREADS = 16;
 	public static final String CLOSE_PARENTHESIS = "\\)";
 	public static final String DEFAULT_PRESET = "Please select a preset";
 	public static final String POWER_ON_STATUS = "Turning on...";
@@ -3,18 +3,13 @@
  */
 package com.avispl.symphony.dal.communicator.aver.ptz;
 
-import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants.BYTE_SUFFIX;
-
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-
-import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.Prefix;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.PacketEncoder;
 
 /**
  * Utils Class use for:
- * <li>Build a send string for command to be sent</li>
+ * <li>Build a send string for command to be sent (wrappers of {@link PacketEncoder})</li>
  * <li>Split 1 int number to byte number array (4 bytes)</li>
+ * <li>Join byte number array (4 bytes) to 1 int number</li>
  * <li>Split 1 byte number to byte number array (2 bytes)</li>
  *
  * @author Harry
@@ -35,34 +30,8 @@ public class AverPTZUtils {
 	 * @return byte[] This returns the array to be sent to the display
 	 */
 	public static byte[] buildSendPacket(int cameraID, int sequenceNumber, byte payloadType, byte commandType, byte category, byte[] command, byte... param) {
-		List<Byte> bytes = new ArrayList<>();
-
-		// Add payload type
-		bytes.add(Prefix.PAYLOAD_TYPE.getPrefixCode());
-		bytes.add(payloadType);
-
-		// Build payload string
-		byte[] payload = buildPayload(cameraID, commandType, category, command, param);
-
-		// Add payload length
-		bytes.add((byte) 0x00);
-		bytes.add((byte) (payload.length));
-
-		// Add sequence number
-		byte[] sequence = convertIntToByteArray(sequenceNumber);
-		for (byte b : sequence) {
-			bytes.add(b);
-		}
-
-		for (byte b : payload) {
-			bytes.add(b);
-		}
-
-		byte[] byteArray = new byte[bytes.size()];
-		for (int i = 0; i < bytes.size(); i++) {
-			byteArray[i] = bytes.get(i);
-		}
-
+		byte[] byteArray = new byte[PacketEncoder.packetLength(command, param)];
+		PacketEncoder.encodePacket(byteArray, 0, cameraID, sequenceNumber, payloadType, commandType, category, command, param);
 		return byteArray;
 	}
 
@@ -77,34 +46,11 @@ public class AverPTZUtils {
 	 * @return byte[] This returns the payload packet to be sent to the display
 	 */
 	public static byte[] buildPayload(int cameraID, byte commandType, byte category, byte[] command, byte... param) {
-		List<Byte> bytes = new ArrayList<>();
-
-		bytes.add((byte) (Prefix.COMMAND.getPrefixCode() + cameraID));
-		bytes.add(commandType);
-
-		bytes.add(category);
-
-		for (byte b : command) {
-			bytes.add(b);
-		}
-
-		if (param != null) {
-			for (byte b : param) {
-				bytes.add(b);
-			}
-		}
-
-		bytes.add(BYTE_SUFFIX);
-
-		byte[] byteArray = new byte[bytes.size()];
-		for (int i = 0; i < bytes.size(); i++) {
-			byteArray[i] = bytes.get(i);
-		}
-
+		byte[] byteArray = new byte[PacketEncoder.payloadLength(command, param)];
+		PacketEncoder.encodePayload(byteArray, 0, cameraID, commandType, category, command, param);
 		return byteArray;
 	}
 
-
 	/**
 	 * This method is used to convert int number to byte array (4 bytes)
 	 *
@@ -112,7 +58,18 @@ public class AverPTZUtils {
 	 * @return byte[] This returns the byte array
 	 */
 	public static byte[] convertIntToByteArray(int number) {
-		return ByteBuffer.allocate(4).putInt(number).array();
+		return new byte[] { (byte) (number >>> 24), (byte) (number >>> 16), (byte) (number >>> 8), (byte) number };
+	}
+
+	/**
+	 * This method is used to convert byte array (4 bytes) to int number
+	 *
+	 * @param bytes This is the byte array containing the number to be converted
+	 * @param offset This is the index of the first (most significant) byte of the number
+	 * @return int This returns the int number
+	 */
+	public static int convertByteArrayToInt(byte[] bytes, int offset) {
+		return (bytes[offset] & 0xFF) << 24 | (bytes[offset + 1] & 0xFF) << 16 | (bytes[offset + 2] & 0xFF) << 8 | bytes[offset + 3] & 0xFF;
 	}
 
 	/**
@@ -127,4 +84,26 @@ public class AverPTZUtils {
 		byteArray[1] = (byte) (number % 16);
 		return byteArray;
 	}
+
+	/**
+	 * This method is used to convert 2 bytes number to array of 4 bytes, one 4-bit nibble per byte (0p 0q 0r 0s)
+	 * Negative numbers are sent as their 16-bit two's complement.
+	 *
+	 * @param number This is int value representing the number to be converted, only the 16 low bits are sent
+	 * @return byte[] This returns the array of 4 bytes
+	 */
+	public static byte[] convertTwoBytesNumberToFourBytesArray(int number) {
+		return new byte[] { (byte) (number >> 12 & 0x0F), (byte) (number >> 8 & 0x0F), (byte) (number >> 4 & 0x0F), (byte) (number & 0x0F) };
+	}
+
+	/**
+	 * This method is used to convert array of 4 bytes, one 4-bit nibble per byte (0p 0q 0r 0s), to 2 bytes number
+	 *
+	 * @param bytes This is the array containing the nibbles
+	 * @param offset This is the index of the first nibble
+	 * @return int This returns the unsigned 16-bit value
+	 */
+	public static int convertFourBytesArrayToTwoBytesNumber(byte[] bytes, int offset) {
+		return (bytes[offset] & 0x0F) << 12 | (bytes[offset + 1] & 0x0F) << 8 | (bytes[offset + 2] & 0x0F) << 4 | bytes[offset + 3] & 0x0F;
+	}
 }
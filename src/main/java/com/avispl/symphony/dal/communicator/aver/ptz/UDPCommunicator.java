@@ -7,8 +7,14 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -18,6 +24,10 @@ import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.dal.BaseDevice;
 import com.avispl.symphony.dal.communicator.Communicator;
 import com.avispl.symphony.dal.communicator.ConnectionStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.NioDatagramTransport;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.ReplyDispatcher;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.RttEstimator;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.TransportRegistry;
 
 /**
  * An implementation of UDPCommunicator to provide communication and interaction with AVER PTZ Camera.
@@ -28,15 +38,31 @@ import com.avispl.symphony.dal.communicator.ConnectionStatus;
  */
 public class UDPCommunicator extends BaseDevice implements Communicator {
 	private static final String ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT = "Cannot change properties after init() was called";
+	private static final int SEQUENCE_NUMBER_OFFSET = 4;
+	private static final int REPLY_RING_SIZE = 64;
 	private List<String> commandErrorList;
 	private List<String> commandSuccessList;
 	private final ReadWriteLock lock = new ReentrantReadWriteLock();
 	private final ConnectionStatus status = new ConnectionStatus();
+	private final ReplyDispatcher replyDispatcher = new ReplyDispatcher(REPLY_RING_SIZE);
 	private int timeout = 4000;
 	private int bufferLength = 24;
+	private boolean persistentChannel = false;
+	private boolean nioTransport = false;
+	private boolean sharedTransport = false;
+	private int pipelineWindow = 1;
+	private boolean adaptiveTimeout = false;
+	private int minTimeout = 50;
+	private RttEstimator rttEstimator;
+	private boolean awaitingFirstReply;
+	private boolean measureRtt;
+	private long writeNanos;
 	private DatagramSocket datagramSocket;
+	private NioDatagramTransport nioDatagramTransport;
+	private InetSocketAddress sharedEndpoint;
 	protected InetAddress address;
 	protected int port;
+	private int localPort = -1;
 	protected String login;
 	protected String password;
 	protected static final char[] hexArray = "0123456789ABCDEF".toCharArray();
@@ -92,6 +118,167 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 		}
 	}
 
+	/**
+	 * This method returns whether the UDP socket channel is kept open between commands
+	 *
+	 * @return boolean This returns true if the channel is persistent.
+	 */
+	public boolean isPersistentChannel() {
+		return this.persistentChannel;
+	}
+
+	/**
+	 * This method is used set the UDP socket channel mode
+	 * If true, the channel is bound once and reused for every command until an I/O error occurs or the communicator is destroyed.
+	 * If false, the channel is destroyed after every command. It is ignored by the non-blocking transports, their channel is always kept.
+	 *
+	 * @param persistentChannel This is the channel mode to set
+	 */
+	public void setPersistentChannel(boolean persistentChannel) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.persistentChannel = persistentChannel;
+		}
+	}
+
+	/**
+	 * This method returns whether the non-blocking transport is used
+	 *
+	 * @return boolean This returns true if the non-blocking transport is used.
+	 */
+	public boolean isNioTransport() {
+		return this.nioTransport;
+	}
+
+	/**
+	 * This method is used set the transport mode
+	 * If true, replies are read by the shared selector thread of {@link com.avispl.symphony.dal.communicator.aver.ptz.transport.DatagramEventLoop}
+	 * and handed to the waiting request by sequence number, instead of being read by the calling thread in DatagramSocket#receive.
+	 * The calling thread still waits for the reply of its request, up to the UDP timeout.
+	 * The channel is kept until an I/O error or destroy(), whatever {@link #persistentChannel} is.
+	 *
+	 * @param nioTransport This is the transport mode to set
+	 */
+	public void setNioTransport(boolean nioTransport) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.nioTransport = nioTransport;
+		}
+	}
+
+	/**
+	 * This method returns whether the transport is shared with the other adapters of the camera
+	 *
+	 * @return boolean This returns true if the transport is shared.
+	 */
+	public boolean isSharedTransport() {
+		return this.sharedTransport;
+	}
+
+	/**
+	 * This method is used set the transport sharing mode
+	 * If true, the adapters of the same host and port share one non-blocking channel of {@link TransportRegistry} bound to an ephemeral local port,
+	 * instead of binding the device port locally. Sequence numbers are then allocated by the registry, see {@link #nextSharedSequenceNumber()}.
+	 * The shared transport is acquired by the first command and kept until an I/O error or destroy(), like the channel of {@link #nioTransport}.
+	 *
+	 * @param sharedTransport This is the transport sharing mode to set
+	 */
+	public void setSharedTransport(boolean sharedTransport) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.sharedTransport = sharedTransport;
+		}
+	}
+
+	/**
+	 * This method returns the maximum number of requests in flight in {@link #sendPipelined(List)}
+	 *
+	 * @return int This returns the current pipeline window.
+	 */
+	public int getPipelineWindow() {
+		return this.pipelineWindow;
+	}
+
+	/**
+	 * This method is used set the maximum number of requests in flight in {@link #sendPipelined(List)}, 1 disables pipelining
+	 *
+	 * @param pipelineWindow This is the pipeline window to set
+	 */
+	public void setPipelineWindow(int pipelineWindow) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.pipelineWindow = pipelineWindow;
+		}
+	}
+
+	/**
+	 * This method returns whether the reply timeout is derived from the measured round-trip times
+	 *
+	 * @return boolean This returns true if the timeout is adaptive.
+	 */
+	public boolean isAdaptiveTimeout() {
+		return this.adaptiveTimeout;
+	}
+
+	/**
+	 * This method is used set the timeout mode
+	 * If true, the first reply of a request is waited for SRTT + 4 * RTTVAR, between {@link #minTimeout} and {@link #timeout}.
+	 * The following replies, like the COMPLETION of a move, are waited for {@link #timeout}.
+	 *
+	 * @param adaptiveTimeout This is the timeout mode to set
+	 */
+	public void setAdaptiveTimeout(boolean adaptiveTimeout) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.adaptiveTimeout = adaptiveTimeout;
+		}
+	}
+
+	/**
+	 * This method returns the lower bound of the adaptive timeout
+	 *
+	 * @return int This returns the current minimum timeout.
+	 */
+	public int getMinTimeout() {
+		return this.minTimeout;
+	}
+
+	/**
+	 * This method is used set the lower bound of the adaptive timeout
+	 *
+	 * @param minTimeout This is the minimum timeout to set
+	 */
+	public void setMinTimeout(int minTimeout) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.minTimeout = minTimeout;
+		}
+	}
+
+	/**
+	 * This method returns the round-trip time estimator of the camera
+	 *
+	 * @return RttEstimator This returns the estimator, null before init() is called
+	 */
+	public RttEstimator getRttEstimator() {
+		return this.rttEstimator;
+	}
+
+	/**
+	 * This method returns the reply dispatcher of the blocking socket
+	 *
+	 * @return ReplyDispatcher This returns the dispatcher counting the stale and duplicate replies dropped
+	 */
+	public ReplyDispatcher getReplyDispatcher() {
+		return this.replyDispatcher;
+	}
+
 	/**
 	 * This method returns the device UPD port
 	 *
@@ -114,6 +301,29 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 		}
 	}
 
+	/**
+	 * This method returns the local UDP port the channel is bound to
+	 *
+	 * @return int This returns the current local port, -1 if the device port is bound.
+	 */
+	public int getLocalPort() {
+		return this.localPort;
+	}
+
+	/**
+	 * This method is used set the local UDP port the channel is bound to
+	 * -1 binds the device port as before, 0 binds an ephemeral port. The shared transport always binds an ephemeral port.
+	 *
+	 * @param localPort This is the local UDP port to set
+	 */
+	public void setLocalPort(int localPort) {
+		if (this.isInitialized()) {
+			throw new IllegalStateException(ERROR_MESSAGE_CHANGE_PROPERTIES_AFTER_INIT);
+		} else {
+			this.localPort = localPort;
+		}
+	}
+
 	/**
 	 * This method returns the login info
 	 *
@@ -277,9 +487,21 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 	 */
 	private void createChannel() {
 		try {
-			if (this.datagramSocket == null || this.datagramSocket.isClosed() || !this.datagramSocket.isConnected()) {
+			if (this.sharedTransport) {
+				if (this.nioDatagramTransport == null || !this.nioDatagramTransport.isOpen()) {
+					this.releaseSharedTransport();
+					this.address = InetAddress.getByName(this.host);
+					this.sharedEndpoint = TransportRegistry.endpoint(this.host, this.port);
+					this.nioDatagramTransport = TransportRegistry.getInstance().acquire(this.sharedEndpoint);
+				}
+			} else if (this.nioTransport) {
+				if (this.nioDatagramTransport == null || !this.nioDatagramTransport.isOpen()) {
+					this.address = InetAddress.getByName(this.host);
+					this.nioDatagramTransport = new NioDatagramTransport(new InetSocketAddress(this.bindPort()), new InetSocketAddress(this.address, this.port));
+				}
+			} else if (this.datagramSocket == null || this.datagramSocket.isClosed() || !this.datagramSocket.isConnected()) {
 				this.address = InetAddress.getByName(this.host);
-				this.datagramSocket = new DatagramSocket(this.port);
+				this.datagramSocket = new DatagramSocket(this.bindPort());
 				this.datagramSocket.connect(this.address, this.port);
 				this.datagramSocket.setSoTimeout(this.timeout);
 			}
@@ -294,10 +516,26 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 		}
 	}
 
+	/**
+	 * This method is used to get the local port to bind
+	 *
+	 * @return int This returns {@link #localPort}, or the device port if it is negative
+	 */
+	private int bindPort() {
+		return this.localPort < 0 ? this.port : this.localPort;
+	}
+
 	/**
 	 * This method is used to destroy a channel actually destroy a socket
 	 */
 	public void destroyChannel() {
+		if (this.sharedTransport) {
+			this.releaseSharedTransport();
+		} else if (null != this.nioDatagramTransport) {
+			this.nioDatagramTransport.close();
+			this.nioDatagramTransport = null;
+		}
+
 		if (null != this.datagramSocket) {
 			try {
 				if (this.datagramSocket.isConnected()) {
@@ -314,10 +552,55 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 
 	}
 
+	/**
+	 * This method is used to release the shared transport, the other adapters of the camera keep using it
+	 */
+	private void releaseSharedTransport() {
+		if (null != this.nioDatagramTransport) {
+			TransportRegistry.getInstance().release(this.sharedEndpoint, this.nioDatagramTransport);
+			this.nioDatagramTransport = null;
+		}
+	}
+
+	/**
+	 * This method is used to get the sequence number of the next packet from the registry shared by the adapters of the camera
+	 *
+	 * @return int This returns the sequence number
+	 */
+	protected int nextSharedSequenceNumber() {
+		return TransportRegistry.getInstance().nextSequenceNumber(TransportRegistry.endpoint(this.host, this.port));
+	}
+
+	/**
+	 * This method is used to check if the channel is kept between commands
+	 * A non-blocking channel is always kept: closed after every command, it would be registered again with the event loop for the next one,
+	 * and the selector thread of a lone camera would be started and stopped on every packet.
+	 * A shared transport released after every command would also be counted per command instead of per adapter.
+	 *
+	 * @return boolean This returns true if the channel is destroyed only on I/O error and on init()/destroy()
+	 */
+	private boolean isPersistent() {
+		return this.persistentChannel || this.isNonBlocking();
+	}
+
+	/**
+	 * This method is used to check if the replies are read by the event loop instead of a blocking socket
+	 *
+	 * @return boolean This returns true if a non-blocking transport is used
+	 */
+	private boolean isNonBlocking() {
+		return this.nioTransport || this.sharedTransport;
+	}
+
 	/**
 	 * This method is used to check if a channel is connected or not
+	 *
+	 * @return boolean This returns true if the socket or the non-blocking transport is open
 	 */
-	private boolean isChannelConnected() {
+	boolean isChannelConnected() {
+		if (this.isNonBlocking()) {
+			return null != this.nioDatagramTransport && this.nioDatagramTransport.isOpen();
+		}
 		return null != this.datagramSocket && this.datagramSocket.isConnected();
 	}
 
@@ -347,15 +630,92 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 		try {
 			response = this.send(data, true);
 		} finally {
+			if (data.length >= SEQUENCE_NUMBER_OFFSET + 4) {
+				int sequenceNumber = AverPTZUtils.convertByteArrayToInt(data, SEQUENCE_NUMBER_OFFSET);
+				this.replyDispatcher.release(sequenceNumber);
+				if (null != this.nioDatagramTransport) {
+					this.nioDatagramTransport.release(sequenceNumber);
+				}
+			}
 			// Destroy channel socket so if change the adapter properties, commproxy will not hold the old connection
 			// And socket can bind port again if try to control immediately after change the adapter properties
-			this.destroyChannel();
+			// In persistent mode the channel is kept, it is destroyed on I/O error and on init()/destroy() instead
+			if (!this.isPersistent()) {
+				this.destroyChannel();
+			}
 			writeLock.unlock();
 		}
 
 		return response;
 	}
 
+	/**
+	 * This method is used to send several packets back-to-back and match their replies by sequence number
+	 * At most {@link #pipelineWindow} packets are in flight, the next packet is sent when the oldest one received its final reply.
+	 *
+	 * @param packets This is the list of packets to be sent
+	 * @return List<byte[]> This returns the final reply of each packet in the same order, null if it was not received
+	 */
+	protected List<byte[]> sendPipelined(List<byte[]> packets) throws Exception {
+		return this.sendPipelined(packets, this.pipelineWindow);
+	}
+
+	/**
+	 * This method is used to send several packets back-to-back with an explicit window
+	 * A batch that must be in flight at once, like a drive and its stop, is sent with a window equal to its size.
+	 *
+	 * @param packets This is the list of packets to be sent
+	 * @param window This is the maximum number of packets in flight
+	 * @return List<byte[]> This returns the final reply of each packet in the same order, null if it was not received
+	 */
+	protected List<byte[]> sendPipelined(List<byte[]> packets, int window) throws Exception {
+		if (!this.isInitialized()) {
+			throw new IllegalStateException("UDPCommunicator cannot be used before init() is called");
+		}
+
+		if (null == packets) {
+			throw new IllegalArgumentException("Send packets is null");
+		}
+
+		Lock writeLock = this.lock.writeLock();
+		writeLock.lock();
+
+		try {
+			if (!this.isChannelConnected()) {
+				this.createChannel();
+				this.status.setLastTimestamp(System.currentTimeMillis());
+				this.status.setConnectionState(ConnectionState.Connected);
+				this.status.setLastError(null);
+			}
+
+			return this.internalSendPipelined(packets, window);
+		} finally {
+			for (byte[] packet : packets) {
+				int sequenceNumber = AverPTZUtils.convertByteArrayToInt(packet, SEQUENCE_NUMBER_OFFSET);
+				this.replyDispatcher.release(sequenceNumber);
+				if (null != this.nioDatagramTransport) {
+					this.nioDatagramTransport.release(sequenceNumber);
+				}
+			}
+			if (!this.isPersistent()) {
+				this.destroyChannel();
+			}
+			writeLock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to check if a reply is the last one expected for a packet
+	 * Default is one reply per packet, subclasses override it for protocols with intermediate replies.
+	 *
+	 * @param packet This is the packet sent
+	 * @param reply This is the reply received for the packet
+	 * @return boolean This returns true if no further reply is expected for the packet
+	 */
+	protected boolean isFinalReply(byte[] packet, byte[] reply) {
+		return true;
+	}
+
 	/**
 	 * This method is used to generate a string from a byte array
 	 *
@@ -405,6 +765,8 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 				this.logger.debug("Sending: " + getHexByteString(data) + " to: " + this.host + " port: " + this.port);
 			}
 
+			// A reply of a request sent again may belong to the first transmission, it is not measured (Karn's algorithm)
+			this.measureRtt = retryOnError;
 			byte[] response = this.internalSend(data);
 
 			if (this.logger.isDebugEnabled()) {
@@ -460,6 +822,100 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 		}
 	}
 
+	/**
+	 * This method is used to write packets within the pipeline window and collect their final replies
+	 * A timeout or I/O error stops the collection, the packets left without reply get null.
+	 *
+	 * @param packets This is the list of packets to be sent
+	 * @param maxInFlight This is the maximum number of packets in flight
+	 * @return List<byte[]> This returns the final reply of each packet in the same order
+	 */
+	private List<byte[]> internalSendPipelined(List<byte[]> packets, int maxInFlight) {
+		byte[][] replies = new byte[packets.size()][];
+		Map<Integer, Deque<byte[]>> earlyReplies = new HashMap<>();
+		int window = Math.max(1, maxInFlight);
+		int nextPacket = 0;
+
+		try {
+			for (; nextPacket < Math.min(window, packets.size()); nextPacket++) {
+				this.writePacket(packets.get(nextPacket), earlyReplies);
+			}
+
+			for (int i = 0; i < packets.size(); i++) {
+				byte[] packet = packets.get(i);
+				int sequenceNumber = AverPTZUtils.convertByteArrayToInt(packet, SEQUENCE_NUMBER_OFFSET);
+				byte[] reply;
+				do {
+					reply = this.receive(sequenceNumber, earlyReplies);
+				} while (!this.isFinalReply(packet, reply));
+				replies[i] = reply;
+
+				if (nextPacket < packets.size()) {
+					this.writePacket(packets.get(nextPacket++), earlyReplies);
+				}
+			}
+			this.status.setLastTimestamp(System.currentTimeMillis());
+		} catch (IOException ex) {
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Pipelined send stopped to: " + this.host + " port: " + this.port + " connection state: " + this.status.getConnectionState() + " error: ", ex);
+			}
+			this.status.setLastError(ex);
+			this.status.setConnectionState(ex instanceof SocketTimeoutException ? ConnectionState.Unknown : ConnectionState.Failed);
+			// Drop the channel so the late replies of this batch are not read by the next command
+			this.destroyChannel();
+		}
+
+		return Arrays.asList(replies);
+	}
+
+	/**
+	 * This method is used to write one packet of a pipelined batch
+	 *
+	 * @param packet This is the packet to be sent
+	 * @param earlyReplies This is the map of replies received before they were waited for, keyed by sequence number
+	 */
+	private void writePacket(byte[] packet, Map<Integer, Deque<byte[]>> earlyReplies) throws IOException {
+		earlyReplies.put(AverPTZUtils.convertByteArrayToInt(packet, SEQUENCE_NUMBER_OFFSET), new ArrayDeque<>());
+		this.write(new DatagramPacket(packet, packet.length, this.address, this.port));
+	}
+
+	/**
+	 * This method is used to receive the next reply of a sequence number in a pipelined batch
+	 * On the blocking socket, replies of the other packets of the batch read meanwhile are kept for later.
+	 *
+	 * @param sequenceNumber This is the sequence number to receive a reply for
+	 * @param earlyReplies This is the map of replies received before they were waited for, keyed by sequence number
+	 * @return byte[] This returns the reply received
+	 */
+	private byte[] receive(int sequenceNumber, Map<Integer, Deque<byte[]>> earlyReplies) throws IOException {
+		if (this.isNonBlocking()) {
+			return this.nioDatagramTransport.receive(sequenceNumber, this.timeout);
+		}
+
+		Deque<byte[]> replies = earlyReplies.get(sequenceNumber);
+		if (!replies.isEmpty()) {
+			return replies.poll();
+		}
+
+		long deadline = System.currentTimeMillis() + this.timeout;
+		while (true) {
+			byte[] datagram = this.receiveDatagram(remainingTimeout(deadline));
+			ReplyDispatcher.Route route = this.replyDispatcher.route(datagram, sequenceNumber);
+			if (route == ReplyDispatcher.Route.OWNER) {
+				return datagram;
+			}
+
+			if (route == ReplyDispatcher.Route.OTHER) {
+				Deque<byte[]> otherReplies = earlyReplies.get(AverPTZUtils.convertByteArrayToInt(datagram, SEQUENCE_NUMBER_OFFSET));
+				if (otherReplies != null) {
+					otherReplies.add(datagram);
+				} else {
+					this.replyDispatcher.drop();
+				}
+			}
+		}
+	}
+
 	protected byte[] internalSend(byte[] outputData) throws IOException {
 		DatagramPacket request = new DatagramPacket(outputData, outputData.length, this.address, this.port);
 		this.write(request);
@@ -468,6 +924,18 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 	}
 
 	protected void write(DatagramPacket request) throws IOException {
+		this.awaitingFirstReply = true;
+		this.writeNanos = System.nanoTime();
+		if (this.isNonBlocking()) {
+			byte[] packet = new byte[request.getLength()];
+			System.arraycopy(request.getData(), request.getOffset(), packet, 0, request.getLength());
+			this.nioDatagramTransport.expect(AverPTZUtils.convertByteArrayToInt(packet, SEQUENCE_NUMBER_OFFSET));
+			this.nioDatagramTransport.write(packet);
+			return;
+		}
+		if (request.getLength() >= SEQUENCE_NUMBER_OFFSET + 4) {
+			this.replyDispatcher.expect(AverPTZUtils.convertByteArrayToInt(request.getData(), request.getOffset() + SEQUENCE_NUMBER_OFFSET));
+		}
 		this.datagramSocket.send(request);
 	}
 
@@ -476,6 +944,82 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 			this.logger.debug("DEBUG - UDP Communicator reading after command text \"" + getHexByteString(command) + "\" was sent to host " + this.host);
 		}
 
+		boolean firstReply = this.awaitingFirstReply;
+		int readTimeout = firstReply && this.adaptiveTimeout ? this.rttEstimator.getTimeout() : this.timeout;
+		byte[] reply;
+		try {
+			if (this.isNonBlocking()) {
+				reply = this.nioDatagramTransport.receive(AverPTZUtils.convertByteArrayToInt(command, SEQUENCE_NUMBER_OFFSET), readTimeout);
+			} else {
+				reply = this.receiveReply(AverPTZUtils.convertByteArrayToInt(command, SEQUENCE_NUMBER_OFFSET), readTimeout);
+			}
+		} catch (SocketTimeoutException e) {
+			if (firstReply && this.adaptiveTimeout) {
+				this.rttEstimator.backOff();
+			}
+			throw e;
+		}
+
+		if (firstReply) {
+			this.awaitingFirstReply = false;
+			if (this.measureRtt && this.adaptiveTimeout) {
+				this.rttEstimator.sample((System.nanoTime() - this.writeNanos) / 1_000_000.0);
+			}
+		}
+		return reply;
+	}
+
+	/**
+	 * This method is used to receive the next reply of a request from the blocking socket
+	 * Stale and duplicate replies of earlier requests are dropped, they do not extend the timeout.
+	 *
+	 * @param sequenceNumber This is the sequence number of the request
+	 * @param readTimeout This is the maximum time to wait in milliseconds
+	 * @return byte[] This returns the reply of the request
+	 */
+	private byte[] receiveReply(int sequenceNumber, int readTimeout) throws IOException {
+		long deadline = System.currentTimeMillis() + readTimeout;
+		while (true) {
+			byte[] datagram = this.receiveDatagram(remainingTimeout(deadline));
+			ReplyDispatcher.Route route = this.replyDispatcher.route(datagram, sequenceNumber);
+			if (route == ReplyDispatcher.Route.OWNER) {
+				return datagram;
+			}
+			if (route == ReplyDispatcher.Route.OTHER) {
+				this.replyDispatcher.drop();
+			}
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Dropped reply " + getHexByteString(datagram) + " not belonging to sequence number " + sequenceNumber + " from: " + this.host + " port: " + this.port);
+			}
+		}
+	}
+
+	/**
+	 * This method is used to get the time left until a deadline
+	 *
+	 * @param deadline This is the deadline in milliseconds since epoch
+	 * @return int This returns the time left in milliseconds
+	 * @throws SocketTimeoutException if the deadline is reached
+	 */
+	private static int remainingTimeout(long deadline) throws SocketTimeoutException {
+		long remaining = deadline - System.currentTimeMillis();
+		if (remaining <= 0) {
+			throw new SocketTimeoutException("Receive timed out");
+		}
+		return (int) remaining;
+	}
+
+	/**
+	 * This method is used to receive one datagram from the blocking socket
+	 *
+	 * @param readTimeout This is the maximum time to wait in milliseconds
+	 * @return byte[] This returns the exact bytes of the datagram
+	 */
+	private byte[] receiveDatagram(int readTimeout) throws IOException {
+		if (this.datagramSocket.getSoTimeout() != readTimeout) {
+			this.datagramSocket.setSoTimeout(readTimeout);
+		}
+
 		byte[] buffer = new byte[this.bufferLength];
 		DatagramPacket response = new DatagramPacket(buffer, buffer.length);
 		this.datagramSocket.receive(response);
@@ -500,8 +1044,9 @@ public class UDPCommunicator extends BaseDevice implements Communicator {
 	@Override
 	protected void internalInit() throws Exception {
 		super.internalInit();
+		this.rttEstimator = new RttEstimator(this.minTimeout, this.timeout);
 
-		if (null != this.datagramSocket) {
+		if (null != this.datagramSocket || null != this.nioDatagramTransport) {
 			this.destroyChannel();
 		}
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants.BYTE_SUFFIX;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.Prefix;
+
+/**
+ * Encoder of VISCA over IP packets into caller supplied buffers
+ * Packet layout: payload type (2 bytes), payload length (2 bytes), sequence number (4 bytes), payload.
+ * Payload layout: camera address, command type, category, command, parameters, terminator.
+ * No intermediate array is allocated, the caller owns and may reuse the target buffer.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PacketEncoder {
+	public static final int HEADER_LENGTH = 8;
+	private static final int PAYLOAD_OVERHEAD = 4;
+
+	private PacketEncoder() {
+	}
+
+	/**
+	 * This method is used to calculate the length of a payload
+	 *
+	 * @param command This is the byte array representing the command to be sent
+	 * @param param This is the byte array representing the parameter values to be sent, may be null
+	 * @return int This returns the payload length in bytes
+	 */
+	public static int payloadLength(byte[] command, byte[] param) {
+		return PAYLOAD_OVERHEAD + command.length + (param == null ? 0 : param.length);
+	}
+
+	/**
+	 * This method is used to calculate the length of a packet
+	 *
+	 * @param command This is the byte array representing the command to be sent
+	 * @param param This is the byte array representing the parameter values to be sent, may be null
+	 * @return int This returns the packet length in bytes
+	 */
+	public static int packetLength(byte[] command, byte[] param) {
+		return HEADER_LENGTH + payloadLength(command, param);
+	}
+
+	/**
+	 * This method is used to encode a packet into a byte array
+	 *
+	 * @param target This is the array the packet is written to
+	 * @param offset This is the index of the first byte of the packet in the target
+	 * @param cameraID This is int value representing the camera ID
+	 * @param sequenceNumber This is the int value representing the sequence number of command to be sent
+	 * @param payloadType This is the byte value representing the payload type code
+	 * @param commandType This is the byte value representing the command type code
+	 * @param category This is the byte value representing the category code
+	 * @param command This is the byte array representing the command to be sent
+	 * @param param This is the byte array representing the parameter values to be sent, may be null
+	 * @return int This returns the number of bytes written
+	 * @throws ArrayIndexOutOfBoundsException if the packet does not fit in the target
+	 */
+	public static int encodePacket(byte[] target, int offset, int cameraID, int sequenceNumber, byte payloadType, byte commandType, byte category, byte[] command,
+			byte[] param) {
+		int payloadLength = payloadLength(command, param);
+		if (offset < 0 || target.length - offset < HEADER_LENGTH + payloadLength) {
+			throw new ArrayIndexOutOfBoundsException("Packet of " + (HEADER_LENGTH + payloadLength) + " bytes does not fit at offset " + offset);
+		}
+
+		int index = offset;
+		target[index++] = Prefix.PAYLOAD_TYPE.getPrefixCode();
+		target[index++] = payloadType;
+		target[index++] = 0x00;
+		target[index++] = (byte) payloadLength;
+		target[index++] = (byte) (sequenceNumber >>> 24);
+		target[index++] = (byte) (sequenceNumber >>> 16);
+		target[index++] = (byte) (sequenceNumber >>> 8);
+		target[index++] = (byte) sequenceNumber;
+
+		return HEADER_LENGTH + encodePayload(target, index, cameraID, commandType, category, command, param);
+	}
+
+	/**
+	 * This method is used to encode a payload into a byte array
+	 *
+	 * @param target This is the array the payload is written to
+	 * @param offset This is the index of the first byte of the payload in the target
+	 * @param cameraID This is int value representing the camera ID
+	 * @param commandType This is the byte value representing command type code
+	 * @param category This is the byte value representing the category code
+	 * @param command This is the byte array representing the command to be sent
+	 * @param param This is the byte array representing the parameter values to be sent, may be null
+	 * @return int This returns the number of bytes written
+	 * @throws ArrayIndexOutOfBoundsException if the payload does not fit in the target
+	 */
+	public static int encodePayload(byte[] target, int offset, int cameraID, byte commandType, byte category, byte[] command, byte[] param) {
+		int payloadLength = payloadLength(command, param);
+		if (offset < 0 || target.length - offset < payloadLength) {
+			throw new ArrayIndexOutOfBoundsException("Payload of " + payloadLength + " bytes does not fit at offset " + offset);
+		}
+
+		int index = offset;
+		target[index++] = (byte) (Prefix.COMMAND.getPrefixCode() + cameraID);
+		target[index++] = commandType;
+		target[index++] = category;
+
+		System.arraycopy(command, 0, target, index, command.length);
+		index += command.length;
+
+		if (param != null) {
+			System.arraycopy(param, 0, target, index, param.length);
+			index += param.length;
+		}
+
+		target[index] = BYTE_SUFFIX;
+
+		return payloadLength;
+	}
+
+	/**
+	 * This method is used to encode a packet at the position of a buffer, the position is advanced past the packet
+	 *
+	 * @param target This is the buffer the packet is written to
+	 * @param cameraID This is int value representing the camera ID
+	 * @param sequenceNumber This is the int value representing the sequence number of command to be sent
+	 * @param payloadType This is the byte value representing the payload type code
+	 * @param commandType This is the byte value representing the command type code
+	 * @param category This is the byte value representing the category code
+	 * @param command This is the byte array representing the command to be sent
+	 * @param param This is the byte array representing the parameter values to be sent, may be null
+	 * @return int This returns the number of bytes written
+	 * @throws BufferOverflowException if the packet does not fit in the remaining space of the buffer
+	 */
+	public static int encodePacket(ByteBuffer target, int cameraID, int sequenceNumber, byte payloadType, byte commandType, byte category, byte[] command, byte[] param) {
+		int payloadLength = payloadLength(command, param);
+		if (target.remaining() < HEADER_LENGTH + payloadLength) {
+			throw new BufferOverflowException();
+		}
+
+		target.put(Prefix.PAYLOAD_TYPE.getPrefixCode());
+		target.put(payloadType);
+		target.put((byte) 0x00);
+		target.put((byte) payloadLength);
+		// Sequence number is big-endian whatever the byte order of the buffer
+		target.put((byte) (sequenceNumber >>> 24));
+		target.put((byte) (sequenceNumber >>> 16));
+		target.put((byte) (sequenceNumber >>> 8));
+		target.put((byte) sequenceNumber);
+
+		target.put((byte) (Prefix.COMMAND.getPrefixCode() + cameraID));
+		target.put(commandType);
+		target.put(category);
+		target.put(command);
+		if (param != null) {
+			target.put(param);
+		}
+		target.put(BYTE_SUFFIX);
+
+		return HEADER_LENGTH + payloadLength;
+	}
+}
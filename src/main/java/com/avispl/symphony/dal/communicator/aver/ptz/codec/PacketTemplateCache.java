@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants.BYTE_SUFFIX;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+
+/**
+ * Precompiled packet templates of one camera ID
+ * The immutable bytes of every inquiry and control packet (header, camera address, command type, category and command) are encoded once,
+ * building a packet only copies the template and patches the length, sequence number and parameter bytes.
+ * Templates are built eagerly and never modified afterwards, so an instance can be shared by all threads and adapters of the same camera ID.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PacketTemplateCache {
+	private static final Map<Integer, PacketTemplateCache> INSTANCES = new ConcurrentHashMap<>();
+	private static final int LENGTH_OFFSET = 3;
+	private static final int SEQUENCE_NUMBER_OFFSET = 4;
+
+	private final int cameraID;
+	private final Map<PayloadCategory, Map<Command, byte[]>> inquiryTemplates = new EnumMap<>(PayloadCategory.class);
+	private final Map<PayloadCategory, Map<Command, byte[]>> commandTemplates = new EnumMap<>(PayloadCategory.class);
+
+	/**
+	 * Build the templates of a camera ID
+	 *
+	 * @param cameraID This is int value representing the camera ID
+	 */
+	private PacketTemplateCache(int cameraID) {
+		this.cameraID = cameraID;
+		for (PayloadCategory payloadCategory : PayloadCategory.values()) {
+			Map<Command, byte[]> inquiries = new EnumMap<>(Command.class);
+			Map<Command, byte[]> commands = new EnumMap<>(Command.class);
+			for (Command command : Command.values()) {
+				if (command.getCode() != null) {
+					inquiries.put(command, buildTemplate(PayloadType.INQUIRY, CommandType.INQUIRY, payloadCategory, command));
+					commands.put(command, buildTemplate(PayloadType.COMMAND, CommandType.COMMAND, payloadCategory, command));
+				}
+			}
+			inquiryTemplates.put(payloadCategory, inquiries);
+			commandTemplates.put(payloadCategory, commands);
+		}
+	}
+
+	/**
+	 * Retrieves the templates of a camera ID, built on first use
+	 *
+	 * @param cameraID This is int value representing the camera ID
+	 * @return PacketTemplateCache the templates of the camera ID
+	 */
+	public static PacketTemplateCache forCamera(int cameraID) {
+		return INSTANCES.computeIfAbsent(cameraID, PacketTemplateCache::new);
+	}
+
+	/**
+	 * Retrieves {@code {@link #cameraID}}
+	 *
+	 * @return value of {@link #cameraID}
+	 */
+	public int getCameraID() {
+		return cameraID;
+	}
+
+	/**
+	 * This method is used to build an inquiry packet from its template
+	 *
+	 * @param sequenceNumber This is the int value representing the sequence number of the inquiry
+	 * @param payloadCategory This is the category of payload of the inquiry
+	 * @param command This is the inquiry command
+	 * @return byte[] This returns the packet to be sent to the camera
+	 */
+	public byte[] buildInquiry(int sequenceNumber, PayloadCategory payloadCategory, Command command) {
+		return buildPacket(getTemplate(inquiryTemplates, payloadCategory, command), sequenceNumber, null);
+	}
+
+	/**
+	 * This method is used to build a control packet from its template
+	 *
+	 * @param sequenceNumber This is the int value representing the sequence number of the command
+	 * @param payloadCategory This is the category of payload of the command
+	 * @param command This is the command to be sent
+	 * @param param This is the byte array representing the parameter values to be sent
+	 * @return byte[] This returns the packet to be sent to the camera
+	 */
+	public byte[] buildCommand(int sequenceNumber, PayloadCategory payloadCategory, Command command, byte... param) {
+		return buildPacket(getTemplate(commandTemplates, payloadCategory, command), sequenceNumber, param);
+	}
+
+	/**
+	 * This method is used to copy a template and patch its variable bytes
+	 *
+	 * @param template This is the template holding the packet up to the command bytes
+	 * @param sequenceNumber This is the int value representing the sequence number of the packet
+	 * @param param This is the byte array representing the parameter values to be sent, may be null
+	 * @return byte[] This returns the packet
+	 */
+	private static byte[] buildPacket(byte[] template, int sequenceNumber, byte[] param) {
+		int paramLength = param == null ? 0 : param.length;
+		byte[] packet = new byte[template.length + paramLength + 1];
+		System.arraycopy(template, 0, packet, 0, template.length);
+
+		packet[LENGTH_OFFSET] = (byte) (packet.length - PacketEncoder.HEADER_LENGTH);
+		packet[SEQUENCE_NUMBER_OFFSET] = (byte) (sequenceNumber >>> 24);
+		packet[SEQUENCE_NUMBER_OFFSET + 1] = (byte) (sequenceNumber >>> 16);
+		packet[SEQUENCE_NUMBER_OFFSET + 2] = (byte) (sequenceNumber >>> 8);
+		packet[SEQUENCE_NUMBER_OFFSET + 3] = (byte) sequenceNumber;
+
+		if (paramLength > 0) {
+			System.arraycopy(param, 0, packet, template.length, paramLength);
+		}
+		packet[packet.length - 1] = BYTE_SUFFIX;
+
+		return packet;
+	}
+
+	/**
+	 * This method is used to look up a template
+	 *
+	 * @param templates This is the templates of one payload type
+	 * @param payloadCategory This is the category of payload
+	 * @param command This is the command
+	 * @return byte[] This returns the template
+	 * @throws IllegalArgumentException if the command has no code
+	 */
+	private static byte[] getTemplate(Map<PayloadCategory, Map<Command, byte[]>> templates, PayloadCategory payloadCategory, Command command) {
+		byte[] template = templates.get(payloadCategory).get(command);
+		if (template == null) {
+			throw new IllegalArgumentException("Command " + command.getName() + " has no packet template");
+		}
+		return template;
+	}
+
+	/**
+	 * This method is used to encode the immutable part of a packet: everything before the parameters and the terminator
+	 *
+	 * @param payloadType This is the payload type of the packet
+	 * @param commandType This is the command type of the packet
+	 * @param payloadCategory This is the category of payload of the packet
+	 * @param command This is the command of the packet
+	 * @return byte[] This returns the template
+	 */
+	private byte[] buildTemplate(PayloadType payloadType, CommandType commandType, PayloadCategory payloadCategory, Command command) {
+		byte[] packet = new byte[PacketEncoder.packetLength(command.getCode(), null)];
+		PacketEncoder.encodePacket(packet, 0, cameraID, 0, payloadType.getCode(), commandType.getCode(), payloadCategory.getCode(), command.getCode(), null);
+
+		// Drop the terminator, it is written after the parameters
+		byte[] template = new byte[packet.length - 1];
+		System.arraycopy(packet, 0, template, 0, template.length);
+		return template;
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils;
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.PanTiltPosition;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.BacklightStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.SlowPanTiltStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.SlowShutterStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
+
+/**
+ * Decoder of VISCA over IP replies reading values at fixed offsets of the reply packet
+ * Reply layout: payload type (2 bytes), payload length (2 bytes), sequence number (4 bytes), payload (90 50 value ... FF).
+ * Enum values are resolved with the code lookup tables of the enums, nothing is copied or allocated.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplyDecoder {
+	private static final int LENGTH_OFFSET = 3;
+	private static final int SEQUENCE_NUMBER_OFFSET = 4;
+	private static final int VALUE_OFFSET = PacketEncoder.HEADER_LENGTH + 2;
+	private static final int FOUR_BIT_VALUE_OFFSET = PacketEncoder.HEADER_LENGTH + 4;
+
+	private ReplyDecoder() {
+	}
+
+	/**
+	 * This method is used to check if a packet is a reply
+	 *
+	 * @param response This is the packet received from the device
+	 * @return boolean This returns true if the payload type of the packet is reply
+	 */
+	public static boolean isReply(byte[] response) {
+		return response.length > PacketEncoder.HEADER_LENGTH && response[1] == PayloadType.REPLY.getCode();
+	}
+
+	/**
+	 * This method is used to check the sequence number of a reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @param sequenceNumber This is the sequence number of the request
+	 * @return boolean This returns true if the reply carries the sequence number
+	 */
+	public static boolean hasSequenceNumber(byte[] response, int sequenceNumber) {
+		return AverPTZUtils.convertByteArrayToInt(response, SEQUENCE_NUMBER_OFFSET) == sequenceNumber;
+	}
+
+	/**
+	 * This method is used to check if the payload of a reply is exactly COMPLETION
+	 *
+	 * @param response This is the reply received from the device
+	 * @return boolean This returns true if the payload is COMPLETION
+	 */
+	public static boolean isCompletion(byte[] response) {
+		byte[] completion = ReplyStatus.COMPLETION.getCode();
+		if (response[LENGTH_OFFSET] != completion.length || response.length < PacketEncoder.HEADER_LENGTH + completion.length) {
+			return false;
+		}
+		for (int i = 0; i < completion.length; i++) {
+			if (response[PacketEncoder.HEADER_LENGTH + i] != completion[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * This method is used to read the one byte value of an inquiry reply (90 50 pp FF)
+	 *
+	 * @param response This is the reply received from the device
+	 * @return byte This returns the value byte
+	 */
+	public static byte decodeByte(byte[] response) {
+		return response[VALUE_OFFSET];
+	}
+
+	/**
+	 * This method is used to read the unsigned one byte value of an inquiry reply (90 50 pp FF)
+	 *
+	 * @param response This is the reply received from the device
+	 * @return int This returns the value
+	 */
+	public static int decodeUnsignedByte(byte[] response) {
+		return Byte.toUnsignedInt(response[VALUE_OFFSET]);
+	}
+
+	/**
+	 * This method is used to read the value of an inquiry reply split in 4-bit nibbles (90 50 00 00 0p 0q FF)
+	 *
+	 * @param response This is the reply received from the device
+	 * @return int This returns the value p * 16 + q
+	 */
+	public static int decodeFourBitValue(byte[] response) {
+		return response[FOUR_BIT_VALUE_OFFSET] * 16 + response[FOUR_BIT_VALUE_OFFSET + 1];
+	}
+
+	/**
+	 * This method is used to decode a zoom or focus position reply (90 50 0p 0q 0r 0s FF)
+	 *
+	 * @param response This is the reply received from the device
+	 * @return int This returns the position
+	 */
+	public static int decodePosition(byte[] response) {
+		return AverPTZUtils.convertFourBytesArrayToTwoBytesNumber(response, VALUE_OFFSET);
+	}
+
+	/**
+	 * This method is used to decode a pan tilt position reply (90 50 0Y 0Y 0Y 0Y 0Z 0Z 0Z 0Z FF)
+	 *
+	 * @param response This is the reply received from the device
+	 * @return PanTiltPosition This returns the signed pan and tilt positions
+	 */
+	public static PanTiltPosition decodePanTiltPosition(byte[] response) {
+		return new PanTiltPosition((short) AverPTZUtils.convertFourBytesArrayToTwoBytesNumber(response, VALUE_OFFSET),
+				(short) AverPTZUtils.convertFourBytesArrayToTwoBytesNumber(response, VALUE_OFFSET + 4));
+	}
+
+	/**
+	 * This method is used to decode a power status reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @return PowerStatus This returns the power status, null if the value is unknown
+	 */
+	public static PowerStatus decodePowerStatus(byte[] response) {
+		return PowerStatus.getByCode(decodeByte(response));
+	}
+
+	/**
+	 * This method is used to decode a focus mode reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @return FocusMode This returns the focus mode, null if the value is unknown
+	 */
+	public static FocusMode decodeFocusMode(byte[] response) {
+		return FocusMode.getByCode(decodeByte(response));
+	}
+
+	/**
+	 * This method is used to decode an AE mode reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @return AEMode This returns the AE mode, null if the value is unknown
+	 */
+	public static AEMode decodeAEMode(byte[] response) {
+		return AEMode.getByCode(decodeByte(response));
+	}
+
+	/**
+	 * This method is used to decode a WB mode reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @return WBMode This returns the WB mode, null if the value is unknown
+	 */
+	public static WBMode decodeWBMode(byte[] response) {
+		return WBMode.getByCode(decodeByte(response));
+	}
+
+	/**
+	 * This method is used to decode a backlight status reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @return BacklightStatus This returns the backlight status, null if the value is unknown
+	 */
+	public static BacklightStatus decodeBacklightStatus(byte[] response) {
+		return BacklightStatus.getByCode(decodeByte(response));
+	}
+
+	/**
+	 * This method is used to decode an auto slow shutter status reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @return SlowShutterStatus This returns the auto slow shutter status, null if the value is unknown
+	 */
+	public static SlowShutterStatus decodeSlowShutterStatus(byte[] response) {
+		return SlowShutterStatus.getByCode(decodeByte(response));
+	}
+
+	/**
+	 * This method is used to decode a slow pan tilt status reply
+	 *
+	 * @param response This is the reply received from the device
+	 * @return SlowPanTiltStatus This returns the slow pan tilt status, null if the value is unknown
+	 */
+	public static SlowPanTiltStatus decodeSlowPanTiltStatus(byte[] response) {
+		return SlowPanTiltStatus.getByCode(decodeByte(response));
+	}
+}
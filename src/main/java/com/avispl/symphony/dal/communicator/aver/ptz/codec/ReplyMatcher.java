@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants.BYTE_SUFFIX;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.Prefix;
+
+/**
+ * Classifier of VISCA over IP replies working on the reply bytes
+ * Replies are recognized by their trailing bytes: ACK (90 41 FF), COMPLETION (90 51 FF), {@link ReplyStatus} errors (90 6x yy FF),
+ * any other reply terminated by FF is an inquiry reply (90 50 ... FF). Nothing is allocated.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplyMatcher {
+	private static final ReplyStatus[] ERROR_STATUSES = {
+			ReplyStatus.SYNTAX_ERROR_CONTROL,
+			ReplyStatus.SYNTAX_ERROR_INQUIRY,
+			ReplyStatus.COMMAND_BUFFER_FULL_CONTROL,
+			ReplyStatus.COMMAND_BUFFER_FULL_INQUIRY,
+			ReplyStatus.NO_SOCKET_CONTROL,
+			ReplyStatus.NO_SOCKET_INQUIRY,
+			ReplyStatus.COMMAND_NOT_EXECUTABLE_CONTROL,
+			ReplyStatus.COMMAND_NOT_EXECUTABLE_INQUIRY
+	};
+
+	/**
+	 * Type of a reply
+	 */
+	public enum ReplyType {
+		ACK,
+		COMPLETION,
+		ERROR,
+		INQUIRY_REPLY,
+		UNKNOWN
+	}
+
+	private ReplyMatcher() {
+	}
+
+	/**
+	 * This method is used to classify a reply
+	 *
+	 * @param reply This is the reply received from the device
+	 * @return ReplyType This returns the type of the reply, UNKNOWN if it is not terminated by FF
+	 */
+	public static ReplyType match(byte[] reply) {
+		if (reply == null || reply.length == 0 || reply[reply.length - 1] != BYTE_SUFFIX) {
+			return ReplyType.UNKNOWN;
+		}
+		if (endsWith(reply, ReplyStatus.ACK.getCode())) {
+			return ReplyType.ACK;
+		}
+		if (endsWith(reply, ReplyStatus.COMPLETION.getCode())) {
+			return ReplyType.COMPLETION;
+		}
+		if (matchError(reply) != null) {
+			return ReplyType.ERROR;
+		}
+		return ReplyType.INQUIRY_REPLY;
+	}
+
+	/**
+	 * This method is used to find the error status a reply ends with
+	 *
+	 * @param reply This is the reply received from the device
+	 * @return ReplyStatus This returns the error status, null if the reply is not an error
+	 */
+	public static ReplyStatus matchError(byte[] reply) {
+		for (ReplyStatus status : ERROR_STATUSES) {
+			if (endsWith(reply, status.getCode())) {
+				return status;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * This method is used to check if a reply is a flow control signal of the camera
+	 * The command was rejected because the command buffer is full or no socket is free, it can be sent again later.
+	 *
+	 * @param reply This is the reply received from the device
+	 * @return boolean This returns true if the reply is COMMAND_BUFFER_FULL or NO_SOCKET
+	 */
+	public static boolean isFlowControl(byte[] reply) {
+		if (reply == null) {
+			return false;
+		}
+		ReplyStatus status = matchError(reply);
+		return status == ReplyStatus.COMMAND_BUFFER_FULL_CONTROL || status == ReplyStatus.COMMAND_BUFFER_FULL_INQUIRY
+				|| status == ReplyStatus.NO_SOCKET_CONTROL || status == ReplyStatus.NO_SOCKET_INQUIRY;
+	}
+
+	/**
+	 * This method is used to check if a packet is an inquiry
+	 *
+	 * @param packet This is the packet sent to the device
+	 * @return boolean This returns true if the payload type of the packet is inquiry
+	 */
+	public static boolean isInquiry(byte[] packet) {
+		return packet.length > 1 && packet[0] == Prefix.PAYLOAD_TYPE.getPrefixCode() && packet[1] == PayloadType.INQUIRY.getCode();
+	}
+
+	/**
+	 * This method is used to check if a byte array ends with a suffix
+	 *
+	 * @param data This is the byte array to be checked
+	 * @param suffix This is the expected suffix
+	 * @return boolean This returns true if data ends with suffix
+	 */
+	public static boolean endsWith(byte[] data, byte[] suffix) {
+		int offset = data.length - suffix.length;
+		if (offset < 0) {
+			return false;
+		}
+		for (int i = 0; i < suffix.length; i++) {
+			if (data[offset + i] != suffix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
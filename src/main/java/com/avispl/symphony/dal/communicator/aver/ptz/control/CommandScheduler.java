@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+
+/**
+ * Command scheduler granting the device to one sender at a time
+ * Waiting senders are served by {@link Lane}, then in arrival order within a lane, so a control waits for at most one inquiry batch
+ * of the monitoring cycle. A control of a coalescing command is superseded when a newer control of the same command arrives before
+ * its turn: only the latest value is sent.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CommandScheduler {
+	/**
+	 * Priority lanes of the scheduler, in order of priority
+	 * CRITICAL: power and preset, INTERACTIVE: other controls, INQUIRY: monitoring cycle
+	 */
+	public enum Lane {
+		CRITICAL, INTERACTIVE, INQUIRY;
+
+		/**
+		 * This method is used to get the lane of a control command
+		 *
+		 * @param command This is the control command
+		 * @return Lane This returns CRITICAL for power and preset, INTERACTIVE otherwise
+		 */
+		public static Lane forCommand(Command command) {
+			return command == Command.POWER || command == Command.PRESET ? CRITICAL : INTERACTIVE;
+		}
+	}
+
+	/**
+	 * Commands published by a single property, so a newer value supersedes the pending one
+	 * PAN_TILT_ABSOLUTE is not coalescing: it serves both the pan and the tilt position, a tilt must not supersede a pending pan.
+	 */
+	private static final Set<Command> COALESCING_COMMANDS = EnumSet.of(Command.SHUTTER_DIRECT, Command.IRIS_DIRECT, Command.GAIN_DIRECT, Command.EXP_COMP_DIRECT,
+			Command.GAIN_LIMIT_DIRECT, Command.ZOOM_DIRECT, Command.FOCUS_DIRECT);
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition turnChanged = lock.newCondition();
+	private final Map<Lane, ArrayDeque<Thread>> waiters = new EnumMap<>(Lane.class);
+	private final Map<Command, Long> latestTickets = new EnumMap<>(Command.class);
+	private Thread owner;
+	private int holdCount;
+	private long coalescedTotal;
+
+	/**
+	 * Create a scheduler with an empty queue for every lane
+	 */
+	public CommandScheduler() {
+		for (Lane lane : Lane.values()) {
+			waiters.put(lane, new ArrayDeque<>());
+		}
+	}
+
+	/**
+	 * This method is used to check if the values of a command supersede each other
+	 *
+	 * @param command This is the control command
+	 * @return boolean This returns true if only the latest pending value of the command has to be sent
+	 */
+	public static boolean isCoalescing(Command command) {
+		return COALESCING_COMMANDS.contains(command);
+	}
+
+	/**
+	 * This method is used to wait for the turn of a sender, the turn is reentrant
+	 *
+	 * @param lane This is the lane of the sender
+	 * @throws IllegalStateException if the thread is interrupted while waiting
+	 */
+	public void acquire(Lane lane) {
+		lock.lock();
+		try {
+			awaitTurn(lane, null, 0);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to wait for the turn of a control in the lane of its command
+	 * A control of a coalescing command gives up its turn when a newer control of the same command is pending.
+	 *
+	 * @param command This is the control command
+	 * @return boolean This returns true if the turn is granted, false if the control is superseded and must not be sent
+	 * @throws IllegalStateException if the thread is interrupted while waiting
+	 */
+	public boolean acquireControl(Command command) {
+		lock.lock();
+		try {
+			if (!isCoalescing(command)) {
+				return awaitTurn(Lane.forCommand(command), null, 0);
+			}
+			long ticket = latestTickets.merge(command, 1L, Long::sum);
+			// Wake up the pending control of the same command, it is superseded
+			turnChanged.signalAll();
+			return awaitTurn(Lane.forCommand(command), command, ticket);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to release the turn, the next sender of the highest priority lane gets it
+	 *
+	 * @throws IllegalMonitorStateException if the current thread does not hold the turn
+	 */
+	public void release() {
+		lock.lock();
+		try {
+			if (owner != Thread.currentThread()) {
+				throw new IllegalMonitorStateException("Current thread does not hold the turn");
+			}
+			if (--holdCount == 0) {
+				owner = null;
+				turnChanged.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to get the number of senders waiting in a lane
+	 *
+	 * @param lane This is the lane
+	 * @return int This returns the number of waiting senders
+	 */
+	public int getWaiting(Lane lane) {
+		lock.lock();
+		try {
+			return waiters.get(lane).size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #coalescedTotal}}
+	 *
+	 * @return value of {@link #coalescedTotal}
+	 */
+	public long getCoalescedTotal() {
+		lock.lock();
+		try {
+			return coalescedTotal;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to wait until the current thread is the head of the highest priority non empty lane and the device is free
+	 * Must be called while holding {@link #lock}.
+	 *
+	 * @param lane This is the lane of the sender
+	 * @param command This is the coalescing command of the sender, null if the sender cannot be superseded
+	 * @param ticket This is the ticket of the coalescing command
+	 * @return boolean This returns false if the sender is superseded
+	 */
+	private boolean awaitTurn(Lane lane, Command command, long ticket) {
+		Thread current = Thread.currentThread();
+		if (owner == current) {
+			holdCount++;
+			return true;
+		}
+
+		ArrayDeque<Thread> queue = waiters.get(lane);
+		queue.addLast(current);
+		try {
+			while (true) {
+				if (command != null && latestTickets.get(command) != ticket) {
+					coalescedTotal++;
+					return false;
+				}
+				if (owner == null && queue.peekFirst() == current && !hasHigherPriorityWaiter(lane)) {
+					owner = current;
+					holdCount = 1;
+					return true;
+				}
+				turnChanged.await();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the device", e);
+		} finally {
+			queue.remove(current);
+			// The head of the lane or a lower lane may be able to proceed now
+			turnChanged.signalAll();
+		}
+	}
+
+	/**
+	 * This method is used to check if a sender is waiting in a lane of higher priority
+	 *
+	 * @param lane This is the lane of the sender
+	 * @return boolean This returns true if a lane of higher priority has waiting senders
+	 */
+	private boolean hasHigherPriorityWaiter(Lane lane) {
+		for (Lane higher : Lane.values()) {
+			if (higher == lane) {
+				return false;
+			}
+			if (!waiters.get(higher).isEmpty()) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Control dispatcher mapping every published property name to its handler
+ * The table is built once, a control is resolved with one map lookup instead of splitting the property name.
+ *
+ * @param <T> This is the type of the device receiving the controls
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ControlDispatcher<T> {
+	private final Map<String, ControlHandler<T>> handlers = new HashMap<>();
+
+	/**
+	 * Handler of a controllable property
+	 *
+	 * @param <T> This is the type of the device receiving the control
+	 */
+	@FunctionalInterface
+	public interface ControlHandler<T> {
+		/**
+		 * This method is used to apply the value of a controllable property to the device
+		 *
+		 * @param device This is the device receiving the control
+		 * @param value This is the value of the controllable property
+		 */
+		void control(T device, String value);
+	}
+
+	/**
+	 * This method is used to register the handler of a property
+	 *
+	 * @param propertyName This is the full property name, including group and index
+	 * @param handler This is the handler of the property
+	 * @return ControlDispatcher This returns the dispatcher to chain registrations
+	 * @throws IllegalArgumentException if the property already has a handler
+	 */
+	public ControlDispatcher<T> register(String propertyName, ControlHandler<T> handler) {
+		if (handlers.putIfAbsent(propertyName, handler) != null) {
+			throw new IllegalArgumentException("Property " + propertyName + " already has a handler");
+		}
+		return this;
+	}
+
+	/**
+	 * This method is used to dispatch a control to the handler of its property
+	 *
+	 * @param device This is the device receiving the control
+	 * @param propertyName This is the full property name
+	 * @param value This is the value of the property
+	 * @return boolean This returns false if the property has no handler
+	 */
+	public boolean dispatch(T device, String propertyName, String value) {
+		ControlHandler<T> handler = handlers.get(propertyName);
+		if (handler == null) {
+			return false;
+		}
+		handler.control(device, value);
+		return true;
+	}
+
+	/**
+	 * This method is used to check if a property has a handler
+	 *
+	 * @param propertyName This is the full property name
+	 * @return boolean This returns true if the property has a handler
+	 */
+	public boolean hasHandler(String propertyName) {
+		return handlers.containsKey(propertyName);
+	}
+}
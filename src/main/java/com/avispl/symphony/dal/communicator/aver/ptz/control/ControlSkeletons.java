@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants.HASH;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.Index;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.BGainControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PanTiltDrive;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PositionControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PresetControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.RGainControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.ZoomControl;
+
+/**
+ * This class is used to store the static parts of the controllable properties:
+ *
+ * - Property names
+ * - Dropdown options (AE mode, WB mode, presets)
+ * - Button, switch, slider, dropdown and numeric definitions
+ *
+ * Definitions are built on first use and reused by every monitoring cycle, only the current values are filled in per cycle.
+ * An instance belongs to one adapter and is only used by its monitoring cycle.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ControlSkeletons {
+	public static final String ZOOM_TELE = Command.ZOOM.getName() + HASH + ZoomControl.TELE.getName();
+	public static final String ZOOM_WIDE = Command.ZOOM.getName() + HASH + ZoomControl.WIDE.getName();
+	public static final String ZOOM_POSITION = Command.ZOOM.getName() + HASH + Command.ZOOM_DIRECT.getName();
+	public static final String FOCUS_MODE = Command.FOCUS.getName() + HASH + Index.ONE.getName() + Command.FOCUS_MODE.getName();
+	public static final String FOCUS_ONE_PUSH = Command.FOCUS.getName() + HASH + Index.TWO.getName() + Command.FOCUS_ONE_PUSH.getName();
+	public static final String FOCUS_NEAR = Command.FOCUS.getName() + HASH + Index.THREE.getName() + FocusControl.NEAR.getName();
+	public static final String FOCUS_FAR = Command.FOCUS.getName() + HASH + Index.FOUR.getName() + FocusControl.FAR.getName();
+	public static final String FOCUS_POSITION = Command.FOCUS.getName() + HASH + Index.FIVE.getName() + Command.FOCUS_DIRECT.getName();
+	public static final String AE_MODE = Command.EXPOSURE.getName() + HASH + Command.AE_MODE.getName();
+	public static final String EXPOSURE_BACKLIGHT = Command.EXPOSURE.getName() + HASH + Command.BACKLIGHT.getName();
+	public static final String EXPOSURE_AUTO_SLOW_SHUTTER = Command.EXPOSURE.getName() + HASH + Command.AUTO_SLOW_SHUTTER.getName();
+	public static final String EXPOSURE_EXP_COMP_DIRECT = Command.EXPOSURE.getName() + HASH + Command.EXP_COMP_DIRECT.getName();
+	public static final String EXPOSURE_EXP_COMP_CURRENT = Command.EXPOSURE.getName() + HASH + Command.EXP_COMP_CURRENT.getName();
+	public static final String EXPOSURE_GAIN_LIMIT_DIRECT = Command.EXPOSURE.getName() + HASH + Command.GAIN_LIMIT_DIRECT.getName();
+	public static final String EXPOSURE_GAIN_LIMIT_CURRENT = Command.EXPOSURE.getName() + HASH + Command.GAIN_LIMIT_CURRENT.getName();
+	public static final String EXPOSURE_SHUTTER_DIRECT = Command.EXPOSURE.getName() + HASH + Command.SHUTTER_DIRECT.getName();
+	public static final String EXPOSURE_SHUTTER_CURRENT = Command.EXPOSURE.getName() + HASH + Command.SHUTTER_CURRENT.getName();
+	public static final String EXPOSURE_IRIS_DIRECT = Command.EXPOSURE.getName() + HASH + Command.IRIS_DIRECT.getName();
+	public static final String EXPOSURE_IRIS_CURRENT = Command.EXPOSURE.getName() + HASH + Command.IRIS_CURRENT.getName();
+	public static final String EXPOSURE_GAIN_DIRECT = Command.EXPOSURE.getName() + HASH + Command.GAIN_DIRECT.getName();
+	public static final String EXPOSURE_GAIN_CURRENT = Command.EXPOSURE.getName() + HASH + Command.GAIN_CURRENT.getName();
+	public static final String WB_MODE = Command.IMAGE_PROCESS.getName() + HASH + Index.ONE.getName() + Command.WB_MODE.getName();
+	public static final String WB_ONE_PUSH_TRIGGER = Command.IMAGE_PROCESS.getName() + HASH + Index.TWO.getName() + Command.WB_ONE_PUSH_TRIGGER.getName();
+	public static final String IMAGE_PROCESS_BGAIN_INQ = Command.IMAGE_PROCESS.getName() + HASH + Index.TWO.getName() + Command.BGAIN_INQ.getName();
+	public static final String IMAGE_PROCESS_RGAIN_INQ = Command.IMAGE_PROCESS.getName() + HASH + Index.FIVE.getName() + Command.RGAIN_INQ.getName();
+	public static final String IMAGE_PROCESS_RGAIN_INQ_UNKNOWN = Command.IMAGE_PROCESS.getName() + HASH + Index.THREE.getName() + Command.RGAIN_INQ.getName();
+	public static final String IMAGE_PROCESS_BGAIN_UP = Command.IMAGE_PROCESS.getName() + HASH + Index.THREE.getName() + Command.BGAIN.getName() + BGainControl.UP.getName();
+	public static final String IMAGE_PROCESS_BGAIN_DOWN = Command.IMAGE_PROCESS.getName() + HASH + Index.FOUR.getName() + Command.BGAIN.getName() + BGainControl.DOWN.getName();
+	public static final String IMAGE_PROCESS_RGAIN_UP = Command.IMAGE_PROCESS.getName() + HASH + Index.SIX.getName() + Command.RGAIN.getName() + RGainControl.UP.getName();
+	public static final String IMAGE_PROCESS_RGAIN_DOWN = Command.IMAGE_PROCESS.getName() + HASH + Index.SEVEN.getName() + Command.RGAIN.getName() + RGainControl.DOWN.getName();
+	public static final String SLOW_PAN_TILT = Command.PAN_TILT_DRIVE.getName() + HASH + Index.ZERO.getName() + Command.SLOW_PAN_TILT.getName();
+	public static final String PAN_TILT_HOME = Command.PAN_TILT_DRIVE.getName() + HASH + Index.ONE.getName() + Command.PAN_TILT_HOME.getName();
+	public static final String PAN_TILT_DRIVE_UP = Command.PAN_TILT_DRIVE.getName() + HASH + Index.TWO.getName() + PanTiltDrive.UP.getName();
+	public static final String PAN_TILT_DRIVE_DOWN = Command.PAN_TILT_DRIVE.getName() + HASH + Index.THREE.getName() + PanTiltDrive.DOWN.getName();
+	public static final String PAN_TILT_DRIVE_LEFT = Command.PAN_TILT_DRIVE.getName() + HASH + Index.FOUR.getName() + PanTiltDrive.LEFT.getName();
+	public static final String PAN_TILT_DRIVE_RIGHT = Command.PAN_TILT_DRIVE.getName() + HASH + Index.FIVE.getName() + PanTiltDrive.RIGHT.getName();
+	public static final String PAN_TILT_DRIVE_UP_LEFT = Command.PAN_TILT_DRIVE.getName() + HASH + Index.SIX.getName() + PanTiltDrive.UP_LEFT.getName();
+	public static final String PAN_TILT_DRIVE_UP_RIGHT = Command.PAN_TILT_DRIVE.getName() + HASH + Index.SEVEN.getName() + PanTiltDrive.UP_RIGHT.getName();
+	public static final String PAN_TILT_DRIVE_DOWN_LEFT = Command.PAN_TILT_DRIVE.getName() + HASH + Index.EIGHT.getName() + PanTiltDrive.DOWN_LEFT.getName();
+	public static final String PAN_TILT_DRIVE_DOWN_RIGHT = Command.PAN_TILT_DRIVE.getName() + HASH + Index.NINE.getName() + PanTiltDrive.DOWN_RIGHT.getName();
+	public static final String PAN_POSITION = Command.PAN_TILT_DRIVE.getName() + HASH + Index.TEN.getName() + PositionControl.PAN_POSITION.getName();
+	public static final String TILT_POSITION = Command.PAN_TILT_DRIVE.getName() + HASH + Index.ELEVEN.getName() + PositionControl.TILT_POSITION.getName();
+	public static final String PAN_RELATIVE = Command.PAN_TILT_DRIVE.getName() + HASH + Index.TWELVE.getName() + PositionControl.PAN_RELATIVE.getName();
+	public static final String TILT_RELATIVE = Command.PAN_TILT_DRIVE.getName() + HASH + Index.THIRTEEN.getName() + PositionControl.TILT_RELATIVE.getName();
+	public static final String LAST_PRESET_RECALLED = Command.PRESET.getName() + HASH + Index.ONE.getName() + PresetControl.LAST_PRESET_RECALLED.getName();
+	public static final String PRESET_VALUE = Command.PRESET.getName() + HASH + Index.TWO.getName() + PresetControl.PRESET_VALUE.getName();
+	public static final String PRESET_SET = Command.PRESET.getName() + HASH + Index.THREE.getName() + PresetControl.SET.getName();
+	public static final String PRESET_RECALL = Command.PRESET.getName() + HASH + Index.FOUR.getName() + PresetControl.RECALL.getName();
+
+	private static final String[] AE_MODE_OPTIONS = { AEMode.FULL_AUTO.getName(), AEMode.IRIS_PRIORITY.getName(), AEMode.SHUTTER_PRIORITY.getName(), AEMode.MANUAL.getName() };
+	private static final String[] WB_MODE_OPTIONS = { WBMode.AUTO.getName(), WBMode.INDOOR.getName(), WBMode.OUTDOOR.getName(), WBMode.ONE_PUSH_WB.getName(), WBMode.MANUAL.getName() };
+	private static final String[] PRESET_OPTIONS = new String[257];
+
+	static {
+		PRESET_OPTIONS[0] = AverPTZConstants.DEFAULT_PRESET;
+		for (int i = 0; i <= 255; ++i) {
+			PRESET_OPTIONS[i + 1] = String.valueOf(i);
+		}
+	}
+
+	private final Map<String, AdvancedControllableProperty.Button> buttons = new HashMap<>();
+	private final Map<String, AdvancedControllableProperty.Switch> switches = new HashMap<>();
+	private final Map<String, AdvancedControllableProperty.Slider> sliders = new HashMap<>();
+	private final Map<String, AdvancedControllableProperty.DropDown> dropDowns = new HashMap<>();
+	private final Map<String, AdvancedControllableProperty.Numeric> numerics = new HashMap<>();
+
+	/**
+	 * This method is used to get the options of the AE mode dropdown
+	 *
+	 * @return String[] This returns the AE modes
+	 */
+	public static String[] getAEModeOptions() {
+		return AE_MODE_OPTIONS;
+	}
+
+	/**
+	 * This method is used to get the options of the WB mode dropdown
+	 *
+	 * @return String[] This returns the WB modes
+	 */
+	public static String[] getWBModeOptions() {
+		return WB_MODE_OPTIONS;
+	}
+
+	/**
+	 * This method is used to get the options of the preset dropdown
+	 *
+	 * @return String[] This returns the default preset label followed by the presets 0 -> 255
+	 */
+	public static String[] getPresetOptions() {
+		return PRESET_OPTIONS;
+	}
+
+	/**
+	 * This method is used to get the button definition of a property
+	 *
+	 * @param name This is the property name
+	 * @param label This is the label of the button
+	 * @return AdvancedControllableProperty.Button This returns the button definition
+	 */
+	public AdvancedControllableProperty.Button getButton(String name, String label) {
+		AdvancedControllableProperty.Button button = buttons.get(name);
+		if (button == null) {
+			button = new AdvancedControllableProperty.Button();
+			button.setLabel(label);
+			button.setLabelPressed("Running...");
+			button.setGracePeriod(100L);
+			buttons.put(name, button);
+		}
+		return button;
+	}
+
+	/**
+	 * This method is used to get the switch definition of a property
+	 *
+	 * @param name This is the property name
+	 * @param labelOff This is the label off of the switch
+	 * @param labelOn This is the label on of the switch
+	 * @return AdvancedControllableProperty.Switch This returns the switch definition
+	 */
+	public AdvancedControllableProperty.Switch getSwitch(String name, String labelOff, String labelOn) {
+		AdvancedControllableProperty.Switch toggle = switches.get(name);
+		if (toggle == null) {
+			toggle = new AdvancedControllableProperty.Switch();
+			toggle.setLabelOff(labelOff);
+			toggle.setLabelOn(labelOn);
+			switches.put(name, toggle);
+		}
+		return toggle;
+	}
+
+	/**
+	 * This method is used to get the slider definition of a property
+	 *
+	 * @param name This is the property name
+	 * @param labelStart This is the label start of the slider
+	 * @param labelEnd This is the label end of the slider
+	 * @param rangeStart This is the range start of the slider
+	 * @param rangeEnd This is the range end of the slider
+	 * @return AdvancedControllableProperty.Slider This returns the slider definition
+	 */
+	public AdvancedControllableProperty.Slider getSlider(String name, String labelStart, String labelEnd, Float rangeStart, Float rangeEnd) {
+		AdvancedControllableProperty.Slider slider = sliders.get(name);
+		if (slider == null) {
+			slider = new AdvancedControllableProperty.Slider();
+			slider.setLabelStart(labelStart);
+			slider.setLabelEnd(labelEnd);
+			slider.setRangeStart(rangeStart);
+			slider.setRangeEnd(rangeEnd);
+			sliders.put(name, slider);
+		}
+		return slider;
+	}
+
+	/**
+	 * This method is used to get the dropdown definition of a property
+	 *
+	 * @param name This is the property name
+	 * @param options These are the options of the dropdown, also used as labels
+	 * @return AdvancedControllableProperty.DropDown This returns the dropdown definition
+	 */
+	public AdvancedControllableProperty.DropDown getDropDown(String name, String[] options) {
+		AdvancedControllableProperty.DropDown dropDown = dropDowns.get(name);
+		if (dropDown == null) {
+			dropDown = new AdvancedControllableProperty.DropDown();
+			dropDown.setOptions(options);
+			dropDown.setLabels(options);
+			dropDowns.put(name, dropDown);
+		}
+		return dropDown;
+	}
+
+	/**
+	 * This method is used to get the numeric definition of a property
+	 *
+	 * @param name This is the property name
+	 * @return AdvancedControllableProperty.Numeric This returns the numeric definition
+	 */
+	public AdvancedControllableProperty.Numeric getNumeric(String name) {
+		return numerics.computeIfAbsent(name, key -> new AdvancedControllableProperty.Numeric());
+	}
+}
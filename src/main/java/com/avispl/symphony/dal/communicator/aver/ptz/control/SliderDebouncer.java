@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+
+/**
+ * Slider debouncer keeping the last value of every DIRECT command in a debounce window
+ * The first value of a command opens a window, every call of the window waits until it ends. Only the call holding the last value
+ * of the window is sent, the earlier calls complete as superseded without sending.
+ * Waiting uses a lock instead of a monitor so a virtual thread does not pin its carrier thread.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class SliderDebouncer {
+	private final Map<Command, Window> windows = new EnumMap<>(Command.class);
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition superseded = lock.newCondition();
+	private long supersededTotal;
+
+	/**
+	 * Debounce window of a command
+	 */
+	private static class Window {
+		private final long deadline;
+		private long latestTicket;
+
+		private Window(long deadline) {
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * This method is used to wait for the end of the debounce window of a command
+	 *
+	 * @param command This is the DIRECT command of the slider
+	 * @param windowMillis This is the length of the debounce window in milliseconds, 0 to send every value
+	 * @return boolean This returns true if the value is the last of the window and has to be sent, false if it is superseded
+	 * @throws IllegalStateException if the thread is interrupted while waiting
+	 */
+	public boolean awaitLatest(Command command, long windowMillis) {
+		if (windowMillis <= 0) {
+			return true;
+		}
+
+		lock.lock();
+		try {
+			return awaitLatestLocked(command, windowMillis);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean awaitLatestLocked(Command command, long windowMillis) {
+		Window window = windows.computeIfAbsent(command, key -> new Window(System.currentTimeMillis() + windowMillis));
+		long ticket = ++window.latestTicket;
+		// Wake up the previous value of the window, it is superseded
+		superseded.signalAll();
+		try {
+			while (true) {
+				if (window.latestTicket != ticket) {
+					supersededTotal++;
+					return false;
+				}
+				long remaining = window.deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					windows.remove(command);
+					return true;
+				}
+				superseded.await(remaining, TimeUnit.MILLISECONDS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			if (window.latestTicket == ticket) {
+				windows.remove(command);
+			}
+			throw new IllegalStateException("Interrupted while debouncing " + command.getName(), e);
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #supersededTotal}}
+	 *
+	 * @return value of {@link #supersededTotal}
+	 */
+	public long getSupersededTotal() {
+		lock.lock();
+		try {
+			return supersededTotal;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.dto;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertFourBytesArrayToTwoBytesNumber;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.BacklightStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PresetControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.SlowPanTiltStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.SlowShutterStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
+
+/**
+ * This class is used to store the last known state of the camera:
+ *
+ * - Power, last preset recalled
+ * - Focus mode
+ * - AE mode, auto slow shutter, shutter/iris/gain/exposure/gain limit values
+ * - WB mode, R/B gain
+ * - Backlight, slow pan tilt
+ * - Zoom, focus and pan tilt positions
+ *
+ * Every field is keyed by the inquiry command reading it and has the timestamp of its last update, a field without timestamp is unknown.
+ * Fields are filled by polling and updated optimistically by control commands completed by the device.
+ * Numeric fields hold the value as sent by the device (slider index).
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CameraState {
+	private static final Map<Command, Class<?>> FIELD_TYPES;
+
+	static {
+		Map<Command, Class<?>> fieldTypes = new EnumMap<>(Command.class);
+		fieldTypes.put(Command.POWER, PowerStatus.class);
+		fieldTypes.put(Command.PRESET, Integer.class);
+		fieldTypes.put(Command.FOCUS_MODE, FocusMode.class);
+		fieldTypes.put(Command.AE_MODE, AEMode.class);
+		fieldTypes.put(Command.AUTO_SLOW_SHUTTER, SlowShutterStatus.class);
+		fieldTypes.put(Command.SHUTTER_DIRECT, Integer.class);
+		fieldTypes.put(Command.IRIS_DIRECT, Integer.class);
+		fieldTypes.put(Command.GAIN_DIRECT, Integer.class);
+		fieldTypes.put(Command.EXP_COMP_DIRECT, Integer.class);
+		fieldTypes.put(Command.GAIN_LIMIT_DIRECT, Integer.class);
+		fieldTypes.put(Command.WB_MODE, WBMode.class);
+		fieldTypes.put(Command.RGAIN_INQ, Integer.class);
+		fieldTypes.put(Command.BGAIN_INQ, Integer.class);
+		fieldTypes.put(Command.BACKLIGHT, BacklightStatus.class);
+		fieldTypes.put(Command.SLOW_PAN_TILT, SlowPanTiltStatus.class);
+		fieldTypes.put(Command.ZOOM_DIRECT, Integer.class);
+		fieldTypes.put(Command.FOCUS_DIRECT, Integer.class);
+		fieldTypes.put(Command.PAN_TILT_POSITION, PanTiltPosition.class);
+		FIELD_TYPES = Collections.unmodifiableMap(fieldTypes);
+	}
+
+	private final Map<Command, Object> values = new EnumMap<>(Command.class);
+	private final Map<Command, Long> timestamps = new EnumMap<>(Command.class);
+
+	/**
+	 * This method is used to get the value of a field
+	 *
+	 * @param command This is the inquiry command of the field
+	 * @param type This is the type of the field
+	 * @return T This returns the value, null if the field is unknown
+	 * @throws ClassCastException if the field has another type
+	 */
+	public synchronized <T> T getValue(Command command, Class<T> type) {
+		return type.cast(values.get(command));
+	}
+
+	/**
+	 * This method is used to set the value of a field
+	 *
+	 * @param command This is the inquiry command of the field
+	 * @param value This is the value, null makes the field unknown
+	 * @param timestamp This is the time of the value in milliseconds
+	 * @throws IllegalArgumentException if the command is not a field of the state
+	 * @throws ClassCastException if the value has another type than the field
+	 */
+	public synchronized void setValue(Command command, Object value, long timestamp) {
+		Class<?> type = FIELD_TYPES.get(command);
+		if (type == null) {
+			throw new IllegalArgumentException("Command " + command.getName() + " is not a camera state field");
+		}
+
+		if (value == null) {
+			invalidate(command);
+			return;
+		}
+		values.put(command, type.cast(value));
+		timestamps.put(command, timestamp);
+	}
+
+	/**
+	 * This method is used to get the time of the last update of a field
+	 *
+	 * @param command This is the inquiry command of the field
+	 * @return Long This returns the time in milliseconds, null if the field is unknown
+	 */
+	public synchronized Long getTimestamp(Command command) {
+		return timestamps.get(command);
+	}
+
+	/**
+	 * This method is used to make fields unknown
+	 *
+	 * @param commands These are the inquiry commands of the fields
+	 */
+	public synchronized void invalidate(Command... commands) {
+		for (Command command : commands) {
+			values.remove(command);
+			timestamps.remove(command);
+		}
+	}
+
+	/**
+	 * This method is used to make every field unknown
+	 */
+	public synchronized void invalidateAll() {
+		values.clear();
+		timestamps.clear();
+	}
+
+	/**
+	 * This method is used to update the state after a control command completed
+	 * Fields set by the command take the value sent, fields the camera recalculates are made unknown.
+	 *
+	 * @param command This is the control command
+	 * @param param This is the parameter of the control command
+	 * @param timestamp This is the time of the completion in milliseconds
+	 */
+	public synchronized void applyControl(Command command, byte[] param, long timestamp) {
+		switch (command) {
+			case POWER:
+				setValue(Command.POWER, PowerStatus.getByCode(param[0]), timestamp);
+				break;
+			case FOCUS_MODE:
+				setValue(Command.FOCUS_MODE, FocusMode.getByCode(param[0]), timestamp);
+				invalidate(Command.FOCUS_DIRECT);
+				break;
+			case AE_MODE:
+				setValue(Command.AE_MODE, AEMode.getByCode(param[0]), timestamp);
+				break;
+			case AUTO_SLOW_SHUTTER:
+				setValue(Command.AUTO_SLOW_SHUTTER, SlowShutterStatus.getByCode(param[0]), timestamp);
+				break;
+			case BACKLIGHT:
+				setValue(Command.BACKLIGHT, BacklightStatus.getByCode(param[0]), timestamp);
+				break;
+			case SLOW_PAN_TILT:
+				setValue(Command.SLOW_PAN_TILT, SlowPanTiltStatus.getByCode(param[0]), timestamp);
+				break;
+			case WB_MODE:
+				setValue(Command.WB_MODE, WBMode.getByCode(param[0]), timestamp);
+				invalidate(Command.RGAIN_INQ, Command.BGAIN_INQ);
+				break;
+			case WB_ONE_PUSH_TRIGGER:
+				invalidate(Command.RGAIN_INQ, Command.BGAIN_INQ);
+				break;
+			case RGAIN:
+				invalidate(Command.RGAIN_INQ);
+				break;
+			case BGAIN:
+				invalidate(Command.BGAIN_INQ);
+				break;
+			case SHUTTER_DIRECT:
+			case IRIS_DIRECT:
+			case GAIN_DIRECT:
+			case EXP_COMP_DIRECT:
+				// Value is sent split in 4-bit nibbles
+				setValue(command, param[0] * 16 + param[1], timestamp);
+				break;
+			case GAIN_LIMIT_DIRECT:
+				setValue(Command.GAIN_LIMIT_DIRECT, Byte.toUnsignedInt(param[0]), timestamp);
+				break;
+			case PRESET:
+				if (param[0] == PresetControl.RECALL.getCode()) {
+					// A preset may hold image settings as well as the position
+					invalidateAll();
+					setValue(Command.PRESET, Byte.toUnsignedInt(param[1]), timestamp);
+				}
+				break;
+			case ZOOM_DIRECT:
+			case FOCUS_DIRECT:
+				setValue(command, convertFourBytesArrayToTwoBytesNumber(param, 0), timestamp);
+				break;
+			case PAN_TILT_ABSOLUTE:
+				// Param is pan speed, tilt speed, then the positions in 4-bit nibbles
+				setValue(Command.PAN_TILT_POSITION, new PanTiltPosition((short) convertFourBytesArrayToTwoBytesNumber(param, 2), (short) convertFourBytesArrayToTwoBytesNumber(param, 6)), timestamp);
+				break;
+			case ZOOM:
+				invalidate(Command.ZOOM_DIRECT);
+				break;
+			case FOCUS:
+			case FOCUS_ONE_PUSH:
+				invalidate(Command.FOCUS_DIRECT);
+				break;
+			case PAN_TILT_DRIVE:
+			case PAN_TILT_HOME:
+			case PAN_TILT_RELATIVE:
+				invalidate(Command.PAN_TILT_POSITION);
+				break;
+			default:
+				invalidateAll();
+				break;
+		}
+	}
+
+	/**
+	 * Retrieves power status
+	 *
+	 * @return PowerStatus the power status, null if unknown
+	 */
+	public PowerStatus getPowerStatus() {
+		return getValue(Command.POWER, PowerStatus.class);
+	}
+
+	/**
+	 * Retrieves last preset recalled
+	 *
+	 * @return Integer the last preset recalled, null if unknown
+	 */
+	public Integer getLastPresetRecalled() {
+		return getValue(Command.PRESET, Integer.class);
+	}
+
+	/**
+	 * Retrieves focus mode
+	 *
+	 * @return FocusMode the focus mode, null if unknown
+	 */
+	public FocusMode getFocusMode() {
+		return getValue(Command.FOCUS_MODE, FocusMode.class);
+	}
+
+	/**
+	 * Retrieves AE mode
+	 *
+	 * @return AEMode the AE mode, null if unknown
+	 */
+	public AEMode getAEMode() {
+		return getValue(Command.AE_MODE, AEMode.class);
+	}
+
+	/**
+	 * Retrieves auto slow shutter status
+	 *
+	 * @return SlowShutterStatus the auto slow shutter status, null if unknown
+	 */
+	public SlowShutterStatus getSlowShutterStatus() {
+		return getValue(Command.AUTO_SLOW_SHUTTER, SlowShutterStatus.class);
+	}
+
+	/**
+	 * Retrieves shutter speed index
+	 *
+	 * @return Integer the shutter speed index, null if unknown
+	 */
+	public Integer getShutterIndex() {
+		return getValue(Command.SHUTTER_DIRECT, Integer.class);
+	}
+
+	/**
+	 * Retrieves iris level index
+	 *
+	 * @return Integer the iris level index, null if unknown
+	 */
+	public Integer getIrisIndex() {
+		return getValue(Command.IRIS_DIRECT, Integer.class);
+	}
+
+	/**
+	 * Retrieves gain level
+	 *
+	 * @return Integer the gain level, null if unknown
+	 */
+	public Integer getGainLevel() {
+		return getValue(Command.GAIN_DIRECT, Integer.class);
+	}
+
+	/**
+	 * Retrieves exposure value as sent by the device (1 -> 9)
+	 *
+	 * @return Integer the exposure value, null if unknown
+	 */
+	public Integer getExposureValue() {
+		return getValue(Command.EXP_COMP_DIRECT, Integer.class);
+	}
+
+	/**
+	 * Retrieves gain limit level as sent by the device (0 -> 8)
+	 *
+	 * @return Integer the gain limit level, null if unknown
+	 */
+	public Integer getGainLimitLevel() {
+		return getValue(Command.GAIN_LIMIT_DIRECT, Integer.class);
+	}
+
+	/**
+	 * Retrieves WB mode
+	 *
+	 * @return WBMode the WB mode, null if unknown
+	 */
+	public WBMode getWBMode() {
+		return getValue(Command.WB_MODE, WBMode.class);
+	}
+
+	/**
+	 * Retrieves RGain value
+	 *
+	 * @return Integer the RGain value, null if unknown
+	 */
+	public Integer getRGain() {
+		return getValue(Command.RGAIN_INQ, Integer.class);
+	}
+
+	/**
+	 * Retrieves BGain value
+	 *
+	 * @return Integer the BGain value, null if unknown
+	 */
+	public Integer getBGain() {
+		return getValue(Command.BGAIN_INQ, Integer.class);
+	}
+
+	/**
+	 * Retrieves backlight status
+	 *
+	 * @return BacklightStatus the backlight status, null if unknown
+	 */
+	public BacklightStatus getBacklightStatus() {
+		return getValue(Command.BACKLIGHT, BacklightStatus.class);
+	}
+
+	/**
+	 * Retrieves slow pan tilt status
+	 *
+	 * @return SlowPanTiltStatus the slow pan tilt status, null if unknown
+	 */
+	public SlowPanTiltStatus getSlowPanTiltStatus() {
+		return getValue(Command.SLOW_PAN_TILT, SlowPanTiltStatus.class);
+	}
+
+	/**
+	 * Retrieves zoom position
+	 *
+	 * @return Integer the zoom position, null if unknown
+	 */
+	public Integer getZoomPosition() {
+		return getValue(Command.ZOOM_DIRECT, Integer.class);
+	}
+
+	/**
+	 * Retrieves focus position
+	 *
+	 * @return Integer the focus position, null if unknown
+	 */
+	public Integer getFocusPosition() {
+		return getValue(Command.FOCUS_DIRECT, Integer.class);
+	}
+
+	/**
+	 * Retrieves pan tilt position
+	 *
+	 * @return PanTiltPosition the pan tilt position, null if unknown
+	 */
+	public PanTiltPosition getPanTiltPosition() {
+		return getValue(Command.PAN_TILT_POSITION, PanTiltPosition.class);
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.dto;
+
+import java.util.Objects;
+
+/**
+ * This class is used to store the pan and tilt position of the camera, both axes are read by one inquiry and set by one command
+ * Positions are signed device units, 0 is the home position.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PanTiltPosition {
+	private final int pan;
+	private final int tilt;
+
+	/**
+	 * Create a position from the values of both axes
+	 *
+	 * @param pan This is the pan position
+	 * @param tilt This is the tilt position
+	 */
+	public PanTiltPosition(int pan, int tilt) {
+		this.pan = pan;
+		this.tilt = tilt;
+	}
+
+	/**
+	 * Retrieves {@code {@link #pan}}
+	 *
+	 * @return value of {@link #pan}
+	 */
+	public int getPan() {
+		return pan;
+	}
+
+	/**
+	 * Retrieves {@code {@link #tilt}}
+	 *
+	 * @return value of {@link #tilt}
+	 */
+	public int getTilt() {
+		return tilt;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		PanTiltPosition that = (PanTiltPosition) o;
+		return pan == that.pan && tilt == that.tilt;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(pan, tilt);
+	}
+}
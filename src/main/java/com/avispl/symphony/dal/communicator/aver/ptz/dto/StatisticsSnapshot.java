@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * This class is used to store the result of a background polling cycle:
+ *
+ * - Statistics
+ * - Controllable properties
+ * - Time of the cycle
+ *
+ * A snapshot is immutable once published, it is shared between the poller and the callers of getMultipleStatistics.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class StatisticsSnapshot {
+	private final Map<String, String> statistics;
+	private final List<AdvancedControllableProperty> controllableProperties;
+	private final long timestamp;
+
+	/**
+	 * Create a snapshot from the result of a polling cycle
+	 *
+	 * @param statistics This is the map of statistics
+	 * @param controllableProperties This is the list of controllable properties
+	 * @param timestamp This is the time of the cycle in milliseconds
+	 */
+	public StatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controllableProperties, long timestamp) {
+		this.statistics = Collections.unmodifiableMap(new HashMap<>(statistics));
+		this.controllableProperties = Collections.unmodifiableList(new ArrayList<>(controllableProperties));
+		this.timestamp = timestamp;
+	}
+
+	/**
+	 * Retrieves {@code {@link #statistics}}
+	 *
+	 * @return value of {@link #statistics}
+	 */
+	public Map<String, String> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Retrieves {@code {@link #controllableProperties}}
+	 *
+	 * @return value of {@link #controllableProperties}
+	 */
+	public List<AdvancedControllableProperty> getControllableProperties() {
+		return controllableProperties;
+	}
+
+	/**
+	 * Retrieves {@code {@link #timestamp}}
+	 *
+	 * @return value of {@link #timestamp}
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * This method is used to get the age of the snapshot
+	 *
+	 * @param now This is the current time in milliseconds
+	 * @return long This returns the time elapsed since the cycle in milliseconds
+	 */
+	public long getAge(long now) {
+		return now - timestamp;
+	}
+}
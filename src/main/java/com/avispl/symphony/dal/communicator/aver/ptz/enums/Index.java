@@ -11,7 +11,10 @@ public enum Index {
 	SEVEN("(7)"),
 	EIGHT("(8)"),
 	NINE("(9)"),
-	TEN("(10)");
+	TEN("(10)"),
+	ELEVEN("(11)"),
+	TWELVE("(12)"),
+	THIRTEEN("(13)");
 
 	private final String name;
 
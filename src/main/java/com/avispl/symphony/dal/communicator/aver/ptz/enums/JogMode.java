@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.enums;
+
+/**
+ * This class is used to define how a zoom, focus or pan tilt drive button moves the camera one step
+ * BLOCKING: drive then stop, each waiting for its completion
+ * PIPELINED: drive and stop sent back-to-back, only the completions are waited for
+ * TIMED: drive, the stop is sent by a timer after the jog duration while the control returns
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public enum JogMode {
+	BLOCKING("Blocking"),
+	PIPELINED("Pipelined"),
+	TIMED("Timed");
+
+	private final String name;
+
+	JogMode(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@code {@link #name}}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * This method is used to get jog mode by name
+	 *
+	 * @param name is the name of jog mode that want to get
+	 * @return JogMode is the jog mode that want to get, null if the name is unknown
+	 */
+	public static JogMode getByName(String name) {
+		for (JogMode jogMode : JogMode.values()) {
+			if (jogMode.getName().equalsIgnoreCase(name)) {
+				return jogMode;
+			}
+		}
+		return null;
+	}
+}
@@ -15,7 +15,17 @@ public enum StatisticsProperty {
 	DEVICE_MFG("DeviceMFG"),
 	DEVICE_MODEL("DeviceModel"),
 	DEVICE_SERIAL_NUMBER("DeviceSerialNumber"),
-	DEVICE_FIRMWARE_VERSION("DeviceFirmwareVersion");
+	DEVICE_FIRMWARE_VERSION("DeviceFirmwareVersion"),
+	ADAPTER_METRICS("AdapterMetrics"),
+	INQUIRIES_SENT("InquiriesSentLastCycle"),
+	INQUIRIES_SAVED("InquiriesSavedLastCycle"),
+	INQUIRIES_SAVED_TOTAL("InquiriesSavedTotal"),
+	SNAPSHOT_AGE("SnapshotAgeMillis"),
+	CHANGED_STATISTICS("ChangedStatisticsLastCycle"),
+	SMOOTHED_RTT("SmoothedRoundTripTimeMillis"),
+	RTT_VARIANCE("RoundTripTimeVarianceMillis"),
+	REPLY_TIMEOUT("ReplyTimeoutMillis"),
+	DROPPED_REPLIES("DroppedRepliesTotal");
 
 	private final String name;
 
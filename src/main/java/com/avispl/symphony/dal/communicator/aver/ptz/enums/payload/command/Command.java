@@ -3,8 +3,8 @@
  */
 package com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This class is used to define command used to build payload
@@ -17,9 +17,11 @@ public enum Command {
 	POWER("Power", new byte[] { 0x00 }),
 	POWER_STATUS("PowerStatus", null),
 	ZOOM("ZoomControl", new byte[] { 0x07 }),
+	ZOOM_DIRECT("ZoomPosition", new byte[] { 0x47 }),
 	FOCUS("FocusControl", new byte[] { 0x08 }),
 	FOCUS_MODE("Mode", new byte[] { 0x38 }),
 	FOCUS_ONE_PUSH("OnePush", new byte[] { 0x18, 0x01 }),
+	FOCUS_DIRECT("FocusPosition", new byte[] { 0x48 }),
 	IMAGE_PROCESS("ImageProcessControl", null),
 	WB_MODE("WBMode", new byte[] { 0x35 }),
 	WB_ONE_PUSH_TRIGGER("OnePushTrigger", new byte[] { 0x10, 0x05 }),
@@ -44,11 +46,23 @@ public enum Command {
 	PRESET("PresetControl", new byte[] { 0x3F }),
 	PAN_TILT_DRIVE("PanTiltControl", new byte[] { 0x01 }),
 	PAN_TILT_HOME("Home", new byte[] { 0x04 }),
+	PAN_TILT_ABSOLUTE("AbsolutePosition", new byte[] { 0x02 }),
+	PAN_TILT_RELATIVE("RelativePosition", new byte[] { 0x03 }),
+	PAN_TILT_POSITION("PanTiltPosition", new byte[] { 0x12 }),
 	SLOW_PAN_TILT("PanTiltSlowMode", new byte[] { 0x044 });
 
 	private final String name;
 	private final byte[] code;
 
+	private static final Map<String, Command> BY_NAME = new HashMap<>();
+
+	static {
+		for (Command value : values()) {
+			// Keep the first value of a duplicated name
+			BY_NAME.putIfAbsent(value.name, value);
+		}
+	}
+
 	Command(String name, byte[] code) {
 		this.name = name;
 		this.code = code;
@@ -79,7 +93,6 @@ public enum Command {
 	 * @return Command is the command that want to get
 	 */
 	public static Command getByName(String name) {
-		Optional<Command> command = Arrays.stream(Command.values()).filter(com -> com.getName().equals(name)).findFirst();
-		return command.orElse(null);
+		return BY_NAME.get(name);
 	}
 }
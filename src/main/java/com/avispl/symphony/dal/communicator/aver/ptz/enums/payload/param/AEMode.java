@@ -3,8 +3,8 @@
  */
 package com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This class is used to define AEMode
@@ -22,6 +22,16 @@ public enum AEMode {
 	private final String name;
 	private final byte code;
 
+	private static final AEMode[] BY_CODE = new AEMode[256];
+	private static final Map<String, AEMode> BY_NAME = new HashMap<>();
+
+	static {
+		for (AEMode value : values()) {
+			BY_NAME.put(value.name, value);
+			BY_CODE[value.code & 0xFF] = value;
+		}
+	}
+
 	AEMode(String name, byte code) {
 		this.name = name;
 		this.code = code;
@@ -52,7 +62,16 @@ public enum AEMode {
 	 * @return AEMode is the wb mode that want to get
 	 */
 	public static AEMode getByName(String name) {
-		Optional<AEMode> mode = Arrays.stream(AEMode.values()).filter(com -> com.getName().equals(name)).findFirst();
-		return mode.orElse(null);
+		return BY_NAME.get(name);
+	}
+
+	/**
+	 * This method is used to get AE mode by code received from the device
+	 *
+	 * @param code is the code of AE mode that want to get
+	 * @return AEMode is the AE mode that want to get, null if the code is unknown
+	 */
+	public static AEMode getByCode(byte code) {
+		return BY_CODE[code & 0xFF];
 	}
 }
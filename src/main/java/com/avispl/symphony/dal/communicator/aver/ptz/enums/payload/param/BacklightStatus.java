@@ -17,6 +17,14 @@ public enum BacklightStatus {
 	private final String name;
 	private final byte code;
 
+	private static final BacklightStatus[] BY_CODE = new BacklightStatus[256];
+
+	static {
+		for (BacklightStatus value : values()) {
+			BY_CODE[value.code & 0xFF] = value;
+		}
+	}
+
 	BacklightStatus(String name, byte code) {
 		this.name = name;
 		this.code = code;
@@ -39,4 +47,14 @@ public enum BacklightStatus {
 	public byte getCode() {
 		return code;
 	}
+
+	/**
+	 * This method is used to get backlight status by code received from the device
+	 *
+	 * @param code is the code of backlight status that want to get
+	 * @return BacklightStatus is the backlight status that want to get, null if the code is unknown
+	 */
+	public static BacklightStatus getByCode(byte code) {
+		return BY_CODE[code & 0xFF];
+	}
 }
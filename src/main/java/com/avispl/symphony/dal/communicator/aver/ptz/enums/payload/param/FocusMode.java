@@ -17,6 +17,14 @@ public enum FocusMode {
 	private final String name;
 	private final byte code;
 
+	private static final FocusMode[] BY_CODE = new FocusMode[256];
+
+	static {
+		for (FocusMode value : values()) {
+			BY_CODE[value.code & 0xFF] = value;
+		}
+	}
+
 	FocusMode(String name, byte code) {
 		this.name = name;
 		this.code = code;
@@ -39,4 +47,14 @@ public enum FocusMode {
 	public byte getCode() {
 		return code;
 	}
+
+	/**
+	 * This method is used to get focus mode by code received from the device
+	 *
+	 * @param code is the code of focus mode that want to get
+	 * @return FocusMode is the focus mode that want to get, null if the code is unknown
+	 */
+	public static FocusMode getByCode(byte code) {
+		return BY_CODE[code & 0xFF];
+	}
 }
@@ -3,8 +3,8 @@
  */
 package com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This class is used to define pan tilt drive
@@ -27,6 +27,14 @@ public enum PanTiltDrive {
 	private final String name;
 	private final byte[] code;
 
+	private static final Map<String, PanTiltDrive> BY_NAME = new HashMap<>();
+
+	static {
+		for (PanTiltDrive value : values()) {
+			BY_NAME.put(value.name, value);
+		}
+	}
+
 	PanTiltDrive(String name, byte[] code) {
 		this.name = name;
 		this.code = code;
@@ -57,7 +65,6 @@ public enum PanTiltDrive {
 	 * @return PanTiltDrive is the PanTiltDrive that want to get
 	 */
 	public static PanTiltDrive getByName(String name) {
-		Optional<PanTiltDrive> panTiltDrive = Arrays.stream(PanTiltDrive.values()).filter(panTilt -> panTilt.getName().equals(name)).findFirst();
-		return panTiltDrive.orElse(null);
+		return BY_NAME.get(name);
 	}
 }
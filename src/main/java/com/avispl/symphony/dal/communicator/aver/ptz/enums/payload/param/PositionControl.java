@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param;
+
+/**
+ * This class is used to define pan tilt position control
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public enum PositionControl {
+	/**
+	 * Control name: PAN/TILT ABSOLUTE POSITION, PAN/TILT RELATIVE POSITION
+	 * Extended property name: PanPosition, TiltPosition, PanRelative, TiltRelative
+	 */
+	PAN_POSITION("PanPosition"),
+	TILT_POSITION("TiltPosition"),
+	PAN_RELATIVE("PanRelative"),
+	TILT_RELATIVE("TiltRelative");
+
+	private final String name;
+
+	PositionControl(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@code {@link #name}}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -17,6 +17,14 @@ public enum PowerStatus {
 	private final String name;
 	private final byte code;
 
+	private static final PowerStatus[] BY_CODE = new PowerStatus[256];
+
+	static {
+		for (PowerStatus value : values()) {
+			BY_CODE[value.code & 0xFF] = value;
+		}
+	}
+
 	PowerStatus(String name, byte code) {
 		this.name = name;
 		this.code = code;
@@ -39,4 +47,14 @@ public enum PowerStatus {
 	public byte getCode() {
 		return code;
 	}
+
+	/**
+	 * This method is used to get power status by code received from the device
+	 *
+	 * @param code is the code of power status that want to get
+	 * @return PowerStatus is the power status that want to get, null if the code is unknown
+	 */
+	public static PowerStatus getByCode(byte code) {
+		return BY_CODE[code & 0xFF];
+	}
 }
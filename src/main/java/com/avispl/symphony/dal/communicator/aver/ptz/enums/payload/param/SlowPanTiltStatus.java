@@ -17,6 +17,14 @@ public enum SlowPanTiltStatus {
 	private final String name;
 	private final byte code;
 
+	private static final SlowPanTiltStatus[] BY_CODE = new SlowPanTiltStatus[256];
+
+	static {
+		for (SlowPanTiltStatus value : values()) {
+			BY_CODE[value.code & 0xFF] = value;
+		}
+	}
+
 	SlowPanTiltStatus(String name, byte code) {
 		this.name = name;
 		this.code = code;
@@ -39,4 +47,14 @@ public enum SlowPanTiltStatus {
 	public byte getCode() {
 		return code;
 	}
+
+	/**
+	 * This method is used to get slow pan tilt status by code received from the device
+	 *
+	 * @param code is the code of slow pan tilt status that want to get
+	 * @return SlowPanTiltStatus is the slow pan tilt status that want to get, null if the code is unknown
+	 */
+	public static SlowPanTiltStatus getByCode(byte code) {
+		return BY_CODE[code & 0xFF];
+	}
 }
@@ -17,6 +17,14 @@ public enum SlowShutterStatus {
 	private final String name;
 	private final byte code;
 
+	private static final SlowShutterStatus[] BY_CODE = new SlowShutterStatus[256];
+
+	static {
+		for (SlowShutterStatus value : values()) {
+			BY_CODE[value.code & 0xFF] = value;
+		}
+	}
+
 	SlowShutterStatus(String name, byte code) {
 		this.name = name;
 		this.code = code;
@@ -39,4 +47,14 @@ public enum SlowShutterStatus {
 	public byte getCode() {
 		return code;
 	}
+
+	/**
+	 * This method is used to get slow shutter status by code received from the device
+	 *
+	 * @param code is the code of slow shutter status that want to get
+	 * @return SlowShutterStatus is the slow shutter status that want to get, null if the code is unknown
+	 */
+	public static SlowShutterStatus getByCode(byte code) {
+		return BY_CODE[code & 0xFF];
+	}
 }
@@ -3,8 +3,8 @@
  */
 package com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param;
 
-import java.util.Arrays;
-import java.util.Optional;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * This class is used to define wb mode
@@ -23,6 +23,16 @@ public enum WBMode {
 	private final String name;
 	private final byte code;
 
+	private static final WBMode[] BY_CODE = new WBMode[256];
+	private static final Map<String, WBMode> BY_NAME = new HashMap<>();
+
+	static {
+		for (WBMode value : values()) {
+			BY_NAME.put(value.name, value);
+			BY_CODE[value.code & 0xFF] = value;
+		}
+	}
+
 	WBMode(String name, byte code) {
 		this.name = name;
 		this.code = code;
@@ -53,7 +63,16 @@ public enum WBMode {
 	 * @return WBMode is the wb mode that want to get
 	 */
 	public static WBMode getByName(String name) {
-		Optional<WBMode> mode = Arrays.stream(WBMode.values()).filter(com -> com.getName().equals(name)).findFirst();
-		return mode.orElse(null);
+		return BY_NAME.get(name);
+	}
+
+	/**
+	 * This method is used to get WB mode by code received from the device
+	 *
+	 * @param code is the code of WB mode that want to get
+	 * @return WBMode is the WB mode that want to get, null if the code is unknown
+	 */
+	public static WBMode getByCode(byte code) {
+		return BY_CODE[code & 0xFF];
 	}
 }
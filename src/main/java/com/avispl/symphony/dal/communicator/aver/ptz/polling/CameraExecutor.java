@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants;
+
+/**
+ * Executor shared by the adapters for the blocking camera I/O of their background polling
+ * One timer thread triggers the cycles of every camera, each cycle runs on a virtual thread when the JVM supports them (Java 21+),
+ * otherwise on a bounded pool of platform threads.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CameraExecutor {
+	private static CameraExecutor instance;
+
+	private final Log logger = LogFactory.getLog(CameraExecutor.class);
+	private final ScheduledExecutorService timer;
+	private final ExecutorService ioExecutor;
+	private final boolean virtualThreads;
+
+	/**
+	 * Periodic task of a camera, the next run is scheduled after the previous one completed
+	 */
+	public class PeriodicTask {
+		private final Runnable task;
+		private final long delay;
+		private final TimeUnit unit;
+		private volatile boolean cancelled;
+		private volatile ScheduledFuture<?> nextRun;
+
+		private PeriodicTask(Runnable task, long delay, TimeUnit unit) {
+			this.task = task;
+			this.delay = delay;
+			this.unit = unit;
+		}
+
+		/**
+		 * This method is used to stop the task, a running cycle completes
+		 */
+		public void cancel() {
+			cancelled = true;
+			ScheduledFuture<?> run = nextRun;
+			if (run != null) {
+				run.cancel(false);
+			}
+		}
+
+		private void schedule(long initialDelay) {
+			if (!cancelled) {
+				nextRun = timer.schedule(this::dispatch, initialDelay, unit);
+			}
+		}
+
+		private void dispatch() {
+			try {
+				ioExecutor.execute(() -> {
+					try {
+						if (!cancelled) {
+							task.run();
+						}
+					} finally {
+						schedule(delay);
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				logger.error("error: Camera I/O task rejected, it is scheduled again", e);
+				schedule(delay);
+			}
+		}
+	}
+
+	private CameraExecutor() {
+		ExecutorService virtualThreadExecutor = newVirtualThreadExecutor();
+		this.virtualThreads = virtualThreadExecutor != null;
+		this.ioExecutor = virtualThreads ? virtualThreadExecutor : newPlatformExecutor();
+		this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "AverPTZ timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Retrieves the executor shared by all adapters, it is created on first use
+	 *
+	 * @return CameraExecutor the shared executor
+	 */
+	public static synchronized CameraExecutor getInstance() {
+		if (instance == null) {
+			instance = new CameraExecutor();
+		}
+		return instance;
+	}
+
+	/**
+	 * This method is used to check if the I/O runs on virtual threads
+	 *
+	 * @return boolean This returns false if the JVM has no virtual threads and the bounded platform pool is used
+	 */
+	public boolean isVirtualThreads() {
+		return virtualThreads;
+	}
+
+	/**
+	 * This method is used to run a task periodically on the I/O executor
+	 *
+	 * @param task This is the task to run
+	 * @param initialDelay This is the delay before the first run
+	 * @param delay This is the delay between the end of a run and the start of the next one
+	 * @param unit This is the unit of the delays
+	 * @return PeriodicTask This returns the handle to cancel the task
+	 */
+	public PeriodicTask scheduleWithFixedDelay(Runnable task, long initialDelay, long delay, TimeUnit unit) {
+		PeriodicTask periodicTask = new PeriodicTask(task, delay, unit);
+		periodicTask.schedule(initialDelay);
+		return periodicTask;
+	}
+
+	/**
+	 * This method is used to create a virtual thread per task executor by reflection, the adapter is built for Java 8
+	 *
+	 * @return ExecutorService This returns the executor, null if the JVM has no virtual threads
+	 */
+	private ExecutorService newVirtualThreadExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Virtual threads are not supported, camera I/O runs on platform threads");
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * This method is used to create the bounded pool of platform threads, idle threads are stopped
+	 *
+	 * @return ExecutorService This returns the executor
+	 */
+	private static ExecutorService newPlatformExecutor() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(AverPTZConstants.PLATFORM_IO_THREADS, AverPTZConstants.PLATFORM_IO_THREADS, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread = new Thread(runnable, "AverPTZ I/O " + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * Incremental statistics comparing a monitoring cycle with the previous one
+ * Statistics are compared by property name, controllable properties which did not change are replaced by the instance of the previous cycle,
+ * so they keep their timestamp. The full statistics are still returned, Symphony removes the properties missing from a cycle.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class IncrementalStatistics {
+	private Map<String, String> previousStatistics = Collections.emptyMap();
+	private Map<String, AdvancedControllableProperty> previousProperties = Collections.emptyMap();
+	private int changedInCycle;
+
+	/**
+	 * This method is used to compare a cycle with the previous one and reuse the unchanged controllable properties
+	 *
+	 * @param statistics This is the map of statistics of the cycle
+	 * @param advancedControllableProperties This is the list of controllable properties of the cycle, unchanged entries are replaced in place
+	 * @return int This returns the number of statistics added, removed or changed since the previous cycle
+	 */
+	public synchronized int merge(Map<String, String> statistics, List<AdvancedControllableProperty> advancedControllableProperties) {
+		int changed = 0;
+		for (Map.Entry<String, String> entry : statistics.entrySet()) {
+			if (!previousStatistics.containsKey(entry.getKey()) || !Objects.equals(previousStatistics.get(entry.getKey()), entry.getValue())) {
+				changed++;
+			}
+		}
+		for (String name : previousStatistics.keySet()) {
+			if (!statistics.containsKey(name)) {
+				changed++;
+			}
+		}
+
+		Map<String, AdvancedControllableProperty> properties = new HashMap<>(advancedControllableProperties.size() * 2);
+		for (int i = 0; i < advancedControllableProperties.size(); i++) {
+			AdvancedControllableProperty property = advancedControllableProperties.get(i);
+			AdvancedControllableProperty previousProperty = previousProperties.get(property.getName());
+			if (previousProperty != null && isUnchanged(previousProperty, property)) {
+				advancedControllableProperties.set(i, previousProperty);
+				property = previousProperty;
+			}
+			properties.put(property.getName(), property);
+		}
+
+		previousStatistics = new HashMap<>(statistics);
+		previousProperties = properties;
+		changedInCycle = changed;
+		return changed;
+	}
+
+	/**
+	 * This method is used to forget the previous cycle, the next cycle is reported as fully changed
+	 */
+	public synchronized void reset() {
+		previousStatistics = Collections.emptyMap();
+		previousProperties = Collections.emptyMap();
+		changedInCycle = 0;
+	}
+
+	/**
+	 * Retrieves {@code {@link #changedInCycle}}
+	 *
+	 * @return value of {@link #changedInCycle}
+	 */
+	public synchronized int getChangedInCycle() {
+		return changedInCycle;
+	}
+
+	/**
+	 * This method is used to check if a controllable property has the same definition and value as in the previous cycle
+	 *
+	 * @param previousProperty This is the property of the previous cycle
+	 * @param property This is the property of the current cycle
+	 * @return boolean This returns true if the property did not change
+	 */
+	private static boolean isUnchanged(AdvancedControllableProperty previousProperty, AdvancedControllableProperty property) {
+		// Definitions are shared between cycles, a new definition means the property changed
+		return previousProperty.getType() == property.getType() && Objects.equals(previousProperty.getValue(), property.getValue());
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.ReplyMatcher;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.ReplyMatcher.ReplyType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+
+/**
+ * Batch of inquiries sent back-to-back in one pipelined send
+ * Every inquiry keeps the map its reply is stored in, so inquiries of several cameras can share one batch.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class InquiryBatch {
+	private final List<byte[]> packets = new ArrayList<>();
+	private final List<Slot> slots = new ArrayList<>();
+
+	/**
+	 * Inquiry of the batch waiting for its reply
+	 */
+	private static class Slot {
+		private final Map<Command, Entry<Integer, byte[]>> replies;
+		private final Command command;
+		private final int sequenceNumber;
+
+		private Slot(Map<Command, Entry<Integer, byte[]>> replies, Command command, int sequenceNumber) {
+			this.replies = replies;
+			this.command = command;
+			this.sequenceNumber = sequenceNumber;
+		}
+	}
+
+	/**
+	 * This method is used to add an inquiry to the batch
+	 *
+	 * @param replies This is the map receiving the reply of the inquiry, keyed by command
+	 * @param command This is the inquiry command
+	 * @param sequenceNumber This is the sequence number of the packet
+	 * @param packet This is the inquiry packet
+	 */
+	public void add(Map<Command, Entry<Integer, byte[]>> replies, Command command, int sequenceNumber, byte[] packet) {
+		packets.add(packet);
+		slots.add(new Slot(replies, command, sequenceNumber));
+	}
+
+	/**
+	 * Retrieves {@code {@link #packets}}
+	 *
+	 * @return value of {@link #packets}
+	 */
+	public List<byte[]> getPackets() {
+		return packets;
+	}
+
+	/**
+	 * This method is used to check if the batch has no inquiry
+	 *
+	 * @return boolean This returns true if no inquiry was added
+	 */
+	public boolean isEmpty() {
+		return packets.isEmpty();
+	}
+
+	/**
+	 * This method is used to store the replies of the batch, failed inquiries get no reply and are sent again one by one
+	 *
+	 * @param replies This is the final reply of each packet in the order of the batch, null if it was not received
+	 */
+	public void complete(List<byte[]> replies) {
+		for (int i = 0; i < slots.size(); i++) {
+			byte[] reply = replies.get(i);
+			if (reply != null && ReplyMatcher.match(reply) != ReplyType.ERROR) {
+				Slot slot = slots.get(i);
+				slot.replies.put(slot.command, new SimpleEntry<>(slot.sequenceNumber, reply));
+			}
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
+
+/**
+ * This class is used to define which inquiries feed the control groups of a monitoring cycle
+ *
+ * Root inquiries do not depend on each other and are sent first:
+ * - Power, focus mode, AE mode, WB mode, slow pan tilt, last preset recalled
+ *
+ * Dependent inquiries are only needed in some modes:
+ * - AE Full Auto: backlight, exposure, gain limit, auto slow shutter
+ * - AE Shutter Priority: exposure, gain limit, shutter
+ * - AE Iris Priority: exposure, gain limit, auto slow shutter, iris
+ * - AE Manual: shutter, gain, iris
+ * - WB Manual: RGain, BGain
+ *
+ * Dependent inquiries of the AE and WB branches do not depend on each other and can be sent together.
+ * Position inquiries (zoom, focus, pan tilt) are needed whenever the camera is on and are sent with them.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public final class InquiryPlan {
+	private static final List<Command> ROOT_INQUIRIES = Collections.unmodifiableList(
+			Arrays.asList(Command.POWER, Command.FOCUS_MODE, Command.AE_MODE, Command.WB_MODE, Command.SLOW_PAN_TILT, Command.PRESET));
+	private static final List<Command> POSITION_INQUIRIES = Collections.unmodifiableList(
+			Arrays.asList(Command.ZOOM_DIRECT, Command.FOCUS_DIRECT, Command.PAN_TILT_POSITION));
+	private static final Map<AEMode, List<Command>> AE_INQUIRIES = new EnumMap<>(AEMode.class);
+	private static final Map<WBMode, List<Command>> WB_INQUIRIES = new EnumMap<>(WBMode.class);
+
+	static {
+		AE_INQUIRIES.put(AEMode.FULL_AUTO, Arrays.asList(Command.BACKLIGHT, Command.EXP_COMP_DIRECT, Command.GAIN_LIMIT_DIRECT, Command.AUTO_SLOW_SHUTTER));
+		AE_INQUIRIES.put(AEMode.SHUTTER_PRIORITY, Arrays.asList(Command.EXP_COMP_DIRECT, Command.GAIN_LIMIT_DIRECT, Command.SHUTTER_DIRECT));
+		AE_INQUIRIES.put(AEMode.IRIS_PRIORITY, Arrays.asList(Command.EXP_COMP_DIRECT, Command.GAIN_LIMIT_DIRECT, Command.AUTO_SLOW_SHUTTER, Command.IRIS_DIRECT));
+		AE_INQUIRIES.put(AEMode.MANUAL, Arrays.asList(Command.SHUTTER_DIRECT, Command.GAIN_DIRECT, Command.IRIS_DIRECT));
+		WB_INQUIRIES.put(WBMode.MANUAL, Arrays.asList(Command.RGAIN_INQ, Command.BGAIN_INQ));
+	}
+
+	private InquiryPlan() {
+	}
+
+	/**
+	 * This method is used to get the inquiries which do not depend on any other inquiry
+	 *
+	 * @return List<Command> This returns the root inquiries
+	 */
+	public static List<Command> getRootInquiries() {
+		return ROOT_INQUIRIES;
+	}
+
+	/**
+	 * This method is used to get the position inquiries
+	 *
+	 * @param powerStatus This is the power status, null if unknown
+	 * @return List<Command> This returns the zoom, focus and pan tilt position inquiries, empty if the camera is not on
+	 */
+	public static List<Command> getPositionInquiries(PowerStatus powerStatus) {
+		return powerStatus == PowerStatus.ON ? POSITION_INQUIRIES : Collections.emptyList();
+	}
+
+	/**
+	 * This method is used to get the minimal list of inquiries needed by the known state of the camera
+	 *
+	 * @param powerStatus This is the power status, null if unknown
+	 * @param aeMode This is the AE mode, null if unknown
+	 * @param wbMode This is the WB mode, null if unknown
+	 * @return List<Command> This returns the dependent inquiries, empty if the camera is not on
+	 */
+	public static List<Command> getDependentInquiries(PowerStatus powerStatus, AEMode aeMode, WBMode wbMode) {
+		if (powerStatus != PowerStatus.ON) {
+			return Collections.emptyList();
+		}
+
+		List<Command> inquiries = new ArrayList<>();
+		if (aeMode != null) {
+			inquiries.addAll(AE_INQUIRIES.get(aeMode));
+		}
+		if (wbMode != null && WB_INQUIRIES.containsKey(wbMode)) {
+			inquiries.addAll(WB_INQUIRIES.get(wbMode));
+		}
+		return inquiries;
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.CameraState;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+
+/**
+ * Polling scheduler deciding which inquiries are sent in a monitoring cycle
+ * Every inquiry belongs to a {@link PollingTier} with its own refresh interval, an inquiry is due when its field of the {@link CameraState}
+ * is unknown or older than the interval. Inquiries which are not due are served from the camera state. An interval of 0 sends the inquiry every cycle.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PollingScheduler {
+	private final Map<Command, Long> intervals = new EnumMap<>(Command.class);
+	private final CameraState cameraState;
+	private int sentInCycle;
+	private int savedInCycle;
+	private long savedTotal;
+
+	/**
+	 * Create a scheduler reading the freshness of inquiries from the camera state
+	 *
+	 * @param cameraState This is the camera state filled by the inquiries
+	 */
+	public PollingScheduler(CameraState cameraState) {
+		this.cameraState = cameraState;
+	}
+
+	/**
+	 * This method is used to set the refresh interval of all inquiries of a tier
+	 *
+	 * @param tier This is the tier to configure
+	 * @param intervalMillis This is the refresh interval in milliseconds, 0 to send the inquiries every cycle
+	 */
+	public synchronized void setInterval(PollingTier tier, long intervalMillis) {
+		for (Command command : tier.getCommands()) {
+			intervals.put(command, intervalMillis);
+		}
+	}
+
+	/**
+	 * This method is used to check if any tier has a refresh interval
+	 *
+	 * @return boolean This returns true if at least one inquiry can be served from cache
+	 */
+	public synchronized boolean isEnabled() {
+		for (Long interval : intervals.values()) {
+			if (interval > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * This method is used to check if an inquiry has to be sent
+	 *
+	 * @param command This is the inquiry command
+	 * @param now This is the current time in milliseconds
+	 * @return boolean This returns true if the field of the inquiry is unknown or older than the interval of its tier
+	 */
+	public synchronized boolean isDue(Command command, long now) {
+		Long interval = intervals.get(command);
+		Long timestamp = cameraState.getTimestamp(command);
+		return interval == null || interval <= 0 || timestamp == null || now - timestamp >= interval;
+	}
+
+	/**
+	 * This method is used to count an inquiry sent to the device
+	 */
+	public synchronized void countSent() {
+		sentInCycle++;
+	}
+
+	/**
+	 * This method is used to count an inquiry served from the camera state
+	 */
+	public synchronized void countSaved() {
+		savedInCycle++;
+		savedTotal++;
+	}
+
+	/**
+	 * This method is used to reset the counters of the current cycle
+	 */
+	public synchronized void startCycle() {
+		sentInCycle = 0;
+		savedInCycle = 0;
+	}
+
+	/**
+	 * Retrieves {@code {@link #sentInCycle}}
+	 *
+	 * @return value of {@link #sentInCycle}
+	 */
+	public synchronized int getSentInCycle() {
+		return sentInCycle;
+	}
+
+	/**
+	 * Retrieves {@code {@link #savedInCycle}}
+	 *
+	 * @return value of {@link #savedInCycle}
+	 */
+	public synchronized int getSavedInCycle() {
+		return savedInCycle;
+	}
+
+	/**
+	 * Retrieves {@code {@link #savedTotal}}
+	 *
+	 * @return value of {@link #savedTotal}
+	 */
+	public synchronized long getSavedTotal() {
+		return savedTotal;
+	}
+}
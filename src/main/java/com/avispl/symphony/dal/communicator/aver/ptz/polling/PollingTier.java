@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+
+/**
+ * This class is used to define refresh tiers of inquiries
+ * FAST: values watched by users (power, preset, zoom and pan tilt positions), MEDIUM: image settings, SLOW: settings that almost never change
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public enum PollingTier {
+	FAST(Command.POWER, Command.PRESET, Command.ZOOM_DIRECT, Command.PAN_TILT_POSITION),
+	MEDIUM(Command.FOCUS_MODE, Command.AE_MODE, Command.AUTO_SLOW_SHUTTER, Command.SHUTTER_DIRECT, Command.IRIS_DIRECT, Command.GAIN_DIRECT, Command.EXP_COMP_DIRECT,
+			Command.WB_MODE, Command.RGAIN_INQ, Command.BGAIN_INQ, Command.FOCUS_DIRECT),
+	SLOW(Command.SLOW_PAN_TILT, Command.BACKLIGHT, Command.GAIN_LIMIT_DIRECT);
+
+	private final List<Command> commands;
+
+	PollingTier(Command... commands) {
+		this.commands = Collections.unmodifiableList(Arrays.asList(commands));
+	}
+
+	/**
+	 * Retrieves {@code {@link #commands}}
+	 *
+	 * @return value of {@link #commands}
+	 */
+	public List<Command> getCommands() {
+		return commands;
+	}
+}
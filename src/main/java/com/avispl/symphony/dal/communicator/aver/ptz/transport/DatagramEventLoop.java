@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Shared selector event loop for all non-blocking UDP channels of the adapter
+ * One daemon thread reads datagrams of every registered channel and hands them to the channel handler.
+ * The thread is started with the first registered channel and stopped when the last one is unregistered.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class DatagramEventLoop {
+	private static final DatagramEventLoop INSTANCE = new DatagramEventLoop();
+	private static final int MAX_DATAGRAM_SIZE = 2048;
+
+	private final Log logger = LogFactory.getLog(DatagramEventLoop.class);
+	// Tasks of the running selector, a stopping loop thread must not run the registrations of the next selector
+	private Queue<Runnable> pendingTasks;
+	private Selector selector;
+	private Thread thread;
+	private int channelCount;
+
+	/**
+	 * Handler of datagrams received on a registered channel, called on the event loop thread
+	 */
+	public interface DatagramHandler {
+		/**
+		 * This method is called for every datagram received on the channel
+		 *
+		 * @param datagram This is the exact bytes of the received datagram
+		 */
+		void onDatagram(byte[] datagram);
+	}
+
+	private DatagramEventLoop() {
+	}
+
+	/**
+	 * Retrieves the event loop shared by all channels
+	 *
+	 * @return DatagramEventLoop the shared event loop
+	 */
+	public static DatagramEventLoop getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * This method is used to register a non-blocking channel for reading
+	 *
+	 * @param channel This is the channel to be read by the event loop
+	 * @param handler This is the handler of datagrams received on the channel
+	 */
+	public synchronized void register(DatagramChannel channel, DatagramHandler handler) throws IOException {
+		if (thread == null) {
+			final Selector newSelector = Selector.open();
+			final Queue<Runnable> newTasks = new ConcurrentLinkedQueue<>();
+			selector = newSelector;
+			pendingTasks = newTasks;
+			thread = new Thread(() -> run(newSelector, newTasks), "AverPTZ-UDP-EventLoop");
+			thread.setDaemon(true);
+			thread.start();
+		}
+		channelCount++;
+
+		final Selector currentSelector = selector;
+		pendingTasks.add(() -> {
+			try {
+				channel.register(currentSelector, SelectionKey.OP_READ, handler);
+			} catch (IOException e) {
+				logger.error("error: Cannot register UDP channel to event loop", e);
+			}
+		});
+		selector.wakeup();
+	}
+
+	/**
+	 * This method is used to unregister a channel, the loop is stopped when no channel is left
+	 *
+	 * @param channel This is the channel to stop reading
+	 */
+	public synchronized void unregister(DatagramChannel channel) {
+		if (thread == null) {
+			return;
+		}
+
+		SelectionKey key = channel.keyFor(selector);
+		if (key != null) {
+			key.cancel();
+		}
+
+		if (--channelCount <= 0) {
+			channelCount = 0;
+			thread.interrupt();
+			try {
+				selector.close();
+			} catch (IOException e) {
+				logger.warn("error seen on closing UDP event loop selector", e);
+			}
+			thread = null;
+			selector = null;
+			pendingTasks.clear();
+			pendingTasks = null;
+		} else {
+			selector.wakeup();
+		}
+	}
+
+	/**
+	 * Event loop body: select readable channels and dispatch their datagrams
+	 *
+	 * @param currentSelector This is the selector owned by this loop thread
+	 * @param currentTasks This is the queue of tasks of the selector
+	 */
+	private void run(Selector currentSelector, Queue<Runnable> currentTasks) {
+		ByteBuffer readBuffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_SIZE);
+		try {
+			while (currentSelector.isOpen() && !Thread.currentThread().isInterrupted()) {
+				currentSelector.select();
+
+				Runnable task;
+				while ((task = currentTasks.poll()) != null) {
+					task.run();
+				}
+
+				Iterator<SelectionKey> iterator = currentSelector.selectedKeys().iterator();
+				while (iterator.hasNext()) {
+					SelectionKey key = iterator.next();
+					iterator.remove();
+					if (key.isValid() && key.isReadable()) {
+						readChannel(key, readBuffer);
+					}
+				}
+			}
+		} catch (ClosedSelectorException e) {
+			// Loop stopped by unregister()
+		} catch (IOException e) {
+			logger.error("error: UDP event loop stopped", e);
+		}
+	}
+
+	/**
+	 * This method is used to drain all datagrams available on a channel
+	 *
+	 * @param key This is the selection key of the readable channel
+	 * @param readBuffer This is the receive buffer of the loop thread
+	 */
+	private void readChannel(SelectionKey key, ByteBuffer readBuffer) {
+		DatagramChannel channel = (DatagramChannel) key.channel();
+		DatagramHandler handler = (DatagramHandler) key.attachment();
+
+		try {
+			while (true) {
+				readBuffer.clear();
+				if (channel.receive(readBuffer) == null) {
+					return;
+				}
+				readBuffer.flip();
+				byte[] datagram = new byte[readBuffer.remaining()];
+				readBuffer.get(datagram);
+				handler.onDatagram(datagram);
+			}
+		} catch (IOException e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("error while reading UDP channel " + channel, e);
+			}
+		} catch (RuntimeException e) {
+			logger.error("error: Datagram handler failed on channel " + channel, e);
+		}
+	}
+}
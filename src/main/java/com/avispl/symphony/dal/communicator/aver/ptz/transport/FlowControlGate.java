@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Flow control gate tracking the command buffer and socket availability of the camera
+ * A COMMAND_BUFFER_FULL or NO_SOCKET reply closes the gate for a backoff doubling on every consecutive rejection, up to a maximum.
+ * Commands wait at the gate until a reply frees a slot or the backoff elapsed, then the next command probes the camera again.
+ * {@link TransportRegistry} keeps one gate per camera endpoint, senders wait at it before taking their turn and the channel.
+ * Waiting uses a lock instead of a monitor so a virtual thread does not pin its carrier thread.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class FlowControlGate {
+	private final long baseBackoff;
+	private final long maxBackoff;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+	private boolean open = true;
+	private long closedUntil;
+	private int rejections;
+	private long rejectedTotal;
+
+	/**
+	 * Create an open gate
+	 *
+	 * @param baseBackoff This is the backoff after the first rejection in milliseconds
+	 * @param maxBackoff This is the maximum backoff in milliseconds
+	 */
+	public FlowControlGate(long baseBackoff, long maxBackoff) {
+		this.baseBackoff = baseBackoff;
+		this.maxBackoff = maxBackoff;
+	}
+
+	/**
+	 * This method is used to wait until the gate is open or its backoff elapsed
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void awaitOpen() throws InterruptedException {
+		lock.lock();
+		try {
+			long remaining;
+			while (!open && (remaining = closedUntil - System.currentTimeMillis()) > 0) {
+				released.await(remaining, TimeUnit.MILLISECONDS);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to close the gate after a COMMAND_BUFFER_FULL or NO_SOCKET reply
+	 *
+	 * @return long This returns the backoff in milliseconds before the next command is sent
+	 */
+	public long reject() {
+		lock.lock();
+		try {
+			int shift = Math.min(rejections, 30);
+			long backoff = Math.min(maxBackoff, baseBackoff << shift);
+			rejections++;
+			rejectedTotal++;
+			open = false;
+			closedUntil = System.currentTimeMillis() + backoff;
+			return backoff;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to open the gate after a reply showing the camera accepted a command again
+	 */
+	public void release() {
+		lock.lock();
+		try {
+			if (!open || rejections > 0) {
+				open = true;
+				rejections = 0;
+				released.signalAll();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * This method is used to check if the gate is open
+	 *
+	 * @return boolean This returns false after a rejection until a reply frees a slot
+	 */
+	public boolean isOpen() {
+		lock.lock();
+		try {
+			return open;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #rejectedTotal}}
+	 *
+	 * @return value of {@link #rejectedTotal}
+	 */
+	public long getRejectedTotal() {
+		lock.lock();
+		try {
+			return rejectedTotal;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
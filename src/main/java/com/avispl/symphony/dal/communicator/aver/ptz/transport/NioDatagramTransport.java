@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertByteArrayToInt;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Non-blocking UDP transport to one camera endpoint
+ * The channel is read by the shared {@link DatagramEventLoop}, replies are routed to the waiting request by the sequence number of the packet header
+ * (VISCA over IP: payload type (2 bytes), payload length (2 bytes), sequence number (4 bytes), payload).
+ * Only the socket read moves to the selector thread: the calling thread of a request still waits on the reply queue of its sequence number
+ * in {@link #receive(int, int)} until the reply arrives or the timeout elapses.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class NioDatagramTransport {
+	private static final int SEQUENCE_NUMBER_OFFSET = 4;
+	private static final int HEADER_LENGTH = 8;
+
+	private final Log logger = LogFactory.getLog(NioDatagramTransport.class);
+	private final Map<Integer, BlockingQueue<byte[]>> pendingReplies = new ConcurrentHashMap<>();
+	private final InetSocketAddress remoteAddress;
+	private final DatagramChannel channel;
+
+	/**
+	 * Open a channel bound to the local address, connected to the remote address and registered to the event loop
+	 *
+	 * @param localAddress This is the local address to bind
+	 * @param remoteAddress This is the address of the camera
+	 */
+	public NioDatagramTransport(InetSocketAddress localAddress, InetSocketAddress remoteAddress) throws IOException {
+		this.remoteAddress = remoteAddress;
+		this.channel = DatagramChannel.open();
+		try {
+			this.channel.bind(localAddress);
+			this.channel.connect(remoteAddress);
+			this.channel.configureBlocking(false);
+			DatagramEventLoop.getInstance().register(this.channel, this::onDatagram);
+		} catch (IOException e) {
+			this.channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * This method is used to check if the channel is open
+	 *
+	 * @return boolean This returns true if the channel is open and connected
+	 */
+	public boolean isOpen() {
+		return this.channel.isOpen() && this.channel.isConnected();
+	}
+
+	/**
+	 * This method is used to get the local port the channel is bound to
+	 *
+	 * @return int This returns the local port, -1 if the channel is closed
+	 */
+	public int getLocalPort() {
+		return this.channel.socket().getLocalPort();
+	}
+
+	/**
+	 * This method is used to start collecting the replies of a sequence number, it must be called before the packet is written
+	 *
+	 * @param sequenceNumber This is the sequence number of the request
+	 */
+	public void expect(int sequenceNumber) {
+		this.pendingReplies.computeIfAbsent(sequenceNumber, key -> new LinkedBlockingQueue<>());
+	}
+
+	/**
+	 * This method is used to stop collecting the replies of a sequence number, replies arriving after it are dropped
+	 *
+	 * @param sequenceNumber This is the sequence number of the request
+	 */
+	public void release(int sequenceNumber) {
+		this.pendingReplies.remove(sequenceNumber);
+	}
+
+	/**
+	 * This method is used to write a packet to the camera
+	 *
+	 * @param packet This is the packet to be sent
+	 */
+	public void write(byte[] packet) throws IOException {
+		if (this.channel.write(ByteBuffer.wrap(packet)) == 0) {
+			throw new IOException("UDP send buffer is full, packet was not sent to " + this.remoteAddress);
+		}
+	}
+
+	/**
+	 * This method is used to wait for the next reply of a sequence number, the calling thread is parked until it is queued by the event loop
+	 *
+	 * @param sequenceNumber This is the sequence number of the request
+	 * @param timeout This is the maximum time to wait in milliseconds
+	 * @return byte[] This returns the reply received from the camera
+	 * @throws SocketTimeoutException if no reply is received in time
+	 */
+	public byte[] receive(int sequenceNumber, int timeout) throws IOException {
+		BlockingQueue<byte[]> replies = this.pendingReplies.get(sequenceNumber);
+		if (replies == null) {
+			throw new IllegalStateException("Sequence number " + sequenceNumber + " is not expected");
+		}
+
+		try {
+			byte[] reply = replies.poll(timeout, TimeUnit.MILLISECONDS);
+			if (reply == null) {
+				throw new SocketTimeoutException("Receive timed out");
+			}
+			return reply;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting reply from " + this.remoteAddress);
+		}
+	}
+
+	/**
+	 * This method is used to close the channel and stop reading it
+	 */
+	public void close() {
+		DatagramEventLoop.getInstance().unregister(this.channel);
+		try {
+			this.channel.close();
+		} catch (IOException e) {
+			logger.warn("error seen on closing UDP channel to " + this.remoteAddress, e);
+		}
+		this.pendingReplies.clear();
+	}
+
+	/**
+	 * This method is called on the event loop thread for every datagram received from the camera
+	 *
+	 * @param datagram This is the received datagram
+	 */
+	private void onDatagram(byte[] datagram) {
+		if (datagram.length < HEADER_LENGTH) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Dropped datagram shorter than header from " + this.remoteAddress);
+			}
+			return;
+		}
+
+		BlockingQueue<byte[]> replies = this.pendingReplies.get(convertByteArrayToInt(datagram, SEQUENCE_NUMBER_OFFSET));
+		if (replies != null) {
+			replies.add(datagram);
+		} else if (logger.isDebugEnabled()) {
+			logger.debug("Dropped datagram without waiting request from " + this.remoteAddress);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertByteArrayToInt;
+
+/**
+ * Reply dispatcher of the blocking socket, routing every received datagram by the sequence number of its header
+ * The sequence numbers of the requests in flight are kept in a small ring, the oldest one is evicted when the ring is full.
+ * A reply of a request no longer in flight, like a reply arriving after the timeout or a duplicate of a final reply, is dropped and counted
+ * instead of being read as the reply of the next request.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplyDispatcher {
+	private static final int SEQUENCE_NUMBER_OFFSET = 4;
+	private static final int HEADER_LENGTH = 8;
+
+	private final int[] sequenceNumbers;
+	private final boolean[] outstanding;
+	private int head;
+	private long droppedTotal;
+
+	/**
+	 * Route of a received datagram
+	 */
+	public enum Route {
+		/**
+		 * Reply of the request waiting for it
+		 */
+		OWNER,
+		/**
+		 * Reply of another request in flight
+		 */
+		OTHER,
+		/**
+		 * Stale, duplicate or malformed datagram, it is dropped
+		 */
+		DROPPED
+	}
+
+	/**
+	 * Create a dispatcher with no request in flight
+	 *
+	 * @param capacity This is the maximum number of requests in flight tracked at once
+	 */
+	public ReplyDispatcher(int capacity) {
+		this.sequenceNumbers = new int[capacity];
+		this.outstanding = new boolean[capacity];
+	}
+
+	/**
+	 * This method is used to start tracking a request, it must be called before the packet is written
+	 * A request sent again with the same sequence number is tracked once.
+	 *
+	 * @param sequenceNumber This is the sequence number of the request
+	 */
+	public synchronized void expect(int sequenceNumber) {
+		if (indexOf(sequenceNumber) >= 0) {
+			return;
+		}
+		sequenceNumbers[head] = sequenceNumber;
+		outstanding[head] = true;
+		head = (head + 1) % sequenceNumbers.length;
+	}
+
+	/**
+	 * This method is used to stop tracking a request after its final reply or failure, its later replies are dropped
+	 *
+	 * @param sequenceNumber This is the sequence number of the request
+	 */
+	public synchronized void release(int sequenceNumber) {
+		int index = indexOf(sequenceNumber);
+		if (index >= 0) {
+			outstanding[index] = false;
+		}
+	}
+
+	/**
+	 * This method is used to route a received datagram, dropped datagrams are counted
+	 *
+	 * @param datagram This is the received datagram
+	 * @param sequenceNumber This is the sequence number of the request waiting for a reply
+	 * @return Route This returns the owner of the datagram
+	 */
+	public synchronized Route route(byte[] datagram, int sequenceNumber) {
+		if (datagram.length < HEADER_LENGTH) {
+			droppedTotal++;
+			return Route.DROPPED;
+		}
+
+		int datagramSequenceNumber = convertByteArrayToInt(datagram, SEQUENCE_NUMBER_OFFSET);
+		if (indexOf(datagramSequenceNumber) < 0) {
+			droppedTotal++;
+			return Route.DROPPED;
+		}
+		return datagramSequenceNumber == sequenceNumber ? Route.OWNER : Route.OTHER;
+	}
+
+	/**
+	 * This method is used to count a datagram of another request in flight that nobody will read
+	 */
+	public synchronized void drop() {
+		droppedTotal++;
+	}
+
+	/**
+	 * Retrieves {@code {@link #droppedTotal}}
+	 *
+	 * @return value of {@link #droppedTotal}
+	 */
+	public synchronized long getDroppedTotal() {
+		return droppedTotal;
+	}
+
+	private int indexOf(int sequenceNumber) {
+		for (int i = 0; i < sequenceNumbers.length; i++) {
+			if (outstanding[i] && sequenceNumbers[i] == sequenceNumber) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
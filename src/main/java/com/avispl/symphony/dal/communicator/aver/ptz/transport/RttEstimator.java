@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+/**
+ * Round-trip time estimator deriving the reply timeout of a camera, as TCP does (RFC 6298)
+ * SRTT and RTTVAR are smoothed from the measured round-trip times, the timeout is SRTT + 4 * RTTVAR within the configured bounds.
+ * A timeout doubles the current timeout until the next measure.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class RttEstimator {
+	private static final double ALPHA = 1.0 / 8;
+	private static final double BETA = 1.0 / 4;
+	private static final int K = 4;
+	private static final double CLOCK_GRANULARITY = 1;
+
+	private final int minTimeout;
+	private final int maxTimeout;
+	private double smoothedRtt = -1;
+	private double rttVariance;
+	private int timeout;
+
+	/**
+	 * Create an estimator starting at the maximum timeout until the first measure
+	 *
+	 * @param minTimeout This is the lower bound of the timeout in milliseconds
+	 * @param maxTimeout This is the upper bound of the timeout in milliseconds
+	 */
+	public RttEstimator(int minTimeout, int maxTimeout) {
+		this.minTimeout = Math.min(minTimeout, maxTimeout);
+		this.maxTimeout = maxTimeout;
+		this.timeout = maxTimeout;
+	}
+
+	/**
+	 * This method is used to update the estimation with a measured round-trip time
+	 * Round-trip times of requests sent again must not be measured, their reply may belong to the first transmission.
+	 *
+	 * @param rttMillis This is the measured round-trip time in milliseconds
+	 */
+	public synchronized void sample(double rttMillis) {
+		if (smoothedRtt < 0) {
+			smoothedRtt = rttMillis;
+			rttVariance = rttMillis / 2;
+		} else {
+			rttVariance = (1 - BETA) * rttVariance + BETA * Math.abs(smoothedRtt - rttMillis);
+			smoothedRtt = (1 - ALPHA) * smoothedRtt + ALPHA * rttMillis;
+		}
+		timeout = clamp((long) Math.ceil(smoothedRtt + Math.max(CLOCK_GRANULARITY, K * rttVariance)));
+	}
+
+	/**
+	 * This method is used to back off the timeout after a reply was not received in time
+	 */
+	public synchronized void backOff() {
+		timeout = clamp(timeout * 2L);
+	}
+
+	/**
+	 * Retrieves {@code {@link #timeout}}
+	 *
+	 * @return value of {@link #timeout}
+	 */
+	public synchronized int getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Retrieves {@code {@link #smoothedRtt}}
+	 *
+	 * @return value of {@link #smoothedRtt}, negative before the first measure
+	 */
+	public synchronized double getSmoothedRtt() {
+		return smoothedRtt;
+	}
+
+	/**
+	 * Retrieves {@code {@link #rttVariance}}
+	 *
+	 * @return value of {@link #rttVariance}
+	 */
+	public synchronized double getRttVariance() {
+		return rttVariance;
+	}
+
+	private int clamp(long value) {
+		return (int) Math.max(minTimeout, Math.min(maxTimeout, value));
+	}
+}
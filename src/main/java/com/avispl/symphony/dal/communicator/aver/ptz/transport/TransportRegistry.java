@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants;
+
+/**
+ * Process-wide registry of the non-blocking transports, one per camera endpoint
+ * Adapters pointed at the same camera share one reference-counted channel bound to an ephemeral local port, replies are demultiplexed by sequence number.
+ * Endpoints are keyed by the configured host name and port, sequence numbers are allocated per endpoint so they never collide on the shared channel.
+ * The flow control gate is also kept per endpoint, so a camera rejecting the commands of one adapter holds the commands of every adapter.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class TransportRegistry {
+	private static final TransportRegistry INSTANCE = new TransportRegistry();
+
+	private final Map<InetSocketAddress, SharedTransport> transports = new HashMap<>();
+	private final Map<InetSocketAddress, AtomicInteger> sequenceNumbers = new ConcurrentHashMap<>();
+	private final Map<InetSocketAddress, FlowControlGate> flowControlGates = new ConcurrentHashMap<>();
+
+	/**
+	 * Transport of an endpoint with the number of adapters holding it
+	 */
+	private static class SharedTransport {
+		private final NioDatagramTransport transport;
+		private int referenceCount;
+
+		private SharedTransport(NioDatagramTransport transport) {
+			this.transport = transport;
+		}
+	}
+
+	private TransportRegistry() {
+	}
+
+	/**
+	 * Retrieves the registry shared by all adapters
+	 *
+	 * @return TransportRegistry the shared registry
+	 */
+	public static TransportRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * This method is used to create the key of a camera endpoint
+	 *
+	 * @param host This is the configured host of the camera
+	 * @param port This is the port of the camera
+	 * @return InetSocketAddress This returns the unresolved endpoint
+	 */
+	public static InetSocketAddress endpoint(String host, int port) {
+		return InetSocketAddress.createUnresolved(host, port);
+	}
+
+	/**
+	 * This method is used to get the transport of an endpoint, it is opened by the first adapter and shared with the next ones
+	 * A transport closed by an I/O error is replaced, its holders release it without effect.
+	 *
+	 * @param endpoint This is the endpoint of the camera
+	 * @return NioDatagramTransport This returns the shared transport
+	 */
+	public synchronized NioDatagramTransport acquire(InetSocketAddress endpoint) throws IOException {
+		SharedTransport sharedTransport = transports.get(endpoint);
+		if (sharedTransport == null || !sharedTransport.transport.isOpen()) {
+			if (sharedTransport != null) {
+				sharedTransport.transport.close();
+			}
+			sharedTransport = new SharedTransport(new NioDatagramTransport(new InetSocketAddress(0), new InetSocketAddress(endpoint.getHostString(), endpoint.getPort())));
+			transports.put(endpoint, sharedTransport);
+		}
+		sharedTransport.referenceCount++;
+		return sharedTransport.transport;
+	}
+
+	/**
+	 * This method is used to release a transport, it is closed when the last adapter releases it
+	 *
+	 * @param endpoint This is the endpoint of the camera
+	 * @param transport This is the transport returned by {@link #acquire(InetSocketAddress)}
+	 */
+	public synchronized void release(InetSocketAddress endpoint, NioDatagramTransport transport) {
+		SharedTransport sharedTransport = transports.get(endpoint);
+		if (sharedTransport == null || sharedTransport.transport != transport) {
+			return;
+		}
+
+		if (--sharedTransport.referenceCount <= 0) {
+			transports.remove(endpoint);
+			transport.close();
+		}
+	}
+
+	/**
+	 * This method is used to get the number of adapters holding the transport of an endpoint
+	 *
+	 * @param endpoint This is the endpoint of the camera
+	 * @return int This returns the reference count, 0 if no transport is open
+	 */
+	public synchronized int getReferenceCount(InetSocketAddress endpoint) {
+		SharedTransport sharedTransport = transports.get(endpoint);
+		return sharedTransport == null ? 0 : sharedTransport.referenceCount;
+	}
+
+	/**
+	 * This method is used to get the sequence number of the next packet to an endpoint, it restarts from 1 after the max value of integer
+	 *
+	 * @param endpoint This is the endpoint of the camera
+	 * @return int This returns the sequence number
+	 */
+	public int nextSequenceNumber(InetSocketAddress endpoint) {
+		return sequenceNumbers.computeIfAbsent(endpoint, key -> new AtomicInteger())
+				.updateAndGet(sequenceNumber -> sequenceNumber == Integer.MAX_VALUE ? 1 : sequenceNumber + 1);
+	}
+
+	/**
+	 * This method is used to get the flow control gate of an endpoint, shared by every adapter of the camera
+	 *
+	 * @param endpoint This is the endpoint of the camera
+	 * @return FlowControlGate This returns the gate of the endpoint
+	 */
+	public FlowControlGate getFlowControlGate(InetSocketAddress endpoint) {
+		return flowControlGates.computeIfAbsent(endpoint, key -> new FlowControlGate(AverPTZConstants.FLOW_CONTROL_BASE_BACKOFF, AverPTZConstants.FLOW_CONTROL_MAX_BACKOFF));
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Assume;
+
+/**
+ * Measure time and bytes allocated per operation on the current thread, used by benchmark tests
+ * Allocation is read from the per-thread counter of the HotSpot ThreadMXBean, the benchmark is skipped on other JVMs.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class AllocationMeter {
+	private final com.sun.management.ThreadMXBean threadMXBean;
+	private final int warmUpOperations;
+	private final int measuredOperations;
+
+	/**
+	 * Create a meter
+	 *
+	 * @param warmUpOperations number of operations run before measuring
+	 * @param measuredOperations number of operations measured
+	 */
+	public AllocationMeter(int warmUpOperations, int measuredOperations) {
+		Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+		this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(this.threadMXBean.isThreadAllocatedMemorySupported());
+		this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		this.warmUpOperations = warmUpOperations;
+		this.measuredOperations = measuredOperations;
+	}
+
+	/**
+	 * Result of a measure
+	 */
+	public static class Result {
+		private final double bytesPerOperation;
+		private final double nanosPerOperation;
+
+		private Result(double bytesPerOperation, double nanosPerOperation) {
+			this.bytesPerOperation = bytesPerOperation;
+			this.nanosPerOperation = nanosPerOperation;
+		}
+
+		/**
+		 * Retrieves {@code {@link #bytesPerOperation}}
+		 *
+		 * @return value of {@link #bytesPerOperation}
+		 */
+		public double getBytesPerOperation() {
+			return bytesPerOperation;
+		}
+
+		/**
+		 * Retrieves {@code {@link #nanosPerOperation}}
+		 *
+		 * @return value of {@link #nanosPerOperation}
+		 */
+		public double getNanosPerOperation() {
+			return nanosPerOperation;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%.1f ns/op, %.1f B/op", nanosPerOperation, bytesPerOperation);
+		}
+	}
+
+	/**
+	 * Measure the average time and bytes allocated by the current thread per operation
+	 *
+	 * @param operation operation under test
+	 * @return average cost of the operation
+	 */
+	public Result measure(Runnable operation) {
+		for (int i = 0; i < warmUpOperations; i++) {
+			operation.run();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long startBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+		long startNanos = System.nanoTime();
+		for (int i = 0; i < measuredOperations; i++) {
+			operation.run();
+		}
+		long elapsedNanos = System.nanoTime() - startNanos;
+		long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+		return new Result((double) allocatedBytes / measuredOperations, (double) elapsedNanos / measuredOperations);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.aggregator.AggregatedDevice;
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.DeviceInfo;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Aver PTZ Aggregator Communicator
+ * Poll the cameras of a daisy chain through one pipelined channel
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class AverPTZAggregatorCommunicatorTest {
+	private static final int ADDRESS_OFFSET = 8;
+	private static final byte[] SYNTAX_ERROR = { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x60, 0x02, (byte) 0xFF };
+
+	private AverPTZAggregatorCommunicator aggregator;
+
+	@Before
+	public void setUp() throws Exception {
+		aggregator = Mockito.spy(new AverPTZAggregatorCommunicator());
+		aggregator.setCameraIDs("1, 2");
+		Mockito.doReturn(new DeviceInfo()).when(aggregator).retrieveDeviceInfo();
+		// Every camera is off, other inquiries are not supported
+		Mockito.doAnswer(invocation -> {
+			List<byte[]> replies = new ArrayList<>();
+			for (byte[] packet : invocation.<List<byte[]>>getArgument(0)) {
+				boolean powerInquiry = packet[ADDRESS_OFFSET + 3] == Command.POWER.getCode()[0];
+				replies.add(FakeCamera.withSequenceNumber(packet, powerInquiry ? ReplyPacket.POWER_OFF.getCode() : SYNTAX_ERROR));
+			}
+			return replies;
+		}).when(aggregator).sendPipelined(Mockito.anyList(), Mockito.anyInt());
+	}
+
+	/**
+	 * Test AverPTZAggregatorCommunicator#getMultipleStatistics with 2 cameras
+	 * Expect the root inquiries of both cameras in one batch with distinct sequence numbers, and one statistic group per camera
+	 */
+	@Test
+	@Category(MockTest.class)
+	@SuppressWarnings("unchecked")
+	public void testInterleavedInquiries() throws Exception {
+		ExtendedStatistics extStats = (ExtendedStatistics) aggregator.getMultipleStatistics().get(0);
+
+		ArgumentCaptor<List<byte[]>> packetsCaptor = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(aggregator, Mockito.times(1)).sendPipelined(packetsCaptor.capture(), Mockito.anyInt());
+		List<byte[]> packets = packetsCaptor.getValue();
+		Set<Integer> sequenceNumbers = new HashSet<>();
+		int[] packetsPerCamera = new int[3];
+		for (byte[] packet : packets) {
+			sequenceNumbers.add(AverPTZUtils.convertByteArrayToInt(packet, 4));
+			packetsPerCamera[packet[ADDRESS_OFFSET] & 0x0F]++;
+		}
+		Assert.assertEquals(packets.size(), sequenceNumbers.size());
+		Assert.assertEquals(packetsPerCamera[1], packetsPerCamera[2]);
+		Assert.assertTrue(packetsPerCamera[1] > 0);
+
+		Map<String, String> stats = extStats.getStatistics();
+		Assert.assertEquals("true", stats.get("Camera1#Online"));
+		Assert.assertEquals("Off", stats.get("Camera1#Power"));
+		Assert.assertEquals("Off", stats.get("Camera2#Power"));
+	}
+
+	/**
+	 * Test AverPTZAggregatorCommunicator#retrieveMultipleStatistics with 2 cameras
+	 * Expect one aggregated device per camera with its properties and power switch
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testAggregatedDevices() throws Exception {
+		List<AggregatedDevice> devices = aggregator.retrieveMultipleStatistics();
+		Assert.assertEquals(2, devices.size());
+		Assert.assertEquals("1", devices.get(0).getDeviceId());
+		Assert.assertEquals("2", devices.get(1).getDeviceId());
+		Assert.assertEquals(Command.POWER.getName(), devices.get(1).getControllableProperties().get(0).getName());
+		Assert.assertTrue(devices.get(1).getProperties().containsKey(Command.POWER.getName()));
+		Assert.assertEquals(1, aggregator.retrieveMultipleStatistics(Collections.singletonList("2")).size());
+	}
+
+	/**
+	 * Test AverPTZAggregatorCommunicator#controlProperty with a camera ID not in the daisy chain
+	 * Expect throw IllegalArgumentException
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	@Category(MockTest.class)
+	public void testControlUnknownCamera() throws Exception {
+		aggregator.retrieveMultipleStatistics();
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setDeviceId("5");
+		controllableProperty.setProperty(Command.POWER.getName());
+		controllableProperty.setValue("1");
+		aggregator.controlProperty(controllableProperty);
+	}
+}
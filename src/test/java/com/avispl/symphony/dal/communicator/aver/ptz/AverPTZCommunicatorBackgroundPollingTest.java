@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants.HASH;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mockito;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.DeviceInfo;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.StatisticsProperty;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for AverPTZ Communicator background polling
+ * Publish the statistics of the monitoring cycles run by the background poller as snapshots
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class AverPTZCommunicatorBackgroundPollingTest {
+	private static final int COMMAND_OFFSET = 11;
+	private static final byte[] SYNTAX_ERROR = { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x60, 0x02, (byte) 0xFF };
+	private static final String SNAPSHOT_AGE = StatisticsProperty.ADAPTER_METRICS.getName() + HASH + StatisticsProperty.SNAPSHOT_AGE.getName();
+
+	private AverPTZCommunicator averPTZCommunicator;
+	private final Set<Thread> sendingThreads = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger sentPackets = new AtomicInteger();
+
+	@Before
+	public void setUp() throws Exception {
+		averPTZCommunicator = Mockito.spy(new AverPTZCommunicator());
+		averPTZCommunicator.setBackgroundPollingInterval("1");
+		Mockito.doReturn(new DeviceInfo()).when(averPTZCommunicator).retrieveDeviceInfo();
+		// The camera is off, other inquiries are not supported
+		Mockito.doAnswer(invocation -> {
+			byte[] packet = invocation.getArgument(0);
+			sendingThreads.add(Thread.currentThread());
+			sentPackets.incrementAndGet();
+			boolean powerInquiry = packet[COMMAND_OFFSET] == Command.POWER.getCode()[0];
+			return FakeCamera.withSequenceNumber(packet, powerInquiry ? ReplyPacket.POWER_OFF.getCode() : SYNTAX_ERROR);
+		}).when(averPTZCommunicator).send(Mockito.any(byte[].class));
+	}
+
+	@After
+	public void destroy() {
+		averPTZCommunicator.internalDestroy();
+	}
+
+	/**
+	 * Test AverPTZCommunicator#getMultipleStatistics with background polling
+	 * Expect the snapshot of the poller returned, no device I/O on the calling thread
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSnapshotReturnedWithoutDeviceIo() throws Exception {
+		Map<String, String> stats = awaitSnapshot();
+
+		Assert.assertTrue(stats.containsKey(Command.POWER.getName()));
+		Assert.assertFalse(sentPackets.get() == 0);
+		Assert.assertFalse(sendingThreads.contains(Thread.currentThread()));
+	}
+
+	/**
+	 * Test AverPTZCommunicator#getMultipleStatistics with background polling
+	 * Expect the age of the snapshot published in the adapter metrics
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSnapshotAgePublished() throws Exception {
+		awaitSnapshot();
+		Thread.sleep(50);
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertTrue(Long.parseLong(stats.get(SNAPSHOT_AGE)) >= 50);
+	}
+
+	/**
+	 * Test AverPTZCommunicator#getMultipleStatistics after a failed background cycle
+	 * Expect the previous snapshot kept, its age growing
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testFailedCycleKeepsPreviousSnapshot() throws Exception {
+		Map<String, String> previousStats = awaitSnapshot();
+
+		// Any unexpected exception fails the whole cycle
+		Mockito.doThrow(new IllegalStateException("Cycle failed")).when(averPTZCommunicator).isAdaptiveTimeout();
+		Mockito.verify(averPTZCommunicator, Mockito.timeout(3000).atLeast(2)).isAdaptiveTimeout();
+
+		Map<String, String> stats = getStatistics();
+		Assert.assertEquals(previousStats.get(Command.POWER.getName()), stats.get(Command.POWER.getName()));
+		Assert.assertTrue(Long.parseLong(stats.get(SNAPSHOT_AGE)) > Long.parseLong(previousStats.get(SNAPSHOT_AGE)));
+	}
+
+	/**
+	 * Test AverPTZCommunicator#internalDestroy with background polling
+	 * Expect no monitoring cycle after the poller is stopped
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDestroyStopsPoller() throws Exception {
+		awaitSnapshot();
+
+		averPTZCommunicator.internalDestroy();
+		int sentAfterDestroy = sentPackets.get();
+		Thread.sleep(1500);
+		Assert.assertEquals(sentAfterDestroy, sentPackets.get());
+	}
+
+	private Map<String, String> getStatistics() throws Exception {
+		return ((ExtendedStatistics) averPTZCommunicator.getMultipleStatistics().get(0)).getStatistics();
+	}
+
+	private Map<String, String> awaitSnapshot() throws Exception {
+		long deadline = System.currentTimeMillis() + 3000;
+		while (true) {
+			Map<String, String> stats = getStatistics();
+			if (stats.containsKey(SNAPSHOT_AGE)) {
+				return stats;
+			}
+			Assert.assertTrue("Snapshot not published in time", System.currentTimeMillis() < deadline);
+			Thread.sleep(20);
+		}
+	}
+}
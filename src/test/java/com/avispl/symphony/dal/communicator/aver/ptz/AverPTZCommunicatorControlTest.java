@@ -4,13 +4,21 @@
 package com.avispl.symphony.dal.communicator.aver.ptz;
 
 import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants.HASH;
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertFourBytesArrayToTwoBytesNumber;
 import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertOneByteNumberToTwoBytesArray;
 import static org.mockito.Mockito.times;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.DatagramPacket;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.Assert;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -22,7 +30,13 @@ import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.PacketTemplateCache;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.CommandScheduler;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.CommandScheduler.Lane;
+import com.avispl.symphony.dal.communicator.aver.ptz.control.ControlSkeletons;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.Index;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.JogMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
@@ -31,6 +45,7 @@ import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.Backlig
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusControl;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusMode;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PanTiltDrive;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PositionControl;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.RGainControl;
 import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.SlowPanTiltStatus;
@@ -887,4 +902,236 @@ public class AverPTZCommunicatorControlTest {
 		controllableProperty.setValue(null);
 		averPTZCommunicator.controlProperty(controllableProperty);
 	}
+
+	/**
+	 * Set zoom tele property with jog mode Timed
+	 * Expect the drive sent by the control and the stop sent by the jog timer after the jog duration
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testZoomTeleTimedJog() throws IOException {
+		int zoomSpeed = 1;
+		averPTZCommunicator.setJogMode(JogMode.TIMED.getName());
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Command.ZOOM.getName() + HASH + ZoomControl.TELE.getName());
+		controllableProperty.setValue(null);
+
+		Mockito.doNothing().when(averPTZCommunicator).performControl(PayloadCategory.CAMERA, Command.ZOOM, (byte) (ZoomControl.TELE.getCode() + zoomSpeed));
+		Mockito.doNothing().when(averPTZCommunicator).performControl(PayloadCategory.CAMERA, Command.ZOOM, ZoomControl.STOP.getCode());
+
+		averPTZCommunicator.controlProperty(controllableProperty);
+		Mockito.verify(averPTZCommunicator, times(1)).performControl(PayloadCategory.CAMERA, Command.ZOOM, (byte) (ZoomControl.TELE.getCode() + zoomSpeed));
+		Mockito.verify(averPTZCommunicator, Mockito.timeout(2000).times(1)).performControl(PayloadCategory.CAMERA, Command.ZOOM, ZoomControl.STOP.getCode());
+	}
+
+	/**
+	 * Press zoom tele twice at once with jog mode Timed
+	 * Expect both drives sent and a single stop, the stop of the first press cancelled by the second
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testConcurrentTimedJogSendsOneStop() throws Exception {
+		int zoomSpeed = 1;
+		averPTZCommunicator.setJogMode(JogMode.TIMED.getName());
+		// Both presses drive before either schedules its stop
+		CountDownLatch bothDriving = new CountDownLatch(2);
+		Mockito.doAnswer(invocation -> {
+			bothDriving.countDown();
+			Assert.assertTrue(bothDriving.await(2, TimeUnit.SECONDS));
+			return null;
+		}).when(averPTZCommunicator).performControl(PayloadCategory.CAMERA, Command.ZOOM, (byte) (ZoomControl.TELE.getCode() + zoomSpeed));
+		Mockito.doNothing().when(averPTZCommunicator).performControl(PayloadCategory.CAMERA, Command.ZOOM, ZoomControl.STOP.getCode());
+
+		String property = Command.ZOOM.getName() + HASH + ZoomControl.TELE.getName();
+		CompletableFuture<Void> firstPress = controlAsync(property, null);
+		CompletableFuture<Void> secondPress = controlAsync(property, null);
+		firstPress.get(2, TimeUnit.SECONDS);
+		secondPress.get(2, TimeUnit.SECONDS);
+
+		Mockito.verify(averPTZCommunicator, times(2)).performControl(PayloadCategory.CAMERA, Command.ZOOM, (byte) (ZoomControl.TELE.getCode() + zoomSpeed));
+		Mockito.verify(averPTZCommunicator, Mockito.after(1000).times(1)).performControl(PayloadCategory.CAMERA, Command.ZOOM, ZoomControl.STOP.getCode());
+	}
+
+	/**
+	 * Set pan tilt drive up property with jog mode Pipelined
+	 * Expect drive and stop sent as one pipelined pair instead of two blocking controls
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPanTiltDrivePipelinedJog() throws Exception {
+		averPTZCommunicator.setJogMode(JogMode.PIPELINED.getName());
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Command.PAN_TILT_DRIVE.getName() + HASH + Index.TWO.getName() + PanTiltDrive.UP.getName());
+		controllableProperty.setValue(null);
+
+		Mockito.doReturn(Arrays.asList(ReplyPacket.COMPLETION.getCode(), ReplyPacket.COMPLETION.getCode())).when(averPTZCommunicator)
+				.sendPipelined(Mockito.anyList(), Mockito.eq(2));
+
+		averPTZCommunicator.controlProperty(controllableProperty);
+		Mockito.verify(averPTZCommunicator, times(1)).sendPipelined(Mockito.anyList(), Mockito.eq(2));
+		Mockito.verify(averPTZCommunicator, Mockito.never()).performControl(Mockito.any(), Mockito.any(), Mockito.<byte[]>any());
+	}
+
+	/**
+	 * Set zoom position property with value 16384
+	 * Expect verify with method zoom direct and the position split in 4-bit nibbles
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testZoomPosition() throws IOException {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Command.ZOOM.getName() + HASH + Command.ZOOM_DIRECT.getName());
+		controllableProperty.setValue("16384");
+
+		Mockito.doNothing().when(averPTZCommunicator).performControl(PayloadCategory.CAMERA, Command.ZOOM_DIRECT, (byte) 0x04, (byte) 0x00, (byte) 0x00, (byte) 0x00);
+		averPTZCommunicator.controlProperty(controllableProperty);
+		Mockito.verify(averPTZCommunicator, times(1)).performControl(PayloadCategory.CAMERA, Command.ZOOM_DIRECT, (byte) 0x04, (byte) 0x00, (byte) 0x00, (byte) 0x00);
+	}
+
+	/**
+	 * Set tilt relative property with value -2
+	 * Expect verify with method pan tilt relative, pan step 0 and the tilt step in 16-bit two's complement
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTiltRelative() throws IOException {
+		int panSpeed = 1, tiltSpeed = 1;
+		byte[] param = { (byte) panSpeed, (byte) tiltSpeed, 0x00, 0x00, 0x00, 0x00, 0x0F, 0x0F, 0x0F, 0x0E };
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Command.PAN_TILT_DRIVE.getName() + HASH + Index.THIRTEEN.getName() + PositionControl.TILT_RELATIVE.getName());
+		controllableProperty.setValue("-2");
+
+		Mockito.doNothing().when(averPTZCommunicator).performControl(PayloadCategory.PAN_TILTER, Command.PAN_TILT_RELATIVE, param);
+		averPTZCommunicator.controlProperty(controllableProperty);
+		Mockito.verify(averPTZCommunicator, times(1)).performControl(PayloadCategory.PAN_TILTER, Command.PAN_TILT_RELATIVE, param);
+	}
+
+	/**
+	 * Set zoom position property out of range
+	 * Expect throw IllegalArgumentException
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testZoomPositionOutOfRange() throws IOException {
+		exceptionRule.expect(IllegalArgumentException.class);
+
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(Command.ZOOM.getName() + HASH + Command.ZOOM_DIRECT.getName());
+		controllableProperty.setValue("70000");
+		averPTZCommunicator.controlProperty(controllableProperty);
+	}
+
+	/**
+	 * Send command rejected with COMMAND_BUFFER_FULL
+	 * Expect the reply returned at once and the flow control gate closed, nothing sent again while the channel is held
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBufferFullClosesFlowControlGate() throws IOException {
+		byte[] request = PacketTemplateCache.forCamera(1).buildCommand(1, PayloadCategory.CAMERA, Command.BACKLIGHT, BacklightStatus.ON.getCode());
+		byte[] bufferFull = { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x61, 0x03, (byte) 0xFF };
+
+		Mockito.doNothing().when(averPTZCommunicator).write(Mockito.any(DatagramPacket.class));
+		Mockito.doReturn(bufferFull).when(averPTZCommunicator).read(request);
+
+		Assert.assertArrayEquals(bufferFull, averPTZCommunicator.internalSend(request));
+		Mockito.verify(averPTZCommunicator, times(1)).write(Mockito.any(DatagramPacket.class));
+		Assert.assertFalse(averPTZCommunicator.getFlowControlGate().isOpen());
+	}
+
+	/**
+	 * Send command rejected once with COMMAND_BUFFER_FULL
+	 * Expect the command sent again in a new turn once the flow control gate is open
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCommandSentAgainAfterBufferFull() throws Exception {
+		byte[] bufferFull = { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x61, 0x03, (byte) 0xFF };
+		Mockito.doAnswer(invocation -> FakeCamera.withSequenceNumber(invocation.getArgument(0), bufferFull))
+				.doAnswer(invocation -> FakeCamera.withSequenceNumber(invocation.getArgument(0), ReplyPacket.COMPLETION.getCode()))
+				.when(averPTZCommunicator).send(Mockito.any(byte[].class));
+
+		averPTZCommunicator.performControl(PayloadCategory.CAMERA, Command.BACKLIGHT, BacklightStatus.ON.getCode());
+		Mockito.verify(averPTZCommunicator, times(2)).send(Mockito.any(byte[].class));
+		Assert.assertTrue(averPTZCommunicator.getFlowControlGate().isOpen());
+		Assert.assertEquals(0, averPTZCommunicator.getCommandScheduler().getWaiting(Lane.INTERACTIVE));
+	}
+
+	/**
+	 * Send command rejected with NO_SOCKET on every attempt
+	 * Expect throw IllegalStateException after the bounded number of retries
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCommandFailsAfterRetriesOnNoSocket() throws Exception {
+		byte[] noSocket = { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x61, 0x05, (byte) 0xFF };
+		Mockito.doAnswer(invocation -> FakeCamera.withSequenceNumber(invocation.getArgument(0), noSocket))
+				.when(averPTZCommunicator).send(Mockito.any(byte[].class));
+
+		try {
+			averPTZCommunicator.performControl(PayloadCategory.CAMERA, Command.BACKLIGHT, BacklightStatus.ON.getCode());
+			Assert.fail("IllegalStateException expected");
+		} catch (IllegalStateException e) {
+			Mockito.verify(averPTZCommunicator, times(AverPTZConstants.FLOW_CONTROL_RETRIES + 1)).send(Mockito.any(byte[].class));
+		}
+	}
+
+	/**
+	 * Set pan position then tilt position while the device is busy with another sender
+	 * Expect both moves sent, the tilt move keeping the pan position of the pending pan move
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPanAndTiltPositionQueuedBehindBusyTurn() throws Exception {
+		List<byte[]> absoluteMoves = new CopyOnWriteArrayList<>();
+		byte[] panTiltPosition = { 0x01, 0x11, 0x00, 0x0B, 0x00, 0x00, 0x00, 0x00, (byte) 0x90, 0x50, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, 0x00, (byte) 0xFF };
+		Mockito.doAnswer(invocation -> {
+			byte[] packet = invocation.getArgument(0);
+			if (packet[11] == Command.PAN_TILT_POSITION.getCode()[0]) {
+				return FakeCamera.withSequenceNumber(packet, panTiltPosition);
+			}
+			absoluteMoves.add(packet);
+			return FakeCamera.withSequenceNumber(packet, ReplyPacket.COMPLETION.getCode());
+		}).when(averPTZCommunicator).send(Mockito.any(byte[].class));
+
+		CommandScheduler commandScheduler = averPTZCommunicator.getCommandScheduler();
+		commandScheduler.acquire(Lane.INQUIRY);
+		CompletableFuture<Void> pan = controlAsync(ControlSkeletons.PAN_POSITION, "100");
+		awaitWaiting(commandScheduler, 1);
+		CompletableFuture<Void> tilt = controlAsync(ControlSkeletons.TILT_POSITION, "50");
+		awaitWaiting(commandScheduler, 2);
+		commandScheduler.release();
+		CompletableFuture.allOf(pan, tilt).get(5, TimeUnit.SECONDS);
+
+		Assert.assertEquals(2, absoluteMoves.size());
+		byte[] lastMove = absoluteMoves.get(1);
+		Assert.assertEquals(100, convertFourBytesArrayToTwoBytesNumber(lastMove, 14));
+		Assert.assertEquals(50, convertFourBytesArrayToTwoBytesNumber(lastMove, 18));
+	}
+
+	private CompletableFuture<Void> controlAsync(String property, String value) {
+		ControllableProperty controllableProperty = new ControllableProperty();
+		controllableProperty.setProperty(property);
+		controllableProperty.setValue(value);
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				averPTZCommunicator.controlProperty(controllableProperty);
+				future.complete(null);
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+		return future;
+	}
+
+	private static void awaitWaiting(CommandScheduler commandScheduler, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (commandScheduler.getWaiting(Lane.INTERACTIVE) < count) {
+			Assert.assertTrue("Control not waiting for its turn", System.currentTimeMillis() < deadline);
+			Thread.sleep(1);
+		}
+	}
 }
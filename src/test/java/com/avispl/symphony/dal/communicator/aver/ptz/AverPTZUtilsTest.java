@@ -4,8 +4,11 @@
 package com.avispl.symphony.dal.communicator.aver.ptz;
 
 import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertFourBytesArrayToTwoBytesNumber;
 import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertOneByteNumberToTwoBytesArray;
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.convertTwoBytesNumberToFourBytesArray;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -914,4 +917,15 @@ public class AverPTZUtilsTest {
 
 		assertArrayEquals(SendPacket.LAST_PRESET_RECALLED.getCode(), actualPacketSlowPanTiltInq);
 	}
+
+	/**
+	 * Test AverPTZUtils#convertFourBytesArrayToTwoBytesNumber success
+	 * Expect the nibbles read back as the number they were built from, negative numbers as their 16-bit two's complement
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testConvertFourBytesArrayToTwoBytesNumber() {
+		assertEquals(0x1A2F, convertFourBytesArrayToTwoBytesNumber(new byte[] { (byte) 0x90, 0x50, 0x01, 0x0A, 0x02, 0x0F, (byte) 0xFF }, 2));
+		assertEquals(0xFFFE, convertFourBytesArrayToTwoBytesNumber(convertTwoBytesNumberToFourBytesArray(-2), 0));
+	}
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+
+/**
+ * Loopback UDP peer used by tests instead of a real camera
+ * By default replies ACK + COMPLETION to control commands and power on to inquiries, copying the sequence number of the request.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class FakeCamera implements AutoCloseable {
+	private final DatagramSocket socket;
+	private final Thread thread;
+	private final AtomicInteger receivedPackets = new AtomicInteger();
+	private volatile Function<byte[], List<byte[]>> replies = FakeCamera::defaultReplies;
+	private volatile SocketAddress lastSender;
+	private final Set<SocketAddress> senders = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Start a fake camera on an ephemeral loopback port
+	 */
+	public FakeCamera() throws SocketException {
+		this.socket = new DatagramSocket(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+		this.thread = new Thread(this::run, "FakeCamera");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Retrieves the address the fake camera listens on
+	 *
+	 * @return loopback address with the ephemeral port
+	 */
+	public InetSocketAddress getAddress() {
+		return new InetSocketAddress(InetAddress.getLoopbackAddress(), this.socket.getLocalPort());
+	}
+
+	/**
+	 * Retrieves the number of packets received
+	 *
+	 * @return number of packets received
+	 */
+	public int getReceivedPackets() {
+		return this.receivedPackets.get();
+	}
+
+	/**
+	 * Retrieves the addresses the requests were received from
+	 *
+	 * @return set of sender addresses, one per local socket of the adapters
+	 */
+	public Set<SocketAddress> getSenders() {
+		return this.senders;
+	}
+
+	/**
+	 * Sets the function building the replies of a request, an empty list means no reply
+	 *
+	 * @param replies function from request to replies
+	 */
+	public void setReplies(Function<byte[], List<byte[]>> replies) {
+		this.replies = replies;
+	}
+
+	/**
+	 * Send a reply to the sender of the last request, used to reply later or out of order
+	 *
+	 * @param reply the reply packet
+	 */
+	public void reply(byte[] reply) throws IOException {
+		this.socket.send(new DatagramPacket(reply, reply.length, this.lastSender));
+	}
+
+	/**
+	 * Build a reply packet with the sequence number of the request
+	 *
+	 * @param request the request packet
+	 * @param reply the reply packet template
+	 * @return reply packet with sequence number of the request
+	 */
+	public static byte[] withSequenceNumber(byte[] request, byte[] reply) {
+		byte[] packet = Arrays.copyOf(reply, reply.length);
+		System.arraycopy(request, 4, packet, 4, 4);
+		return packet;
+	}
+
+	/**
+	 * Default replies: inquiry -> power on, control command -> ACK + COMPLETION
+	 *
+	 * @param request the request packet
+	 * @return replies to send back
+	 */
+	private static List<byte[]> defaultReplies(byte[] request) {
+		if (request[1] == PayloadType.INQUIRY.getCode()) {
+			return Collections.singletonList(withSequenceNumber(request, ReplyPacket.POWER_ON.getCode()));
+		}
+		return Arrays.asList(withSequenceNumber(request, ReplyPacket.ACK.getCode()), withSequenceNumber(request, ReplyPacket.COMPLETION.getCode()));
+	}
+
+	private void run() {
+		byte[] buffer = new byte[2048];
+		while (!this.socket.isClosed()) {
+			try {
+				DatagramPacket request = new DatagramPacket(buffer, buffer.length);
+				this.socket.receive(request);
+				this.lastSender = request.getSocketAddress();
+				this.senders.add(this.lastSender);
+				this.receivedPackets.incrementAndGet();
+
+				byte[] data = Arrays.copyOfRange(request.getData(), request.getOffset(), request.getOffset() + request.getLength());
+				for (byte[] reply : this.replies.apply(data)) {
+					this.socket.send(new DatagramPacket(reply, reply.length, request.getSocketAddress()));
+				}
+			} catch (IOException e) {
+				// Socket closed
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		this.socket.close();
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.BenchmarkTest;
+
+/**
+ * Benchmark for UDP Communicator
+ * Compare the latency of a polling cycle between per-send channel teardown and persistent channel
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class UDPCommunicatorBenchmarkTest {
+	private static final String HOST = "***REMOVED***";
+	private static final int PORT = 52381;
+	private static final int INQUIRIES_PER_CYCLE = 12;
+	private static final int WARM_UP_CYCLES = 5;
+	private static final int MEASURED_CYCLES = 50;
+
+	/**
+	 * Run the same polling cycle with both channel modes
+	 * Expect both modes to complete and print average cycle latency of each mode
+	 */
+	@Test
+	@Category(BenchmarkTest.class)
+	public void testCycleLatencyPerSendTeardownVersusPersistentChannel() throws Exception {
+		double teardownLatency = measureAverageCycleLatency(false);
+		double persistentLatency = measureAverageCycleLatency(true);
+
+		System.out.printf("Per-send teardown: %.3f ms/cycle, persistent channel: %.3f ms/cycle (%d inquiries/cycle)%n", teardownLatency, persistentLatency,
+				INQUIRIES_PER_CYCLE);
+		Assert.assertTrue(teardownLatency > 0 && persistentLatency > 0);
+	}
+
+	/**
+	 * Measure average latency of a polling cycle
+	 *
+	 * @param persistentChannel channel mode of the communicator
+	 * @return average cycle latency in milliseconds
+	 */
+	private double measureAverageCycleLatency(boolean persistentChannel) throws Exception {
+		UDPCommunicator udpCommunicator = new UDPCommunicator();
+		udpCommunicator.setHost(HOST);
+		udpCommunicator.setPort(PORT);
+		udpCommunicator.setPersistentChannel(persistentChannel);
+		udpCommunicator.setCommandErrorList(Collections.singletonList(""));
+		udpCommunicator.setCommandSuccessList(Collections.singletonList(""));
+		udpCommunicator.init();
+
+		try {
+			int sequenceNumber = 0;
+			for (int i = 0; i < WARM_UP_CYCLES; i++) {
+				sequenceNumber = runCycle(udpCommunicator, sequenceNumber);
+			}
+
+			long start = System.nanoTime();
+			for (int i = 0; i < MEASURED_CYCLES; i++) {
+				sequenceNumber = runCycle(udpCommunicator, sequenceNumber);
+			}
+			return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_CYCLES;
+		} finally {
+			udpCommunicator.destroy();
+		}
+	}
+
+	/**
+	 * Send one polling cycle worth of power inquiries
+	 *
+	 * @param udpCommunicator communicator to send with
+	 * @param sequenceNumber last used sequence number
+	 * @return last used sequence number after the cycle
+	 */
+	private int runCycle(UDPCommunicator udpCommunicator, int sequenceNumber) throws Exception {
+		for (int i = 0; i < INQUIRIES_PER_CYCLE; i++) {
+			udpCommunicator.send(buildSendPacket(1, ++sequenceNumber, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(),
+					Command.POWER.getCode()));
+		}
+		return sequenceNumber;
+	}
+}
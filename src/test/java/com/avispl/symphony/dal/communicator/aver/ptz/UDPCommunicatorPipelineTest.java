@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.api.dal.dto.control.ConnectionState;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for UDP Communicator pipelined send
+ * Send batches to a loopback fake camera on the blocking socket and on the NIO transport
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class UDPCommunicatorPipelineTest {
+	private FakeCamera fakeCamera;
+	private AverPTZCommunicator averPTZCommunicator;
+	private ExecutorService sender;
+
+	@Before
+	public void setUp() throws Exception {
+		fakeCamera = new FakeCamera();
+		sender = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void destroy() {
+		if (averPTZCommunicator != null) {
+			averPTZCommunicator.destroy();
+		}
+		sender.shutdownNow();
+		fakeCamera.close();
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with window 2 on the blocking socket
+	 * Expect at most 2 packets in flight, the next packet sent when a reply is received
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testWindowBoundsPacketsInFlight() throws Exception {
+		assertWindowBoundsPacketsInFlight(false);
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with window 2 on the NIO transport
+	 * Expect at most 2 packets in flight, the next packet sent when a reply is received
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testWindowBoundsPacketsInFlightNio() throws Exception {
+		assertWindowBoundsPacketsInFlight(true);
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with replies in reverse order on the blocking socket
+	 * Expect every reply matched to its packet by sequence number
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testRepliesOutOfOrder() throws Exception {
+		assertRepliesOutOfOrder(false);
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with replies in reverse order on the NIO transport
+	 * Expect every reply matched to its packet by sequence number
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testRepliesOutOfOrderNio() throws Exception {
+		assertRepliesOutOfOrder(true);
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with commands replying ACK + COMPLETION on the blocking socket
+	 * Expect the ACK skipped by isFinalReply, the COMPLETION returned
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testAckSkipped() throws Exception {
+		assertAckSkipped(false);
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with commands replying ACK + COMPLETION on the NIO transport
+	 * Expect the ACK skipped by isFinalReply, the COMPLETION returned
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testAckSkippedNio() throws Exception {
+		assertAckSkipped(true);
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with a packet not replied on the blocking socket
+	 * Expect null for the packets left without reply and the channel destroyed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTimeoutDestroysChannel() throws Exception {
+		assertTimeoutDestroysChannel(false);
+	}
+
+	/**
+	 * Test UDPCommunicator#sendPipelined with a packet not replied on the NIO transport
+	 * Expect null for the packets left without reply and the channel destroyed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTimeoutDestroysChannelNio() throws Exception {
+		assertTimeoutDestroysChannel(true);
+	}
+
+	private void assertWindowBoundsPacketsInFlight(boolean nioTransport) throws Exception {
+		init(nioTransport, 2, 4000);
+		List<byte[]> held = Collections.synchronizedList(new ArrayList<>());
+		fakeCamera.setReplies(request -> {
+			held.add(request);
+			return Collections.emptyList();
+		});
+		List<byte[]> packets = Arrays.asList(inquiry(1), inquiry(2), inquiry(3), inquiry(4));
+
+		Future<List<byte[]>> replies = sender.submit(() -> averPTZCommunicator.sendPipelined(packets, 2));
+		awaitCondition(() -> fakeCamera.getReceivedPackets() == 2);
+		Thread.sleep(100);
+		Assert.assertEquals(2, fakeCamera.getReceivedPackets());
+
+		fakeCamera.setReplies(request -> Collections.singletonList(FakeCamera.withSequenceNumber(request, ReplyPacket.POWER_ON.getCode())));
+		fakeCamera.reply(FakeCamera.withSequenceNumber(held.get(0), ReplyPacket.POWER_ON.getCode()));
+		awaitCondition(() -> fakeCamera.getReceivedPackets() == 3);
+		fakeCamera.reply(FakeCamera.withSequenceNumber(held.get(1), ReplyPacket.POWER_ON.getCode()));
+
+		List<byte[]> result = replies.get(2, TimeUnit.SECONDS);
+		Assert.assertEquals(4, fakeCamera.getReceivedPackets());
+		for (int i = 0; i < packets.size(); i++) {
+			Assert.assertArrayEquals(FakeCamera.withSequenceNumber(packets.get(i), ReplyPacket.POWER_ON.getCode()), result.get(i));
+		}
+	}
+
+	private void assertRepliesOutOfOrder(boolean nioTransport) throws Exception {
+		init(nioTransport, 3, 4000);
+		List<byte[]> held = Collections.synchronizedList(new ArrayList<>());
+		fakeCamera.setReplies(request -> {
+			held.add(request);
+			if (held.size() < 3) {
+				return Collections.emptyList();
+			}
+			List<byte[]> reversed = new ArrayList<>();
+			for (int i = held.size() - 1; i >= 0; i--) {
+				reversed.add(FakeCamera.withSequenceNumber(held.get(i), ReplyPacket.POWER_OFF.getCode()));
+			}
+			return reversed;
+		});
+		List<byte[]> packets = Arrays.asList(inquiry(5), inquiry(6), inquiry(7));
+
+		List<byte[]> result = averPTZCommunicator.sendPipelined(packets, 3);
+		for (int i = 0; i < packets.size(); i++) {
+			Assert.assertArrayEquals(FakeCamera.withSequenceNumber(packets.get(i), ReplyPacket.POWER_OFF.getCode()), result.get(i));
+		}
+	}
+
+	private void assertAckSkipped(boolean nioTransport) throws Exception {
+		init(nioTransport, 2, 4000);
+		List<byte[]> packets = Arrays.asList(command(8), command(9));
+
+		List<byte[]> result = averPTZCommunicator.sendPipelined(packets, 2);
+		for (int i = 0; i < packets.size(); i++) {
+			Assert.assertArrayEquals(FakeCamera.withSequenceNumber(packets.get(i), ReplyPacket.COMPLETION.getCode()), result.get(i));
+		}
+	}
+
+	private void assertTimeoutDestroysChannel(boolean nioTransport) throws Exception {
+		init(nioTransport, 2, 200);
+		byte[] repliedInquiry = inquiry(10);
+		fakeCamera.setReplies(request -> Arrays.equals(request, repliedInquiry)
+				? Collections.singletonList(FakeCamera.withSequenceNumber(request, ReplyPacket.POWER_ON.getCode())) : Collections.emptyList());
+
+		List<byte[]> result = averPTZCommunicator.sendPipelined(Arrays.asList(repliedInquiry, inquiry(11), inquiry(12)), 2);
+		Assert.assertArrayEquals(FakeCamera.withSequenceNumber(repliedInquiry, ReplyPacket.POWER_ON.getCode()), result.get(0));
+		Assert.assertNull(result.get(1));
+		Assert.assertNull(result.get(2));
+		Assert.assertEquals(ConnectionState.Unknown, averPTZCommunicator.getConnectionStatus().getConnectionState());
+		Assert.assertFalse(averPTZCommunicator.isChannelConnected());
+	}
+
+	private void init(boolean nioTransport, int pipelineWindow, int timeout) throws Exception {
+		averPTZCommunicator = new AverPTZCommunicator();
+		averPTZCommunicator.setHost(fakeCamera.getAddress().getHostString());
+		averPTZCommunicator.setPort(fakeCamera.getAddress().getPort());
+		averPTZCommunicator.setLocalPort(0);
+		averPTZCommunicator.setNioTransport(nioTransport);
+		averPTZCommunicator.setPersistentChannel(true);
+		averPTZCommunicator.setPipelineWindow(pipelineWindow);
+		averPTZCommunicator.setTimeout(timeout);
+		averPTZCommunicator.init();
+	}
+
+	private static byte[] inquiry(int sequenceNumber) {
+		return buildSendPacket(1, sequenceNumber, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode());
+	}
+
+	private static byte[] command(int sequenceNumber) {
+		return buildSendPacket(1, sequenceNumber, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode(),
+				PowerStatus.ON.getCode());
+	}
+
+	private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 2000;
+		while (!condition.getAsBoolean()) {
+			Assert.assertTrue("Condition not reached in time", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+		}
+	}
+}
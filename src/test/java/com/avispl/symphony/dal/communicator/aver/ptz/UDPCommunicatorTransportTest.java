@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+import com.avispl.symphony.dal.communicator.aver.ptz.transport.TransportRegistry;
+
+/**
+ * Unit test for UDP Communicator transports
+ * Send consecutive commands to a loopback fake camera and check the channel is kept between them
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class UDPCommunicatorTransportTest {
+	private FakeCamera fakeCamera;
+	private UDPCommunicator firstCommunicator;
+	private UDPCommunicator secondCommunicator;
+
+	@Before
+	public void setUp() throws Exception {
+		fakeCamera = new FakeCamera();
+	}
+
+	@After
+	public void destroy() {
+		if (firstCommunicator != null) {
+			firstCommunicator.destroy();
+		}
+		if (secondCommunicator != null) {
+			secondCommunicator.destroy();
+		}
+		fakeCamera.close();
+	}
+
+	/**
+	 * Test UDPCommunicator#send with the shared transport and the default channel mode
+	 * Expect one reference per adapter, the same local socket used by every command of both adapters, the transport released on destroy
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSharedTransportKeptBetweenCommands() throws Exception {
+		InetSocketAddress endpoint = TransportRegistry.endpoint(fakeCamera.getAddress().getHostString(), fakeCamera.getAddress().getPort());
+		TransportRegistry registry = TransportRegistry.getInstance();
+		firstCommunicator = createCommunicator();
+		firstCommunicator.setSharedTransport(true);
+		firstCommunicator.init();
+		secondCommunicator = createCommunicator();
+		secondCommunicator.setSharedTransport(true);
+		secondCommunicator.init();
+
+		assertReply(1, firstCommunicator);
+		assertReply(2, firstCommunicator);
+		Assert.assertEquals(1, registry.getReferenceCount(endpoint));
+		assertReply(3, secondCommunicator);
+		assertReply(4, secondCommunicator);
+		Assert.assertEquals(2, registry.getReferenceCount(endpoint));
+		Assert.assertEquals(1, fakeCamera.getSenders().size());
+
+		firstCommunicator.destroy();
+		Assert.assertEquals(1, registry.getReferenceCount(endpoint));
+		secondCommunicator.destroy();
+		Assert.assertEquals(0, registry.getReferenceCount(endpoint));
+	}
+
+	/**
+	 * Test UDPCommunicator#send with the NIO transport and the default channel mode
+	 * Expect the same channel used by every command, closed on destroy
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testNioTransportKeptBetweenCommands() throws Exception {
+		firstCommunicator = createCommunicator();
+		firstCommunicator.setNioTransport(true);
+		firstCommunicator.init();
+
+		assertReply(5, firstCommunicator);
+		Assert.assertTrue(firstCommunicator.isChannelConnected());
+		assertReply(6, firstCommunicator);
+		assertReply(7, firstCommunicator);
+		Assert.assertEquals(1, fakeCamera.getSenders().size());
+
+		firstCommunicator.destroy();
+		Assert.assertFalse(firstCommunicator.isChannelConnected());
+	}
+
+	private UDPCommunicator createCommunicator() {
+		UDPCommunicator udpCommunicator = new UDPCommunicator();
+		udpCommunicator.setHost(fakeCamera.getAddress().getHostString());
+		udpCommunicator.setPort(fakeCamera.getAddress().getPort());
+		udpCommunicator.setLocalPort(0);
+		udpCommunicator.setCommandErrorList(Collections.singletonList(""));
+		udpCommunicator.setCommandSuccessList(Collections.singletonList(""));
+		return udpCommunicator;
+	}
+
+	private static void assertReply(int sequenceNumber, UDPCommunicator udpCommunicator) throws Exception {
+		byte[] inquiry = buildSendPacket(1, sequenceNumber, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode());
+		Assert.assertArrayEquals(FakeCamera.withSequenceNumber(inquiry, ReplyPacket.POWER_ON.getCode()), udpCommunicator.send(inquiry));
+	}
+}
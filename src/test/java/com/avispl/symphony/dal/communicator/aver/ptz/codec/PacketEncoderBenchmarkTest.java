@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.AllocationMeter;
+import com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.Prefix;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.BenchmarkTest;
+
+/**
+ * Benchmark for Packet Encoder
+ * Compare the bytes allocated per packet by the boxed list builder, the array wrapper and the encoder writing into a reused buffer.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PacketEncoderBenchmarkTest {
+	private static final int WARM_UP_PACKETS = 200_000;
+	private static final int MEASURED_PACKETS = 1_000_000;
+	private static final byte[] POWER_ON_PARAM = { PowerStatus.ON.getCode() };
+
+	private final ByteBuffer reusedBuffer = ByteBuffer.allocate(64);
+	private long checksum;
+
+	/**
+	 * Encode the same power on packet with each builder
+	 * Expect the encoder writing into a reused buffer to allocate less than one byte per packet and print allocation of each builder
+	 */
+	@Test
+	@Category(BenchmarkTest.class)
+	public void testAllocationPerPacket() {
+		AllocationMeter allocationMeter = new AllocationMeter(WARM_UP_PACKETS, MEASURED_PACKETS);
+
+		AllocationMeter.Result boxedList = allocationMeter.measure(this::encodeWithBoxedList);
+		AllocationMeter.Result arrayWrapper = allocationMeter.measure(this::encodeWithArrayWrapper);
+		AllocationMeter.Result reusedByteBuffer = allocationMeter.measure(this::encodeIntoReusedBuffer);
+
+		System.out.printf("Per packet: boxed list %s, AverPTZUtils#buildSendPacket %s, PacketEncoder into reused ByteBuffer %s (checksum %d)%n",
+				boxedList, arrayWrapper, reusedByteBuffer, checksum);
+		Assert.assertTrue(arrayWrapper.getBytesPerOperation() < boxedList.getBytesPerOperation());
+		Assert.assertTrue(reusedByteBuffer.getBytesPerOperation() < 1);
+	}
+
+	private void encodeWithArrayWrapper() {
+		byte[] packet = AverPTZUtils.buildSendPacket(1, 1, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.CAMERA.getCode(),
+				Command.POWER.getCode(), POWER_ON_PARAM);
+		checksum += packet[packet.length - 2];
+	}
+
+	private void encodeIntoReusedBuffer() {
+		reusedBuffer.clear();
+		checksum += PacketEncoder.encodePacket(reusedBuffer, 1, 1, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.CAMERA.getCode(),
+				Command.POWER.getCode(), POWER_ON_PARAM);
+	}
+
+	/**
+	 * Previous implementation of AverPTZUtils#buildSendPacket, kept as the baseline of the comparison
+	 */
+	private void encodeWithBoxedList() {
+		List<Byte> payload = new ArrayList<>();
+		payload.add((byte) (Prefix.COMMAND.getPrefixCode() + 1));
+		payload.add(CommandType.COMMAND.getCode());
+		payload.add(PayloadCategory.CAMERA.getCode());
+		for (byte b : Command.POWER.getCode()) {
+			payload.add(b);
+		}
+		for (byte b : POWER_ON_PARAM) {
+			payload.add(b);
+		}
+		payload.add((byte) 0xFF);
+		byte[] payloadArray = new byte[payload.size()];
+		for (int i = 0; i < payload.size(); i++) {
+			payloadArray[i] = payload.get(i);
+		}
+
+		List<Byte> bytes = new ArrayList<>();
+		bytes.add(Prefix.PAYLOAD_TYPE.getPrefixCode());
+		bytes.add(PayloadType.COMMAND.getCode());
+		bytes.add((byte) 0x00);
+		bytes.add((byte) payloadArray.length);
+		for (byte b : ByteBuffer.allocate(4).putInt(1).array()) {
+			bytes.add(b);
+		}
+		for (byte b : payloadArray) {
+			bytes.add(b);
+		}
+		byte[] packet = new byte[bytes.size()];
+		for (int i = 0; i < bytes.size(); i++) {
+			packet[i] = bytes.get(i);
+		}
+		checksum += packet[packet.length - 2];
+	}
+}
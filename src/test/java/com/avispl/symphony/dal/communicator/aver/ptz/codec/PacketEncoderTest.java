@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.SendPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Packet Encoder
+ * Encode packets into reused buffers which match expected packets
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PacketEncoderTest {
+	private static final byte[] POWER_ON_PARAM = { PowerStatus.ON.getCode() };
+
+	/**
+	 * Test PacketEncoder#encodePacket into byte array success
+	 * Expect packet written at the offset of a reused array which match expected packet
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testEncodePacketIntoByteArrayAtOffset() {
+		byte[] target = new byte[64];
+		Arrays.fill(target, (byte) 0x7F);
+
+		int length = PacketEncoder.encodePacket(target, 3, 1, 1, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.CAMERA.getCode(),
+				Command.POWER.getCode(), POWER_ON_PARAM);
+
+		Assert.assertEquals(SendPacket.POWER_ON.getCode().length, length);
+		Assert.assertArrayEquals(SendPacket.POWER_ON.getCode(), Arrays.copyOfRange(target, 3, 3 + length));
+		Assert.assertEquals((byte) 0x7F, target[2]);
+		Assert.assertEquals((byte) 0x7F, target[3 + length]);
+	}
+
+	/**
+	 * Test PacketEncoder#encodePacket into ByteBuffer success
+	 * Expect packets appended to a little-endian buffer keep a big-endian sequence number
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testEncodePacketIntoByteBuffer() {
+		ByteBuffer target = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+
+		int length = PacketEncoder.encodePacket(target, 1, 1, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.CAMERA.getCode(),
+				Command.POWER.getCode(), POWER_ON_PARAM);
+
+		Assert.assertEquals(length, target.position());
+		Assert.assertArrayEquals(SendPacket.POWER_ON.getCode(), Arrays.copyOf(target.array(), length));
+	}
+
+	/**
+	 * Test PacketEncoder#encodePacket throw exception
+	 * Expect BufferOverflowException and untouched buffer position when the packet does not fit
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testEncodePacketBufferTooSmall() {
+		ByteBuffer target = ByteBuffer.allocate(8);
+		try {
+			PacketEncoder.encodePacket(target, 1, 1, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.CAMERA.getCode(),
+					Command.POWER.getCode(), POWER_ON_PARAM);
+			Assert.fail("BufferOverflowException expected");
+		} catch (BufferOverflowException e) {
+			Assert.assertEquals(0, target.position());
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.SendPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PanTiltDrive;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Packet Template Cache
+ * Build packets from templates which match packets built by AverPTZUtils#buildSendPacket
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PacketTemplateCacheTest {
+
+	/**
+	 * Test PacketTemplateCache#buildInquiry success
+	 * Expect every inquiry of every camera ID match the packet built by AverPTZUtils#buildSendPacket
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBuildInquiryMatchBuildSendPacket() {
+		for (int cameraID = 1; cameraID <= 7; cameraID++) {
+			PacketTemplateCache packetTemplates = PacketTemplateCache.forCamera(cameraID);
+			for (PayloadCategory payloadCategory : PayloadCategory.values()) {
+				for (Command command : Command.values()) {
+					if (command.getCode() == null) {
+						continue;
+					}
+					int sequenceNumber = 0x01020304 * cameraID + command.ordinal();
+					Assert.assertArrayEquals(
+							buildSendPacket(cameraID, sequenceNumber, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), payloadCategory.getCode(), command.getCode()),
+							packetTemplates.buildInquiry(sequenceNumber, payloadCategory, command));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test PacketTemplateCache#buildCommand success
+	 * Expect control commands with parameters match expected packets
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBuildCommandWithParameters() {
+		PacketTemplateCache packetTemplates = PacketTemplateCache.forCamera(1);
+
+		Assert.assertArrayEquals(SendPacket.POWER_ON.getCode(), packetTemplates.buildCommand(1, PayloadCategory.CAMERA, Command.POWER, PowerStatus.ON.getCode()));
+
+		byte[] panTiltParams = new byte[] { 20, 15, PanTiltDrive.UP.getCode()[0], PanTiltDrive.UP.getCode()[1] };
+		Assert.assertArrayEquals(
+				buildSendPacket(1, 42, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.PAN_TILTER.getCode(), Command.PAN_TILT_DRIVE.getCode(),
+						panTiltParams), packetTemplates.buildCommand(42, PayloadCategory.PAN_TILTER, Command.PAN_TILT_DRIVE, panTiltParams));
+	}
+
+	/**
+	 * Test PacketTemplateCache#forCamera success
+	 * Expect the same templates shared for the same camera ID
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testForCameraSharesTemplates() {
+		Assert.assertSame(PacketTemplateCache.forCamera(2), PacketTemplateCache.forCamera(2));
+		Assert.assertEquals(2, PacketTemplateCache.forCamera(2).getCameraID());
+	}
+
+	/**
+	 * Test PacketTemplateCache#buildInquiry throw exception
+	 * Expect IllegalArgumentException for a command without code
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	@Category(MockTest.class)
+	public void testBuildInquiryCommandWithoutCode() {
+		PacketTemplateCache.forCamera(1).buildInquiry(1, PayloadCategory.CAMERA, Command.POWER_STATUS);
+	}
+}
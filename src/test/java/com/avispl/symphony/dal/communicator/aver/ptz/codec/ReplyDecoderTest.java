@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.PanTiltPosition;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.FocusMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Reply Decoder
+ * Decode values of reply packets at fixed offsets
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplyDecoderTest {
+
+	/**
+	 * Test ReplyDecoder#isReply, hasSequenceNumber and isCompletion success
+	 * Expect reply header checked without copy
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testReplyHeader() {
+		Assert.assertTrue(ReplyDecoder.isReply(ReplyPacket.COMPLETION.getCode()));
+		Assert.assertFalse(ReplyDecoder.isReply(ReplyPacket.UNEXPECTED_REPLY.getCode()));
+		Assert.assertTrue(ReplyDecoder.hasSequenceNumber(ReplyPacket.COMPLETION.getCode(), 1));
+		Assert.assertFalse(ReplyDecoder.hasSequenceNumber(ReplyPacket.COMPLETION.getCode(), 2));
+		Assert.assertTrue(ReplyDecoder.isCompletion(ReplyPacket.COMPLETION.getCode()));
+		Assert.assertFalse(ReplyDecoder.isCompletion(ReplyPacket.ACK.getCode()));
+		Assert.assertFalse(ReplyDecoder.isCompletion(ReplyPacket.POWER_ON.getCode()));
+	}
+
+	/**
+	 * Test ReplyDecoder typed enum decoding success
+	 * Expect enum values resolved from the value byte of the reply
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDecodeEnumValues() {
+		Assert.assertEquals(PowerStatus.ON, ReplyDecoder.decodePowerStatus(ReplyPacket.POWER_ON.getCode()));
+		Assert.assertEquals(PowerStatus.OFF, ReplyDecoder.decodePowerStatus(ReplyPacket.POWER_OFF.getCode()));
+		Assert.assertEquals(FocusMode.MANUAL, ReplyDecoder.decodeFocusMode(ReplyPacket.FOCUS_MANUAL_MODE.getCode()));
+		Assert.assertEquals(AEMode.IRIS_PRIORITY, ReplyDecoder.decodeAEMode(ReplyPacket.AE_IRIS_PRIORITY_MODE.getCode()));
+		Assert.assertEquals(WBMode.ONE_PUSH_WB, ReplyDecoder.decodeWBMode(ReplyPacket.WB_ONE_PUSH_MODE.getCode()));
+	}
+
+	/**
+	 * Test enum getByCode with unknown code
+	 * Expect null for codes without value, including negative bytes
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testGetByCodeUnknown() {
+		Assert.assertNull(PowerStatus.getByCode((byte) 0x7F));
+		Assert.assertNull(AEMode.getByCode((byte) 0xFF));
+	}
+
+	/**
+	 * Test ReplyDecoder numeric decoding success
+	 * Expect values decoded from the 4-bit nibbles and the unsigned value byte
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDecodeNumericValues() {
+		byte[] fourBitValue = { 0x01, 0x11, 0x00, 0x07, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x50, 0x00, 0x00, 0x01, 0x02, (byte) 0xFF };
+		Assert.assertEquals(18, ReplyDecoder.decodeFourBitValue(fourBitValue));
+
+		byte[] unsignedValue = { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x50, (byte) 0xFE, (byte) 0xFF };
+		Assert.assertEquals(254, ReplyDecoder.decodeUnsignedByte(unsignedValue));
+	}
+
+	/**
+	 * Test ReplyDecoder position decoding success
+	 * Expect zoom position unsigned and pan tilt positions signed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDecodePositions() {
+		byte[] zoomPosition = { 0x01, 0x11, 0x00, 0x07, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x50, 0x04, 0x00, 0x00, 0x00, (byte) 0xFF };
+		Assert.assertEquals(0x4000, ReplyDecoder.decodePosition(zoomPosition));
+
+		byte[] panTiltPosition = { 0x01, 0x11, 0x00, 0x0B, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x50, 0x0F, 0x0F, 0x0F, 0x0E, 0x00, 0x01, 0x02, 0x0C, (byte) 0xFF };
+		Assert.assertEquals(new PanTiltPosition(-2, 300), ReplyDecoder.decodePanTiltPosition(panTiltPosition));
+	}
+}
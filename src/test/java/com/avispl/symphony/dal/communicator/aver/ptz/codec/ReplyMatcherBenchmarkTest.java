@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.AllocationMeter;
+import com.avispl.symphony.dal.communicator.aver.ptz.UDPCommunicator;
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.ReplyMatcher.ReplyType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.BenchmarkTest;
+
+/**
+ * Benchmark for Reply Matcher
+ * Compare the cost per reply of the hex string comparison and of the byte matcher
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplyMatcherBenchmarkTest {
+	private static final int WARM_UP_REPLIES = 200_000;
+	private static final int MEASURED_REPLIES = 1_000_000;
+	private static final byte[][] REPLIES = { ReplyPacket.ACK.getCode(), ReplyPacket.COMPLETION.getCode(), ReplyPacket.POWER_ON.getCode(),
+			ReplyPacket.SHUTTER_SPEED.getCode() };
+	private static final List<String> ERROR_STRINGS = Arrays.asList(
+			UDPCommunicator.getHexByteString(ReplyStatus.SYNTAX_ERROR_CONTROL.getCode()),
+			UDPCommunicator.getHexByteString(ReplyStatus.SYNTAX_ERROR_INQUIRY.getCode()),
+			UDPCommunicator.getHexByteString(ReplyStatus.COMMAND_BUFFER_FULL_CONTROL.getCode()),
+			UDPCommunicator.getHexByteString(ReplyStatus.COMMAND_BUFFER_FULL_INQUIRY.getCode()),
+			UDPCommunicator.getHexByteString(ReplyStatus.NO_SOCKET_CONTROL.getCode()),
+			UDPCommunicator.getHexByteString(ReplyStatus.NO_SOCKET_INQUIRY.getCode()),
+			UDPCommunicator.getHexByteString(ReplyStatus.COMMAND_NOT_EXECUTABLE_CONTROL.getCode()),
+			UDPCommunicator.getHexByteString(ReplyStatus.COMMAND_NOT_EXECUTABLE_INQUIRY.getCode()));
+	private static final String COMPLETION_STRING = UDPCommunicator.getHexByteString(ReplyStatus.COMPLETION.getCode());
+
+	private int replyIndex;
+	private int checksum;
+
+	/**
+	 * Classify the same replies with both implementations
+	 * Expect the byte matcher not to allocate and print cost per reply of each implementation
+	 */
+	@Test
+	@Category(BenchmarkTest.class)
+	public void testCostPerReply() {
+		AllocationMeter allocationMeter = new AllocationMeter(WARM_UP_REPLIES, MEASURED_REPLIES);
+
+		AllocationMeter.Result hexString = allocationMeter.measure(this::classifyWithHexString);
+		AllocationMeter.Result byteMatcher = allocationMeter.measure(this::classifyWithByteMatcher);
+
+		System.out.printf("Per reply: hex string %s, ReplyMatcher %s (checksum %d)%n", hexString, byteMatcher, checksum);
+		Assert.assertTrue(byteMatcher.getBytesPerOperation() < 1);
+	}
+
+	private void classifyWithByteMatcher() {
+		byte[] reply = REPLIES[replyIndex++ & 3];
+		checksum += ReplyMatcher.match(reply).ordinal();
+	}
+
+	/**
+	 * Previous classification of AverPTZCommunicator#read and doneReading, kept as the baseline of the comparison
+	 */
+	private void classifyWithHexString() {
+		byte[] reply = REPLIES[replyIndex++ & 3];
+		String replyString = UDPCommunicator.getHexByteString(reply);
+		ReplyType replyType = ReplyType.INQUIRY_REPLY;
+		if (replyString.endsWith(UDPCommunicator.getHexByteString(ReplyStatus.ACK.getCode()))) {
+			replyType = ReplyType.ACK;
+		} else if (replyString.endsWith(COMPLETION_STRING)) {
+			replyType = ReplyType.COMPLETION;
+		} else {
+			for (String error : ERROR_STRINGS) {
+				if (replyString.endsWith(error)) {
+					replyType = ReplyType.ERROR;
+				}
+			}
+		}
+		checksum += replyType.ordinal();
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.codec;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.codec.ReplyMatcher.ReplyType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.SendPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Reply Matcher
+ * Classify reply packets by their trailing bytes
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplyMatcherTest {
+
+	/**
+	 * Test ReplyMatcher#match success
+	 * Expect ACK, COMPLETION and inquiry replies recognized
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testMatchAckCompletionAndInquiryReply() {
+		Assert.assertEquals(ReplyType.ACK, ReplyMatcher.match(ReplyPacket.ACK.getCode()));
+		Assert.assertEquals(ReplyType.COMPLETION, ReplyMatcher.match(ReplyPacket.COMPLETION.getCode()));
+		Assert.assertEquals(ReplyType.INQUIRY_REPLY, ReplyMatcher.match(ReplyPacket.POWER_ON.getCode()));
+		Assert.assertEquals(ReplyType.INQUIRY_REPLY, ReplyMatcher.match(ReplyPacket.SHUTTER_SPEED.getCode()));
+	}
+
+	/**
+	 * Test ReplyMatcher#match success
+	 * Expect every error status recognized as error with its status
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testMatchErrors() {
+		for (ReplyStatus status : ReplyStatus.values()) {
+			if (status == ReplyStatus.ACK || status == ReplyStatus.COMPLETION) {
+				continue;
+			}
+			byte[] reply = new byte[8 + status.getCode().length];
+			System.arraycopy(ReplyPacket.ACK.getCode(), 0, reply, 0, 8);
+			System.arraycopy(status.getCode(), 0, reply, 8, status.getCode().length);
+
+			Assert.assertEquals(ReplyType.ERROR, ReplyMatcher.match(reply));
+			Assert.assertEquals(status, ReplyMatcher.matchError(reply));
+		}
+		Assert.assertNull(ReplyMatcher.matchError(ReplyPacket.COMPLETION.getCode()));
+	}
+
+	/**
+	 * Test ReplyMatcher#match success
+	 * Expect replies without terminator classified as unknown
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testMatchUnknown() {
+		Assert.assertEquals(ReplyType.UNKNOWN, ReplyMatcher.match(new byte[0]));
+		Assert.assertEquals(ReplyType.UNKNOWN, ReplyMatcher.match(new byte[] { 0x01, 0x11, 0x00, 0x03, (byte) 0x90, 0x51 }));
+	}
+
+	/**
+	 * Test ReplyMatcher#isInquiry success
+	 * Expect inquiry packets recognized by payload type
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testIsInquiry() {
+		Assert.assertTrue(ReplyMatcher.isInquiry(
+				buildSendPacket(1, 1, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode())));
+		Assert.assertFalse(ReplyMatcher.isInquiry(SendPacket.POWER_ON.getCode()));
+	}
+}
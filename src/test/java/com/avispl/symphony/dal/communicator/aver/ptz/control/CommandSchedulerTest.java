@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.control.CommandScheduler.Lane;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Command Scheduler
+ * Grant the device by priority lane and coalesce superseded controls
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CommandSchedulerTest {
+	private CommandScheduler commandScheduler;
+
+	@Before
+	public void setUp() {
+		commandScheduler = new CommandScheduler();
+	}
+
+	/**
+	 * Test CommandScheduler#acquire with waiters in several lanes
+	 * Expect preset recall served before image control, image control served before inquiry
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPriorityLanes() throws Exception {
+		List<String> order = new CopyOnWriteArrayList<>();
+		commandScheduler.acquire(Lane.INQUIRY);
+
+		CompletableFuture<Void> inquiry = runAsync(() -> sendInTurn(Lane.INQUIRY, "inquiry", order));
+		awaitWaiting(Lane.INQUIRY, 1);
+		CompletableFuture<Void> image = runAsync(() -> sendControl(Command.WB_MODE, "image", order));
+		awaitWaiting(Lane.INTERACTIVE, 1);
+		CompletableFuture<Void> preset = runAsync(() -> sendControl(Command.PRESET, "preset", order));
+		awaitWaiting(Lane.CRITICAL, 1);
+
+		commandScheduler.release();
+		CompletableFuture.allOf(inquiry, image, preset).get(5, TimeUnit.SECONDS);
+
+		Assert.assertEquals("[preset, image, inquiry]", order.toString());
+	}
+
+	/**
+	 * Test CommandScheduler#acquireControl with two pending values of a slider
+	 * Expect only the latest value sent
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCoalesceSliderValues() throws Exception {
+		List<String> order = new CopyOnWriteArrayList<>();
+		commandScheduler.acquire(Lane.INQUIRY);
+
+		CompletableFuture<Void> first = runAsync(() -> sendControl(Command.IRIS_DIRECT, "iris 1", order));
+		awaitWaiting(Lane.INTERACTIVE, 1);
+		CompletableFuture<Void> second = runAsync(() -> sendControl(Command.IRIS_DIRECT, "iris 2", order));
+		first.get(5, TimeUnit.SECONDS);
+
+		commandScheduler.release();
+		second.get(5, TimeUnit.SECONDS);
+
+		Assert.assertEquals("[iris 2]", order.toString());
+		Assert.assertEquals(1, commandScheduler.getCoalescedTotal());
+	}
+
+	/**
+	 * Test CommandScheduler#acquireControl with a non coalescing command
+	 * Expect every value sent in arrival order
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testNoCoalesceForDiscreteCommands() throws Exception {
+		List<String> order = new CopyOnWriteArrayList<>();
+		commandScheduler.acquire(Lane.INQUIRY);
+
+		CompletableFuture<Void> first = runAsync(() -> sendControl(Command.BACKLIGHT, "on", order));
+		awaitWaiting(Lane.INTERACTIVE, 1);
+		CompletableFuture<Void> second = runAsync(() -> sendControl(Command.BACKLIGHT, "off", order));
+		awaitWaiting(Lane.INTERACTIVE, 2);
+
+		commandScheduler.release();
+		CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+
+		Assert.assertEquals("[on, off]", order.toString());
+		Assert.assertEquals(0, commandScheduler.getCoalescedTotal());
+	}
+
+	/**
+	 * Test CommandScheduler#acquire reentrancy
+	 * Expect the turn kept until released as many times as acquired
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testReentrantTurn() {
+		commandScheduler.acquire(Lane.INTERACTIVE);
+		commandScheduler.acquire(Lane.INQUIRY);
+		commandScheduler.release();
+		commandScheduler.release();
+		Assert.assertTrue(commandScheduler.acquireControl(Command.PRESET));
+		commandScheduler.release();
+	}
+
+	private CompletableFuture<Void> runAsync(Runnable runnable) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		Thread thread = new Thread(() -> {
+			try {
+				runnable.run();
+				future.complete(null);
+			} catch (Throwable e) {
+				future.completeExceptionally(e);
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+		return future;
+	}
+
+	private void sendInTurn(Lane lane, String name, List<String> order) {
+		commandScheduler.acquire(lane);
+		order.add(name);
+		commandScheduler.release();
+	}
+
+	private void sendControl(Command command, String name, List<String> order) {
+		if (commandScheduler.acquireControl(command)) {
+			order.add(name);
+			commandScheduler.release();
+		}
+	}
+
+	private void awaitWaiting(Lane lane, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (commandScheduler.getWaiting(lane) < count) {
+			Assert.assertTrue("Sender not waiting in lane " + lane, System.currentTimeMillis() < deadline);
+			Thread.sleep(1);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.AllocationMeter;
+import com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.BenchmarkTest;
+
+/**
+ * Benchmark for Control Dispatcher
+ * Compare the cost per control of splitting the property name and of the table lookup
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ControlDispatcherBenchmarkTest {
+	private static final int WARM_UP_CONTROLS = 200_000;
+	private static final int MEASURED_CONTROLS = 1_000_000;
+	private static final String[] PROPERTIES = { ControlSkeletons.WB_MODE, ControlSkeletons.EXPOSURE_GAIN_DIRECT, ControlSkeletons.PAN_TILT_DRIVE_UP_LEFT,
+			ControlSkeletons.PRESET_RECALL };
+
+	private final ControlDispatcher<int[]> controlDispatcher = new ControlDispatcher<>();
+	private final int[] checksum = new int[1];
+	private int propertyIndex;
+
+	/**
+	 * Resolve the same properties with both implementations
+	 * Expect the table lookup not to allocate and print cost per control of each implementation
+	 */
+	@Test
+	@Category(BenchmarkTest.class)
+	public void testCostPerControl() {
+		for (int i = 0; i < PROPERTIES.length; i++) {
+			int code = i + 1;
+			controlDispatcher.register(PROPERTIES[i], (device, value) -> device[0] += code);
+		}
+		AllocationMeter allocationMeter = new AllocationMeter(WARM_UP_CONTROLS, MEASURED_CONTROLS);
+
+		AllocationMeter.Result splitLookup = allocationMeter.measure(this::resolveWithSplit);
+		AllocationMeter.Result tableLookup = allocationMeter.measure(this::resolveWithTable);
+
+		System.out.printf("Per control: split %s, ControlDispatcher %s (checksum %d)%n", splitLookup, tableLookup, checksum[0]);
+		Assert.assertTrue(tableLookup.getBytesPerOperation() < 1);
+	}
+
+	private void resolveWithTable() {
+		controlDispatcher.dispatch(checksum, PROPERTIES[propertyIndex++ & 3], null);
+	}
+
+	/**
+	 * Previous resolution of AverPTZCommunicator#controlProperty, kept as the baseline of the comparison
+	 */
+	private void resolveWithSplit() {
+		String[] splitProperty = PROPERTIES[propertyIndex++ & 3].split(String.valueOf(AverPTZConstants.HASH));
+		Command command = Command.getByName(splitProperty[0]);
+		if (splitProperty.length > 1) {
+			String[] splitControl = splitProperty[1].split("\\)");
+			command = Command.getByName(splitControl[splitControl.length - 1]);
+		}
+		checksum[0] += command == null ? 0 : command.ordinal();
+	}
+}
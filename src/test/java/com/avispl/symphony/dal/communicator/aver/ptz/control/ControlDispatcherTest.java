@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Control Dispatcher
+ * Resolve controls by full property name
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ControlDispatcherTest {
+	private ControlDispatcher<List<String>> controlDispatcher;
+
+	@Before
+	public void setUp() {
+		controlDispatcher = new ControlDispatcher<>();
+		controlDispatcher.register(ControlSkeletons.WB_MODE, (device, value) -> device.add("WB " + value))
+				.register(ControlSkeletons.PAN_TILT_HOME, (device, value) -> device.add("Home"));
+	}
+
+	/**
+	 * Test ControlDispatcher#dispatch success
+	 * Expect handler of the property called with the device and the value
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDispatch() {
+		List<String> device = new ArrayList<>();
+
+		Assert.assertTrue(controlDispatcher.dispatch(device, ControlSkeletons.WB_MODE, "Auto"));
+		Assert.assertTrue(controlDispatcher.dispatch(device, ControlSkeletons.PAN_TILT_HOME, "1"));
+		Assert.assertEquals(2, device.size());
+		Assert.assertEquals("WB Auto", device.get(0));
+		Assert.assertEquals("Home", device.get(1));
+	}
+
+	/**
+	 * Test ControlDispatcher#dispatch with property without handler
+	 * Expect false and no handler called
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDispatchUnknownProperty() {
+		List<String> device = new ArrayList<>();
+
+		Assert.assertFalse(controlDispatcher.hasHandler(ControlSkeletons.AE_MODE));
+		Assert.assertFalse(controlDispatcher.dispatch(device, ControlSkeletons.AE_MODE, "Manual"));
+		Assert.assertTrue(device.isEmpty());
+	}
+
+	/**
+	 * Test ControlDispatcher#register with property already registered
+	 * Expect IllegalArgumentException
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	@Category(MockTest.class)
+	public void testRegisterDuplicate() {
+		controlDispatcher.register(ControlSkeletons.WB_MODE, (device, value) -> device.clear());
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.communicator.aver.ptz.AverPTZConstants;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PanTiltDrive;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Control Skeletons
+ * Build static parts of controllable properties once
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ControlSkeletonsTest {
+
+	/**
+	 * Test ControlSkeletons property names
+	 * Expect names built from group, index and control name
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPropertyNames() {
+		Assert.assertEquals("PanTiltControl#(2)" + PanTiltDrive.UP.getName(), ControlSkeletons.PAN_TILT_DRIVE_UP);
+	}
+
+	/**
+	 * Test ControlSkeletons#getPresetOptions
+	 * Expect default preset followed by presets 0 -> 255
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPresetOptions() {
+		String[] presetOptions = ControlSkeletons.getPresetOptions();
+		Assert.assertEquals(257, presetOptions.length);
+		Assert.assertEquals(AverPTZConstants.DEFAULT_PRESET, presetOptions[0]);
+		Assert.assertEquals("255", presetOptions[256]);
+	}
+
+	/**
+	 * Test ControlSkeletons definitions reuse
+	 * Expect the same definition returned for the same property on every cycle
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDefinitionsReused() {
+		ControlSkeletons controlSkeletons = new ControlSkeletons();
+		AdvancedControllableProperty.Button button = controlSkeletons.getButton(ControlSkeletons.ZOOM_TELE, AverPTZConstants.PLUS);
+		Assert.assertSame(button, controlSkeletons.getButton(ControlSkeletons.ZOOM_TELE, AverPTZConstants.PLUS));
+		Assert.assertEquals(AverPTZConstants.PLUS, button.getLabel());
+
+		AdvancedControllableProperty.DropDown dropDown = controlSkeletons.getDropDown(ControlSkeletons.AE_MODE, ControlSkeletons.getAEModeOptions());
+		Assert.assertSame(dropDown, controlSkeletons.getDropDown(ControlSkeletons.AE_MODE, ControlSkeletons.getAEModeOptions()));
+		Assert.assertArrayEquals(ControlSkeletons.getAEModeOptions(), dropDown.getOptions());
+	}
+}
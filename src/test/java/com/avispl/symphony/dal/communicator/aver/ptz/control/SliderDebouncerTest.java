@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.control;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Slider Debouncer
+ * Send only the last value of a debounce window
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class SliderDebouncerTest {
+	private SliderDebouncer sliderDebouncer;
+	private ExecutorService executor;
+
+	@Before
+	public void setUp() {
+		sliderDebouncer = new SliderDebouncer();
+		executor = Executors.newCachedThreadPool();
+	}
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Test SliderDebouncer#awaitLatest with a burst of values in one window
+	 * Expect only the last value sent and the earlier values superseded
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testLastValueOfWindowSent() throws Exception {
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			results.add(executor.submit(() -> sliderDebouncer.awaitLatest(Command.IRIS_DIRECT, 500)));
+			Thread.sleep(20);
+		}
+
+		for (int i = 0; i < 4; i++) {
+			Assert.assertFalse(results.get(i).get(5, TimeUnit.SECONDS));
+		}
+		Assert.assertTrue(results.get(4).get(5, TimeUnit.SECONDS));
+		Assert.assertEquals(4, sliderDebouncer.getSupersededTotal());
+	}
+
+	/**
+	 * Test SliderDebouncer#awaitLatest with values of different sliders
+	 * Expect every slider debounced on its own
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testWindowPerCommand() throws Exception {
+		Future<Boolean> iris = executor.submit(() -> sliderDebouncer.awaitLatest(Command.IRIS_DIRECT, 100));
+		Future<Boolean> gain = executor.submit(() -> sliderDebouncer.awaitLatest(Command.GAIN_DIRECT, 100));
+
+		Assert.assertTrue(iris.get(5, TimeUnit.SECONDS));
+		Assert.assertTrue(gain.get(5, TimeUnit.SECONDS));
+		Assert.assertEquals(0, sliderDebouncer.getSupersededTotal());
+	}
+
+	/**
+	 * Test SliderDebouncer#awaitLatest with debounce disabled
+	 * Expect value sent immediately
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDisabledWindow() {
+		Assert.assertTrue(sliderDebouncer.awaitLatest(Command.SHUTTER_DIRECT, 0));
+		Assert.assertTrue(sliderDebouncer.awaitLatest(Command.SHUTTER_DIRECT, 0));
+		Assert.assertEquals(0, sliderDebouncer.getSupersededTotal());
+	}
+}
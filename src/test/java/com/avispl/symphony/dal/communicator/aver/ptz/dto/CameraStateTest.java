@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.dto;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PresetControl;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Camera State
+ * Update fields from polling and completed control commands
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CameraStateTest {
+	private CameraState cameraState;
+
+	@Before
+	public void setUp() {
+		cameraState = new CameraState();
+	}
+
+	/**
+	 * Test CameraState#setValue success
+	 * Expect value and timestamp stored, null value makes the field unknown
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSetValue() {
+		cameraState.setValue(Command.POWER, PowerStatus.ON, 10);
+		Assert.assertEquals(PowerStatus.ON, cameraState.getPowerStatus());
+		Assert.assertEquals(Long.valueOf(10), cameraState.getTimestamp(Command.POWER));
+
+		cameraState.setValue(Command.POWER, null, 20);
+		Assert.assertNull(cameraState.getPowerStatus());
+		Assert.assertNull(cameraState.getTimestamp(Command.POWER));
+	}
+
+	/**
+	 * Test CameraState#setValue with invalid field
+	 * Expect IllegalArgumentException for a command which is not a field
+	 */
+	@Test(expected = IllegalArgumentException.class)
+	@Category(MockTest.class)
+	public void testSetValueNotAField() {
+		cameraState.setValue(Command.ZOOM, 1, 0);
+	}
+
+	/**
+	 * Test CameraState#setValue with wrong type
+	 * Expect ClassCastException for a value of another type than the field
+	 */
+	@Test(expected = ClassCastException.class)
+	@Category(MockTest.class)
+	public void testSetValueWrongType() {
+		cameraState.setValue(Command.POWER, AEMode.FULL_AUTO, 0);
+	}
+
+	/**
+	 * Test CameraState#applyControl with set commands
+	 * Expect fields take the value sent, 4-bit nibbles combined
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testApplyControlSetsValue() {
+		cameraState.applyControl(Command.POWER, new byte[] { PowerStatus.OFF.getCode() }, 1);
+		cameraState.applyControl(Command.AE_MODE, new byte[] { AEMode.MANUAL.getCode() }, 1);
+		cameraState.applyControl(Command.GAIN_DIRECT, new byte[] { 0x01, 0x02 }, 1);
+		cameraState.applyControl(Command.GAIN_LIMIT_DIRECT, new byte[] { 0x08 }, 1);
+
+		Assert.assertEquals(PowerStatus.OFF, cameraState.getPowerStatus());
+		Assert.assertEquals(AEMode.MANUAL, cameraState.getAEMode());
+		Assert.assertEquals(Integer.valueOf(18), cameraState.getGainLevel());
+		Assert.assertEquals(Integer.valueOf(8), cameraState.getGainLimitLevel());
+	}
+
+	/**
+	 * Test CameraState#applyControl with WB commands
+	 * Expect R/B gain made unknown when the camera recalculates them, other fields kept
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testApplyControlInvalidatesAffectedFields() {
+		cameraState.setValue(Command.RGAIN_INQ, 10, 0);
+		cameraState.setValue(Command.BGAIN_INQ, 20, 0);
+		cameraState.setValue(Command.POWER, PowerStatus.ON, 0);
+
+		cameraState.applyControl(Command.RGAIN, new byte[] { 0x02 }, 1);
+		Assert.assertNull(cameraState.getRGain());
+		Assert.assertEquals(Integer.valueOf(20), cameraState.getBGain());
+
+		cameraState.applyControl(Command.WB_MODE, new byte[] { WBMode.AUTO.getCode() }, 1);
+		Assert.assertEquals(WBMode.AUTO, cameraState.getWBMode());
+		Assert.assertNull(cameraState.getBGain());
+		Assert.assertEquals(PowerStatus.ON, cameraState.getPowerStatus());
+	}
+
+	/**
+	 * Test CameraState#applyControl with preset recall
+	 * Expect every field unknown except the last preset recalled
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testApplyControlPresetRecall() {
+		cameraState.setValue(Command.POWER, PowerStatus.ON, 0);
+		cameraState.setValue(Command.PRESET, 1, 0);
+
+		cameraState.applyControl(Command.PRESET, new byte[] { PresetControl.RECALL.getCode(), 0x05 }, 1);
+		Assert.assertNull(cameraState.getPowerStatus());
+		Assert.assertEquals(Integer.valueOf(5), cameraState.getLastPresetRecalled());
+
+		cameraState.applyControl(Command.PRESET, new byte[] { PresetControl.SET.getCode(), 0x06 }, 2);
+		Assert.assertEquals(Integer.valueOf(5), cameraState.getLastPresetRecalled());
+	}
+
+	/**
+	 * Test CameraState#applyControl with position commands
+	 * Expect direct positions stored and drive commands making their position unknown
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testApplyControlPositions() {
+		cameraState.applyControl(Command.ZOOM_DIRECT, new byte[] { 0x01, 0x02, 0x03, 0x04 }, 0);
+		cameraState.applyControl(Command.PAN_TILT_ABSOLUTE, new byte[] { 0x01, 0x01, 0x0F, 0x0F, 0x0F, 0x0E, 0x00, 0x00, 0x01, 0x00 }, 0);
+		Assert.assertEquals(Integer.valueOf(0x1234), cameraState.getZoomPosition());
+		Assert.assertEquals(new PanTiltPosition(-2, 16), cameraState.getPanTiltPosition());
+
+		cameraState.applyControl(Command.ZOOM, new byte[] { 0x00 }, 1);
+		Assert.assertNull(cameraState.getZoomPosition());
+		Assert.assertEquals(new PanTiltPosition(-2, 16), cameraState.getPanTiltPosition());
+
+		cameraState.applyControl(Command.PAN_TILT_RELATIVE, new byte[] { 0x01, 0x01, 0x00, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00 }, 1);
+		Assert.assertNull(cameraState.getPanTiltPosition());
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Camera Executor
+ * Run the background polling cycles of the cameras on the shared I/O executor
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CameraExecutorTest {
+
+	/**
+	 * Test CameraExecutor#scheduleWithFixedDelay
+	 * Expect the task run repeatedly off the timer thread, on a platform I/O thread when the JVM has no virtual threads
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTaskRunsRepeatedly() throws Exception {
+		CameraExecutor cameraExecutor = CameraExecutor.getInstance();
+		CountDownLatch runs = new CountDownLatch(3);
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		CameraExecutor.PeriodicTask periodicTask = cameraExecutor.scheduleWithFixedDelay(() -> {
+			threadName.set(Thread.currentThread().getName());
+			runs.countDown();
+		}, 0, 10, TimeUnit.MILLISECONDS);
+		try {
+			Assert.assertTrue(runs.await(2, TimeUnit.SECONDS));
+		} finally {
+			periodicTask.cancel();
+		}
+
+		Assert.assertNotEquals("AverPTZ timer", threadName.get());
+		if (!cameraExecutor.isVirtualThreads()) {
+			Assert.assertTrue(threadName.get().startsWith("AverPTZ I/O"));
+		}
+	}
+
+	/**
+	 * Test CameraExecutor.PeriodicTask#cancel
+	 * Expect no run after the task is cancelled
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCancelledTaskStops() throws Exception {
+		AtomicInteger runs = new AtomicInteger();
+		CameraExecutor.PeriodicTask periodicTask = CameraExecutor.getInstance().scheduleWithFixedDelay(runs::incrementAndGet, 0, 10, TimeUnit.MILLISECONDS);
+		Thread.sleep(100);
+		periodicTask.cancel();
+		Thread.sleep(50);
+
+		int runsAfterCancel = runs.get();
+		Thread.sleep(100);
+		Assert.assertTrue(runsAfterCancel > 0);
+		Assert.assertEquals(runsAfterCancel, runs.get());
+	}
+}
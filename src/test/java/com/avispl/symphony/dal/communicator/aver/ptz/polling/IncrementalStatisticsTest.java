@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Incremental Statistics
+ * Compare monitoring cycles and reuse unchanged controllable properties
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class IncrementalStatisticsTest {
+	private final AdvancedControllableProperty.Switch toggle = new AdvancedControllableProperty.Switch();
+
+	/**
+	 * Test IncrementalStatistics#merge success
+	 * Expect unchanged property reused with its timestamp, changed property kept, changes counted
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testMergeReusesUnchangedProperties() {
+		IncrementalStatistics incrementalStatistics = new IncrementalStatistics();
+		AdvancedControllableProperty power = new AdvancedControllableProperty("Power", new Date(0), toggle, 1);
+		AdvancedControllableProperty backlight = new AdvancedControllableProperty("Backlight", new Date(0), toggle, 0);
+		Assert.assertEquals(2, incrementalStatistics.merge(statistics("Power", "1", "Backlight", "0"), properties(power, backlight)));
+
+		AdvancedControllableProperty newPower = new AdvancedControllableProperty("Power", new Date(1), toggle, 1);
+		AdvancedControllableProperty newBacklight = new AdvancedControllableProperty("Backlight", new Date(1), toggle, 1);
+		List<AdvancedControllableProperty> properties = properties(newPower, newBacklight);
+		Assert.assertEquals(1, incrementalStatistics.merge(statistics("Power", "1", "Backlight", "1"), properties));
+
+		Assert.assertSame(power, properties.get(0));
+		Assert.assertSame(newBacklight, properties.get(1));
+		Assert.assertEquals(1, incrementalStatistics.getChangedInCycle());
+	}
+
+	/**
+	 * Test IncrementalStatistics#merge with removed statistics
+	 * Expect removed statistics counted as changed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testMergeCountsRemovedStatistics() {
+		IncrementalStatistics incrementalStatistics = new IncrementalStatistics();
+		incrementalStatistics.merge(statistics("Power", "1", "Backlight", "0"), new ArrayList<>());
+		Assert.assertEquals(1, incrementalStatistics.merge(statistics("Power", "1"), new ArrayList<>()));
+	}
+
+	/**
+	 * Test IncrementalStatistics#reset
+	 * Expect the next cycle reported as fully changed, no property reused from before the reset
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testResetForgetsPreviousCycle() {
+		IncrementalStatistics incrementalStatistics = new IncrementalStatistics();
+		AdvancedControllableProperty power = new AdvancedControllableProperty("Power", new Date(0), toggle, 1);
+		incrementalStatistics.merge(statistics("Power", "1", "Backlight", "0"), properties(power));
+		incrementalStatistics.reset();
+		Assert.assertEquals(0, incrementalStatistics.getChangedInCycle());
+
+		AdvancedControllableProperty newPower = new AdvancedControllableProperty("Power", new Date(1), toggle, 1);
+		List<AdvancedControllableProperty> properties = properties(newPower);
+		Assert.assertEquals(2, incrementalStatistics.merge(statistics("Power", "1", "Backlight", "0"), properties));
+		Assert.assertSame(newPower, properties.get(0));
+	}
+
+	private static Map<String, String> statistics(String... entries) {
+		Map<String, String> statistics = new HashMap<>();
+		for (int i = 0; i < entries.length; i += 2) {
+			statistics.put(entries[i], entries[i + 1]);
+		}
+		return statistics;
+	}
+
+	private static List<AdvancedControllableProperty> properties(AdvancedControllableProperty... properties) {
+		List<AdvancedControllableProperty> list = new ArrayList<>();
+		for (AdvancedControllableProperty property : properties) {
+			list.add(property);
+		}
+		return list;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.AEMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.WBMode;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Inquiry Plan
+ * Compute the inquiries needed by the known modes of the camera
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class InquiryPlanTest {
+
+	/**
+	 * Test InquiryPlan#getDependentInquiries with AE manual mode
+	 * Expect auto slow shutter, exposure and gain limit not inquired
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testAEManualSkipsAutoExposureInquiries() {
+		List<Command> inquiries = InquiryPlan.getDependentInquiries(PowerStatus.ON, AEMode.MANUAL, WBMode.AUTO);
+		Assert.assertEquals(Arrays.asList(Command.SHUTTER_DIRECT, Command.GAIN_DIRECT, Command.IRIS_DIRECT), inquiries);
+	}
+
+	/**
+	 * Test InquiryPlan#getDependentInquiries with WB manual mode
+	 * Expect AE and WB branches merged
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testWBManualAddsGainInquiries() {
+		List<Command> inquiries = InquiryPlan.getDependentInquiries(PowerStatus.ON, AEMode.SHUTTER_PRIORITY, WBMode.MANUAL);
+		Assert.assertEquals(Arrays.asList(Command.EXP_COMP_DIRECT, Command.GAIN_LIMIT_DIRECT, Command.SHUTTER_DIRECT, Command.RGAIN_INQ, Command.BGAIN_INQ), inquiries);
+	}
+
+	/**
+	 * Test InquiryPlan#getDependentInquiries with unknown state
+	 * Expect nothing planned when power is off or modes are unknown
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testUnknownStatePlansNothing() {
+		Assert.assertTrue(InquiryPlan.getDependentInquiries(PowerStatus.OFF, AEMode.FULL_AUTO, WBMode.MANUAL).isEmpty());
+		Assert.assertTrue(InquiryPlan.getDependentInquiries(null, AEMode.FULL_AUTO, WBMode.MANUAL).isEmpty());
+		Assert.assertTrue(InquiryPlan.getDependentInquiries(PowerStatus.ON, null, null).isEmpty());
+	}
+
+	/**
+	 * Test InquiryPlan#getPositionInquiries
+	 * Expect zoom, focus and pan tilt positions inquired only when power is on
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPositionInquiries() {
+		Assert.assertEquals(Arrays.asList(Command.ZOOM_DIRECT, Command.FOCUS_DIRECT, Command.PAN_TILT_POSITION), InquiryPlan.getPositionInquiries(PowerStatus.ON));
+		Assert.assertTrue(InquiryPlan.getPositionInquiries(PowerStatus.OFF).isEmpty());
+		Assert.assertTrue(InquiryPlan.getPositionInquiries(null).isEmpty());
+	}
+}
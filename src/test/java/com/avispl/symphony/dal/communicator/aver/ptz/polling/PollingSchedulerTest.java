@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.polling;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.dto.CameraState;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.BacklightStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Polling Scheduler
+ * Serve inquiries from the camera state until their tier interval elapsed
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PollingSchedulerTest {
+	private CameraState cameraState;
+	private PollingScheduler pollingScheduler;
+
+	@Before
+	public void setUp() {
+		cameraState = new CameraState();
+		pollingScheduler = new PollingScheduler(cameraState);
+		pollingScheduler.setInterval(PollingTier.FAST, 0);
+		pollingScheduler.setInterval(PollingTier.SLOW, 60_000);
+	}
+
+	/**
+	 * Test PollingScheduler#isDue success
+	 * Expect slow tier inquiry not due until the interval elapsed, fast tier inquiry always due
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDueWhenIntervalElapsed() {
+		Assert.assertTrue(pollingScheduler.isEnabled());
+		Assert.assertTrue(pollingScheduler.isDue(Command.BACKLIGHT, 0));
+
+		cameraState.setValue(Command.BACKLIGHT, BacklightStatus.ON, 0);
+		cameraState.setValue(Command.POWER, PowerStatus.ON, 0);
+
+		Assert.assertFalse(pollingScheduler.isDue(Command.BACKLIGHT, 59_999));
+		Assert.assertTrue(pollingScheduler.isDue(Command.BACKLIGHT, 60_000));
+		Assert.assertTrue(pollingScheduler.isDue(Command.POWER, 1));
+		Assert.assertTrue(pollingScheduler.isDue(Command.FOCUS_MODE, 1));
+	}
+
+	/**
+	 * Test PollingScheduler counters
+	 * Expect sent and saved inquiries counted per cycle and saved inquiries counted in total
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCounters() {
+		pollingScheduler.startCycle();
+		pollingScheduler.countSent();
+		Assert.assertEquals(1, pollingScheduler.getSentInCycle());
+		Assert.assertEquals(0, pollingScheduler.getSavedInCycle());
+
+		pollingScheduler.startCycle();
+		pollingScheduler.countSaved();
+		pollingScheduler.countSaved();
+		Assert.assertEquals(0, pollingScheduler.getSentInCycle());
+		Assert.assertEquals(2, pollingScheduler.getSavedInCycle());
+
+		pollingScheduler.startCycle();
+		Assert.assertEquals(0, pollingScheduler.getSavedInCycle());
+		Assert.assertEquals(2, pollingScheduler.getSavedTotal());
+	}
+
+	/**
+	 * Test PollingScheduler#isDue after invalidation of the camera state
+	 * Expect invalidated inquiry due before its interval elapsed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDueAfterInvalidation() {
+		cameraState.setValue(Command.BACKLIGHT, BacklightStatus.ON, 0);
+		cameraState.invalidateAll();
+		Assert.assertTrue(pollingScheduler.isDue(Command.BACKLIGHT, 1));
+	}
+
+	/**
+	 * Test PollingScheduler#isEnabled
+	 * Expect disabled when every tier interval is 0
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDisabledByDefault() {
+		Assert.assertFalse(new PollingScheduler(new CameraState()).isEnabled());
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Flow Control Gate
+ * Hold commands after a rejection until a reply frees a slot or the backoff elapsed
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class FlowControlGateTest {
+
+	/**
+	 * Test FlowControlGate#reject with consecutive rejections
+	 * Expect backoff doubled on every rejection up to the maximum, reset after release
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBoundedExponentialBackoff() {
+		FlowControlGate gate = new FlowControlGate(50, 300);
+		Assert.assertEquals(50, gate.reject());
+		Assert.assertEquals(100, gate.reject());
+		Assert.assertEquals(200, gate.reject());
+		Assert.assertEquals(300, gate.reject());
+		Assert.assertEquals(300, gate.reject());
+		Assert.assertFalse(gate.isOpen());
+
+		gate.release();
+		Assert.assertTrue(gate.isOpen());
+		Assert.assertEquals(50, gate.reject());
+		Assert.assertEquals(6, gate.getRejectedTotal());
+	}
+
+	/**
+	 * Test FlowControlGate#awaitOpen after a rejection
+	 * Expect the waiting command held until the backoff elapsed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testWaitForBackoff() throws InterruptedException {
+		FlowControlGate gate = new FlowControlGate(200, 200);
+		gate.reject();
+
+		long start = System.nanoTime();
+		gate.awaitOpen();
+		Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 150);
+	}
+
+	/**
+	 * Test FlowControlGate#release while a command is waiting
+	 * Expect the waiting command sent before the backoff elapsed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testReleaseWakesWaiter() throws InterruptedException {
+		FlowControlGate gate = new FlowControlGate(60_000, 60_000);
+		gate.reject();
+
+		CountDownLatch opened = new CountDownLatch(1);
+		Thread waiter = new Thread(() -> {
+			try {
+				gate.awaitOpen();
+				opened.countDown();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		waiter.setDaemon(true);
+		waiter.start();
+
+		Assert.assertFalse(opened.await(50, TimeUnit.MILLISECONDS));
+		gate.release();
+		Assert.assertTrue(opened.await(5, TimeUnit.SECONDS));
+	}
+}
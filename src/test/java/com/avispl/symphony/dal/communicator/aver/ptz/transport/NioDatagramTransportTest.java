@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.FakeCamera;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for NIO Datagram Transport
+ * Send packets to a loopback fake camera and receive replies routed by sequence number
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class NioDatagramTransportTest {
+	private FakeCamera fakeCamera;
+	private NioDatagramTransport transport;
+
+	@Before
+	public void setUp() throws Exception {
+		fakeCamera = new FakeCamera();
+		transport = new NioDatagramTransport(new InetSocketAddress(0), fakeCamera.getAddress());
+	}
+
+	@After
+	public void destroy() {
+		transport.close();
+		fakeCamera.close();
+	}
+
+	/**
+	 * Test NioDatagramTransport#receive success
+	 * Expect each request receive the replies carrying its own sequence number, in the order they were sent by the camera
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testReceiveRoutesRepliesBySequenceNumber() throws Exception {
+		byte[] inquiry = buildSendPacket(1, 1, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode());
+		byte[] command = buildSendPacket(1, 2, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode(),
+				PowerStatus.ON.getCode());
+
+		transport.expect(1);
+		transport.expect(2);
+		transport.write(inquiry);
+		transport.write(command);
+
+		Assert.assertArrayEquals(FakeCamera.withSequenceNumber(command, ReplyPacket.ACK.getCode()), transport.receive(2, 1000));
+		Assert.assertArrayEquals(FakeCamera.withSequenceNumber(command, ReplyPacket.COMPLETION.getCode()), transport.receive(2, 1000));
+		Assert.assertArrayEquals(FakeCamera.withSequenceNumber(inquiry, ReplyPacket.POWER_ON.getCode()), transport.receive(1, 1000));
+	}
+
+	/**
+	 * Test NioDatagramTransport#receive throw exception
+	 * Expect SocketTimeoutException when the camera does not reply
+	 */
+	@Test(expected = SocketTimeoutException.class)
+	@Category(MockTest.class)
+	public void testReceiveTimeout() throws Exception {
+		fakeCamera.setReplies(request -> Collections.emptyList());
+		byte[] inquiry = buildSendPacket(1, 3, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode());
+
+		transport.expect(3);
+		transport.write(inquiry);
+		transport.receive(3, 100);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.FakeCamera;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Reply Dispatcher
+ * Route the received datagrams to the request in flight, drop and count the stale and duplicate ones
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class ReplyDispatcherTest {
+
+	/**
+	 * Test ReplyDispatcher#route with requests in flight
+	 * Expect the reply routed to its own request or to another request in flight
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testRouteRequestsInFlight() {
+		ReplyDispatcher replyDispatcher = new ReplyDispatcher(4);
+		replyDispatcher.expect(1);
+		replyDispatcher.expect(2);
+
+		Assert.assertEquals(ReplyDispatcher.Route.OWNER, replyDispatcher.route(reply(1), 1));
+		Assert.assertEquals(ReplyDispatcher.Route.OTHER, replyDispatcher.route(reply(2), 1));
+		Assert.assertEquals(0, replyDispatcher.getDroppedTotal());
+	}
+
+	/**
+	 * Test ReplyDispatcher#route with a late reply of a released request and a malformed datagram
+	 * Expect both dropped and counted, the reply of the next request still routed to it
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDropStaleReplies() {
+		ReplyDispatcher replyDispatcher = new ReplyDispatcher(4);
+		replyDispatcher.expect(1);
+		replyDispatcher.release(1);
+		replyDispatcher.expect(2);
+
+		Assert.assertEquals(ReplyDispatcher.Route.DROPPED, replyDispatcher.route(reply(1), 2));
+		Assert.assertEquals(ReplyDispatcher.Route.DROPPED, replyDispatcher.route(new byte[] { (byte) 0x90, 0x41, (byte) 0xFF }, 2));
+		Assert.assertEquals(ReplyDispatcher.Route.OWNER, replyDispatcher.route(reply(2), 2));
+		Assert.assertEquals(2, replyDispatcher.getDroppedTotal());
+	}
+
+	/**
+	 * Test ReplyDispatcher#expect when the ring is full
+	 * Expect the oldest request evicted, its replies dropped
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testOldestRequestEvicted() {
+		ReplyDispatcher replyDispatcher = new ReplyDispatcher(2);
+		replyDispatcher.expect(1);
+		replyDispatcher.expect(2);
+		replyDispatcher.expect(3);
+
+		Assert.assertEquals(ReplyDispatcher.Route.DROPPED, replyDispatcher.route(reply(1), 3));
+		Assert.assertEquals(ReplyDispatcher.Route.OTHER, replyDispatcher.route(reply(2), 3));
+		Assert.assertEquals(ReplyDispatcher.Route.OWNER, replyDispatcher.route(reply(3), 3));
+	}
+
+	private static byte[] reply(int sequenceNumber) {
+		byte[] inquiry = buildSendPacket(1, sequenceNumber, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.POWER.getCode());
+		return FakeCamera.withSequenceNumber(inquiry, ReplyPacket.POWER_ON.getCode());
+	}
+}
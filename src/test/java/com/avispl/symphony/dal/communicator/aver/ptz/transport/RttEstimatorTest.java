@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for RTT Estimator
+ * Derive the reply timeout from the measured round-trip times within the configured bounds
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class RttEstimatorTest {
+
+	/**
+	 * Test RttEstimator before the first measure
+	 * Expect the maximum timeout
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testMaxTimeoutBeforeFirstSample() {
+		RttEstimator rttEstimator = new RttEstimator(50, 4000);
+		Assert.assertEquals(4000, rttEstimator.getTimeout());
+		Assert.assertTrue(rttEstimator.getSmoothedRtt() < 0);
+	}
+
+	/**
+	 * Test RttEstimator#sample with a WAN camera answering in 300 ms
+	 * Expect SRTT = R, RTTVAR = R / 2 and timeout SRTT + 4 * RTTVAR after the first measure
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testFirstSample() {
+		RttEstimator rttEstimator = new RttEstimator(50, 4000);
+		rttEstimator.sample(300);
+		Assert.assertEquals(300, rttEstimator.getSmoothedRtt(), 0.001);
+		Assert.assertEquals(150, rttEstimator.getRttVariance(), 0.001);
+		Assert.assertEquals(900, rttEstimator.getTimeout());
+	}
+
+	/**
+	 * Test RttEstimator#sample with a LAN camera answering in 2 ms
+	 * Expect timeout converging to the minimum timeout
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testLanCameraConvergesToMinTimeout() {
+		RttEstimator rttEstimator = new RttEstimator(50, 4000);
+		for (int i = 0; i < 20; i++) {
+			rttEstimator.sample(2);
+		}
+		Assert.assertEquals(2, rttEstimator.getSmoothedRtt(), 0.001);
+		Assert.assertEquals(50, rttEstimator.getTimeout());
+	}
+
+	/**
+	 * Test RttEstimator#backOff after timeouts
+	 * Expect timeout doubled up to the maximum timeout
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBackOff() {
+		RttEstimator rttEstimator = new RttEstimator(50, 4000);
+		rttEstimator.sample(300);
+		rttEstimator.backOff();
+		Assert.assertEquals(1800, rttEstimator.getTimeout());
+		rttEstimator.backOff();
+		rttEstimator.backOff();
+		Assert.assertEquals(4000, rttEstimator.getTimeout());
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.aver.ptz.transport;
+
+import static com.avispl.symphony.dal.communicator.aver.ptz.AverPTZUtils.buildSendPacket;
+
+import java.net.InetSocketAddress;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.aver.ptz.FakeCamera;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.ReplyPacket;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.PayloadType;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.aver.ptz.enums.payload.command.CommandType;
+import com.avispl.symphony.dal.communicator.aver.ptz.interfaces.MockTest;
+
+/**
+ * Unit test for Transport Registry
+ * Share one reference-counted transport per camera endpoint between adapters
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class TransportRegistryTest {
+	private FakeCamera fakeCamera;
+	private InetSocketAddress endpoint;
+
+	@Before
+	public void setUp() throws Exception {
+		fakeCamera = new FakeCamera();
+		endpoint = TransportRegistry.endpoint(fakeCamera.getAddress().getHostString(), fakeCamera.getAddress().getPort());
+	}
+
+	@After
+	public void destroy() {
+		fakeCamera.close();
+	}
+
+	/**
+	 * Test TransportRegistry#acquire by two adapters of the same camera
+	 * Expect one transport bound to an ephemeral local port, closed when the last adapter releases it
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTransportSharedAndReferenceCounted() throws Exception {
+		TransportRegistry registry = TransportRegistry.getInstance();
+		NioDatagramTransport first = registry.acquire(endpoint);
+		NioDatagramTransport second = registry.acquire(endpoint);
+
+		Assert.assertSame(first, second);
+		Assert.assertEquals(2, registry.getReferenceCount(endpoint));
+		Assert.assertNotEquals(endpoint.getPort(), first.getLocalPort());
+
+		registry.release(endpoint, first);
+		Assert.assertTrue(second.isOpen());
+		registry.release(endpoint, second);
+		Assert.assertFalse(second.isOpen());
+		Assert.assertEquals(0, registry.getReferenceCount(endpoint));
+	}
+
+	/**
+	 * Test TransportRegistry#nextSequenceNumber by two adapters of the same camera
+	 * Expect distinct sequence numbers, each reply routed to the adapter which sent the request
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testRepliesDemultiplexedBySequenceNumber() throws Exception {
+		TransportRegistry registry = TransportRegistry.getInstance();
+		NioDatagramTransport transport = registry.acquire(endpoint);
+		try {
+			int monitoringSequenceNumber = registry.nextSequenceNumber(endpoint);
+			int controlSequenceNumber = registry.nextSequenceNumber(endpoint);
+			Assert.assertNotEquals(monitoringSequenceNumber, controlSequenceNumber);
+
+			byte[] monitoringInquiry = buildSendPacket(1, monitoringSequenceNumber, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(),
+					Command.POWER.getCode());
+			byte[] controlInquiry = buildSendPacket(1, controlSequenceNumber, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(),
+					Command.POWER.getCode());
+			transport.expect(monitoringSequenceNumber);
+			transport.expect(controlSequenceNumber);
+			transport.write(monitoringInquiry);
+			transport.write(controlInquiry);
+
+			Assert.assertArrayEquals(FakeCamera.withSequenceNumber(controlInquiry, ReplyPacket.POWER_ON.getCode()), transport.receive(controlSequenceNumber, 1000));
+			Assert.assertArrayEquals(FakeCamera.withSequenceNumber(monitoringInquiry, ReplyPacket.POWER_ON.getCode()), transport.receive(monitoringSequenceNumber, 1000));
+		} finally {
+			registry.release(endpoint, transport);
+		}
+	}
+
+	/**
+	 * Test TransportRegistry#getFlowControlGate for two adapters of the same camera
+	 * Expect one gate per endpoint, a camera rejecting one adapter closing the gate of the other
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testFlowControlGateSharedPerEndpoint() {
+		TransportRegistry registry = TransportRegistry.getInstance();
+		FlowControlGate first = registry.getFlowControlGate(endpoint);
+		FlowControlGate second = registry.getFlowControlGate(TransportRegistry.endpoint(endpoint.getHostString(), endpoint.getPort()));
+		FlowControlGate other = registry.getFlowControlGate(TransportRegistry.endpoint(endpoint.getHostString(), endpoint.getPort() + 1));
+
+		Assert.assertSame(first, second);
+		Assert.assertNotSame(first, other);
+		first.reject();
+		Assert.assertFalse(second.isOpen());
+		Assert.assertTrue(other.isOpen());
+		first.release();
+	}
+}